@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli;
+
+import com.liferay.blade.cli.command.BaseArgs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Gregory Amerson
+ */
+public class ArgsNormalizer {
+
+	public static ArgsNormalizer get(Collection<String> commandNames) {
+		Set<String> key = new HashSet<>(commandNames);
+
+		ArgsNormalizer argsNormalizer = _argsNormalizers.get(key);
+
+		if (argsNormalizer == null) {
+			argsNormalizer = new ArgsNormalizer(key);
+
+			_argsNormalizers.put(key, argsNormalizer);
+		}
+
+		return argsNormalizer;
+	}
+
+	public String[] normalize(String[] args) {
+		List<String> commandArgs = new ArrayList<>(args.length);
+		List<String> flagArgs = new ArrayList<>();
+
+		for (int x = 0; x < args.length; x++) {
+			Integer arity = _globalFlagArities.get(args[x]);
+
+			if (arity == null) {
+				commandArgs.add(args[x]);
+
+				continue;
+			}
+
+			flagArgs.add(args[x]);
+
+			if ((arity > 0) && ((x + 1) < args.length)) {
+				flagArgs.add(args[++x]);
+			}
+		}
+
+		List<String> normalizedArgs = new ArrayList<>(args.length);
+
+		for (int x = 0; x < commandArgs.size(); x++) {
+			int length = _matchCommandName(commandArgs, x);
+
+			if (length > 1) {
+				normalizedArgs.add(String.join(" ", commandArgs.subList(x, x + length)));
+
+				x += length - 1;
+			}
+			else {
+				normalizedArgs.add(commandArgs.get(x));
+			}
+		}
+
+		normalizedArgs.addAll(flagArgs);
+
+		return normalizedArgs.toArray(new String[0]);
+	}
+
+	private static Map<String, Integer> _getGlobalFlagArities() {
+		Map<String, Integer> globalFlagArities = new HashMap<>();
+
+		for (String flag : Extensions.getFlags(BaseArgs.class, true)) {
+			globalFlagArities.put(flag, 1);
+		}
+
+		for (String flag : Extensions.getFlags(BaseArgs.class, false)) {
+			globalFlagArities.put(flag, 0);
+		}
+
+		return Collections.unmodifiableMap(globalFlagArities);
+	}
+
+	private ArgsNormalizer(Collection<String> commandNames) {
+		for (String commandName : commandNames) {
+			String[] words = commandName.split(" ");
+
+			if (words.length < 2) {
+				continue;
+			}
+
+			Node node = _root;
+
+			for (String word : words) {
+				node = node._children.computeIfAbsent(word, key -> new Node());
+			}
+
+			node._commandName = true;
+		}
+	}
+
+	private int _matchCommandName(List<String> args, int start) {
+		Node node = _root;
+
+		int length = 0;
+
+		for (int x = start; x < args.size(); x++) {
+			node = node._children.get(args.get(x));
+
+			if (node == null) {
+				break;
+			}
+
+			if (node._commandName) {
+				length = (x - start) + 1;
+			}
+		}
+
+		return length;
+	}
+
+	private static final Map<Set<String>, ArgsNormalizer> _argsNormalizers = new ConcurrentHashMap<>();
+	private static final Map<String, Integer> _globalFlagArities = _getGlobalFlagArities();
+
+	private final Node _root = new Node();
+
+	private static class Node {
+
+		private final Map<String, Node> _children = new HashMap<>();
+		private boolean _commandName;
+
+	}
+
+}
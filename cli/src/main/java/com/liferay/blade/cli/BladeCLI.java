@@ -28,28 +28,26 @@ import com.liferay.blade.cli.command.BaseArgs;
 import com.liferay.blade.cli.command.BaseCommand;
 import com.liferay.blade.cli.command.BladeProfile;
 import com.liferay.blade.cli.command.CommandType;
-import com.liferay.blade.cli.command.UpdateArgs;
-import com.liferay.blade.cli.command.UpdateCommand;
 import com.liferay.blade.cli.command.VersionCommand;
 import com.liferay.blade.cli.command.validator.ParameterDepdendencyValidator;
 import com.liferay.blade.cli.command.validator.ParameterPossibleValues;
 import com.liferay.blade.cli.command.validator.ParameterValidator;
 import com.liferay.blade.cli.command.validator.ValidatorFunctionPredicate;
-import com.liferay.blade.cli.gradle.GradleExecutionException;
+import com.liferay.blade.cli.daemon.BladeDaemonClient;
 import com.liferay.blade.cli.util.BladeUtil;
 import com.liferay.blade.cli.util.CombinedClassLoader;
-import com.liferay.blade.cli.util.FileUtil;
+import com.liferay.blade.cli.util.ForwardingOutputStream;
 import com.liferay.blade.cli.util.Pair;
-import com.liferay.blade.cli.util.ProcessesUtil;
-import com.liferay.blade.cli.util.ProductInfo;
+import com.liferay.blade.cli.util.ProductIndex;
 import com.liferay.blade.cli.util.Prompter;
+import com.liferay.blade.cli.util.StartupProfiler;
+import com.liferay.blade.cli.util.TempDirectory;
 
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.io.PrintStream;
 
 import java.lang.reflect.Constructor;
@@ -57,7 +55,10 @@ import java.lang.reflect.Field;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
@@ -66,7 +67,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Formatter;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -78,6 +78,7 @@ import java.util.Properties;
 import java.util.Scanner;
 import java.util.ServiceLoader;
 import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -97,8 +98,46 @@ import org.fusesource.jansi.AnsiConsole;
  */
 public class BladeCLI {
 
+	/**
+	 * @deprecated As of 4.1.0, replaced by {@link #current()}
+	 */
+	@Deprecated
 	public static BladeCLI instance;
 
+	/**
+	 * Returns the instance that is running a command on the current thread,
+	 * or on the thread that started it.
+	 */
+	public static BladeCLI current() {
+		BladeCLI bladeCLI = _currentBladeCLI.get();
+
+		if (bladeCLI != null) {
+			return bladeCLI;
+		}
+
+		return instance;
+	}
+
+	public static PrintStream currentError() {
+		BladeCLI bladeCLI = current();
+
+		if (bladeCLI != null) {
+			return bladeCLI.error();
+		}
+
+		return System.err;
+	}
+
+	public static PrintStream currentOut() {
+		BladeCLI bladeCLI = current();
+
+		if (bladeCLI != null) {
+			return bladeCLI.out();
+		}
+
+		return System.out;
+	}
+
 	public static Map<String, BaseCommand<? extends BaseArgs>> getCommandMapByClassLoader(
 			String profileName, ClassLoader classLoader)
 		throws IllegalAccessException, InstantiationException {
@@ -138,13 +177,23 @@ public class BladeCLI {
 	}
 
 	public static void main(String[] args) {
+		if (BladeDaemonClient.isEnabled()) {
+			Integer exitCode = BladeDaemonClient.run(args);
+
+			if (exitCode != null) {
+				System.exit(exitCode);
+			}
+		}
+
 		BladeCLI bladeCLI = new BladeCLI();
 
+		instance = bladeCLI;
+
 		try {
 			bladeCLI.run(args);
 		}
-		catch (GradleExecutionException gradleExecutionException) {
-			System.exit(gradleExecutionException.getReturnCode());
+		catch (BladeExecutionException bladeExecutionException) {
+			System.exit(bladeExecutionException.getReturnCode());
 		}
 		catch (Throwable th) {
 			bladeCLI.error("Unexpected error occured.");
@@ -160,15 +209,26 @@ public class BladeCLI {
 	}
 
 	public BladeCLI(PrintStream out, PrintStream error, InputStream in) {
+		this(out, error, in, null);
+	}
+
+	public BladeCLI(
+		PrintStream out, PrintStream error, InputStream in,
+		ExtensionsClassLoaderSupplier extensionsClassLoaderSupplier) {
+
 		AnsiConsole.systemInstall();
 
 		_out = out;
 		_error = error;
 		_in = in;
-		instance = this;
+		_extensionsClassLoaderSupplier = extensionsClassLoaderSupplier;
+
+		_sharedExtensionsClassLoaderSupplier = extensionsClassLoaderSupplier != null;
 	}
 
 	public void addErrors(String prefix, Collection<String> data) {
+		_failed = true;
+
 		PrintStream error = error();
 
 		error.println("Error: " + prefix);
@@ -190,6 +250,8 @@ public class BladeCLI {
 	}
 
 	public void error(Throwable error) {
+		_failed = true;
+
 		error(error.getMessage());
 
 		error.printStackTrace(error());
@@ -221,12 +283,20 @@ public class BladeCLI {
 		if (_extensions == null) {
 			ClassLoader classLoader = _getClassLoader();
 
-			_extensions = new Extensions(classLoader);
+			_extensions = new Extensions(classLoader, _extensionsClassLoaderSupplier.getCommandIndexPath());
 		}
 
 		return _extensions;
 	}
 
+	public ExtensionsClassLoaderSupplier getExtensionsClassLoaderSupplier() {
+		if (_extensionsClassLoaderSupplier == null) {
+			_extensionsClassLoaderSupplier = new ExtensionsClassLoaderSupplier(getExtensionsPath());
+		}
+
+		return _extensionsClassLoaderSupplier;
+	}
+
 	public Path getExtensionsPath() {
 		Path userBladePath = getUserBladePath();
 
@@ -267,6 +337,14 @@ public class BladeCLI {
 		return userBladePath;
 	}
 
+	public File getWorkingDir() {
+		if (_workingDir != null) {
+			return _workingDir;
+		}
+
+		return new File(System.getProperty("user.dir"));
+	}
+
 	public WorkspaceProvider getWorkspaceProvider(File dir) {
 		try {
 			Collection<WorkspaceProvider> providers = _getWorkspaceProviders();
@@ -295,6 +373,14 @@ public class BladeCLI {
 		return _in;
 	}
 
+	/**
+	 * Returns whether the last run reported an error without throwing, such as
+	 * an unknown command or invalid parameters.
+	 */
+	public boolean isFailed() {
+		return _failed;
+	}
+
 	public boolean isWorkspace() {
 		BaseArgs baseArgs = getArgs();
 
@@ -338,14 +424,27 @@ public class BladeCLI {
 	public void postRunCommand() {
 		if (_shouldCheckForUpdates()) {
 			try {
-				_writeLastUpdateCheck();
-
 				_printUpdateIfAvailable();
+
+				if (_isUpdateCheckDue()) {
+					_writeLastUpdateCheck();
+
+					UpdateCheck.start(_getUpdateCheckPath());
+				}
 			}
 			catch (IOException ioException) {
 				error(ioException);
 			}
 		}
+
+		try {
+			if (ClassDataSharing.isStale()) {
+				ClassDataSharing.start();
+			}
+		}
+		catch (Exception exception) {
+			error("Unable to regenerate the class data sharing archive: " + exception.getMessage());
+		}
 	}
 
 	public void printUsage() {
@@ -361,8 +460,10 @@ public class BladeCLI {
 
 		jCommander.setProgramName("blade");
 
-		for (String command : _commands.keySet()) {
-			BaseCommand<? extends BaseArgs> baseCommand = _commands.get(command);
+		Map<String, BaseCommand<? extends BaseArgs>> commands = _getAllCommands();
+
+		for (String command : commands.keySet()) {
+			BaseCommand<? extends BaseArgs> baseCommand = commands.get(command);
 
 			BaseArgs baseArgs = baseCommand.getArgs();
 
@@ -407,34 +508,58 @@ public class BladeCLI {
 	}
 
 	public void printUsage(String command) {
-		_jCommander.usage(command);
+		JCommander jCommander = _getUsageJCommander(command);
+
+		StringBuilder sb = new StringBuilder();
+
+		jCommander.usage(command, sb);
+
+		out(sb.toString());
 	}
 
 	public void printUsage(String command, String message) {
 		out(message);
 
-		_jCommander.usage(command);
+		printUsage(command);
 	}
 
 	public void run(String[] args) throws Exception {
+		BladeCLI previousBladeCLI = _currentBladeCLI.get();
+
+		_currentBladeCLI.set(this);
+
+		_installSystemStreams();
+
+		_failed = false;
+
+		_startupProfiler = new StartupProfiler();
+
+		args = _extractProfileStartup(args);
+
 		try {
 			_removeOutDatedTempDir();
 
+			_startupProfiler.mark("tempCleanup");
+
 			Extensions extensions = getExtensions();
 
+			_startupProfiler.mark("extensions");
+
 			String basePath = _extractBasePath(args);
 
 			String profileName = _extractProfileName(args);
 
 			File baseDir = new File(basePath);
 
+			if (!baseDir.isAbsolute()) {
+				baseDir = new File(getWorkingDir(), basePath);
+			}
+
 			baseDir = baseDir.getAbsoluteFile();
 
 			_args.setBase(baseDir);
 
-			System.setOut(out());
-
-			System.setErr(error());
+			_startupProfiler.mark("baseAndProfile");
 
 			BladeSettings bladeSettings = getBladeSettings();
 
@@ -446,11 +571,28 @@ public class BladeCLI {
 				bladeSettings.migrateWorkspaceIfNecessary(this);
 			}
 
-			_commands = extensions.getCommands(bladeSettings.getProfileName());
+			_commandsProfileName = bladeSettings.getProfileName();
+
+			_startupProfiler.mark("settings");
+
+			if (extensions.getCommandName(_commandsProfileName, args) != null) {
+				_commands = extensions.getCommands(_commandsProfileName, args);
+			}
+			else {
+				_commands = Collections.emptyMap();
+			}
+
+			_startupProfiler.mark("commands");
+
+			ArgsNormalizer argsNormalizer = ArgsNormalizer.get(extensions.getCommandNames(_commandsProfileName));
 
-			args = Extensions.sortArgs(_commands, args);
+			args = argsNormalizer.normalize(args);
 
-			_jCommander = _buildJCommanderWithCommandMap(args, _commands);
+			_startupProfiler.mark("sortArgs");
+
+			_jCommander = _buildJCommander(args);
+
+			_startupProfiler.mark("jcommander");
 
 			if ((args.length == 1) && args[0].equals("--help")) {
 				printUsage();
@@ -480,11 +622,13 @@ public class BladeCLI {
 
 					JCommander jCommander = jCommands.get(command);
 
-					if (jCommander != null) {
+					if ((jCommander != null) && _commands.containsKey(command)) {
 						List<Object> objects = jCommander.getObjects();
 
 						Object commandArgs = objects.get(0);
 
+						_resolveRelativeFiles(commandArgs);
+
 						_validateParameters((BaseArgs)commandArgs);
 
 						String parameterMessage = null;
@@ -496,8 +640,9 @@ public class BladeCLI {
 								parameterMessage.contains(_MESSAGE_OPTIONS_ARE_REQUIRED) ||
 								parameterMessage.contains(_MESSAGE_OPTION_IS_REQUIRED)) {
 
-								System.out.println(
-									"Error: The command " + command + " is missing required parameters.");
+								_failed = true;
+
+								out("Error: The command " + command + " is missing required parameters.");
 							}
 							else {
 								throw parameterException1;
@@ -514,10 +659,16 @@ public class BladeCLI {
 
 							_args.setBase(baseDir);
 
+							_startupProfiler.mark("parse");
+
 							try {
 								runCommand();
 
+								_startupProfiler.mark("execute");
+
 								postRunCommand();
+
+								_startupProfiler.mark("postRunCommand");
 							}
 							catch (ParameterException parameterException2) {
 								parameterException1 = parameterException2;
@@ -562,7 +713,7 @@ public class BladeCLI {
 
 								args = fixedArgs.toArray(new String[0]);
 
-								args = Extensions.sortArgs(_commands, args);
+								args = argsNormalizer.normalize(args);
 							}
 							else if (parameterMessage.contains("Main parameters are required")) {
 								String value = _promptForMissingParameter(
@@ -572,7 +723,7 @@ public class BladeCLI {
 
 								args = fixedArgs.toArray(new String[0]);
 
-								args = Extensions.sortArgs(_commands, args);
+								args = argsNormalizer.normalize(args);
 							}
 							else {
 								throw parameterException1;
@@ -581,7 +732,7 @@ public class BladeCLI {
 							try {
 								parameterException1 = null;
 
-								_jCommander = _buildJCommanderWithCommandMap(args, _commands);
+								_jCommander = _buildJCommander(args);
 
 								_jCommander.parse(args);
 							}
@@ -605,6 +756,8 @@ public class BladeCLI {
 
 							commandArgs = objects.get(0);
 
+							_resolveRelativeFiles(commandArgs);
+
 							if (parameterException1 == null) {
 								_command = command;
 
@@ -628,10 +781,16 @@ public class BladeCLI {
 						}
 					}
 					else {
+						if (parameterException1 != null) {
+							_failed = true;
+						}
+
 						printUsage();
 					}
 				}
 				catch (MissingCommandException missingCommandException) {
+					_failed = true;
+
 					error("Error");
 
 					StringBuilder stringBuilder = new StringBuilder("0. No such command");
@@ -645,24 +804,32 @@ public class BladeCLI {
 					printUsage();
 				}
 				catch (ParameterException parameterException) {
+					_failed = true;
+
 					error(_jCommander.getParsedCommand() + ": " + parameterException.getMessage());
 				}
 			}
 		}
-		catch (GradleExecutionException gradleExecutionException) {
-			throw gradleExecutionException;
+		catch (BladeExecutionException bladeExecutionException) {
+			throw bladeExecutionException;
 		}
 		catch (Throwable throwable) {
 			error(throwable);
 		}
 		finally {
-			if (_extensionsClassLoaderSupplier != null) {
+			if ((_extensionsClassLoaderSupplier != null) && !_sharedExtensionsClassLoaderSupplier) {
 				_extensionsClassLoaderSupplier.close();
 			}
 
 			if (_extensions != null) {
 				_extensions.close();
 			}
+
+			if (_profileStartup != null) {
+				_writeStartupProfile();
+			}
+
+			_currentBladeCLI.set(previousBladeCLI);
 		}
 	}
 
@@ -680,15 +847,25 @@ public class BladeCLI {
 				_runCommand();
 			}
 			else {
-				_jCommander.usage();
+				StringBuilder sb = new StringBuilder();
+
+				_jCommander.usage(sb);
+
+				out(sb.toString());
 			}
 		}
 	}
 
+	public void setWorkingDir(File workingDir) {
+		_workingDir = workingDir;
+	}
+
 	public void trace(String s, Object... args) {
-		if (_args.isTrace() && (_tracer != null)) {
-			_tracer.format("# " + s + "%n", args);
-			_tracer.flush();
+		if (_args.isTrace()) {
+			PrintStream out = out();
+
+			out.format("# " + s + "%n", args);
+			out.flush();
 		}
 	}
 
@@ -750,9 +927,11 @@ public class BladeCLI {
 				allCommands.add(baseCommand);
 			}
 			catch (Throwable throwable) {
+				PrintStream error = currentError();
+
 				Class<?> throwableClass = throwable.getClass();
 
-				System.err.println(
+				error.println(
 					"Exception thrown while loading extension." + System.lineSeparator() + "Exception: " +
 						throwableClass.getName() + ": " + throwable.getMessage() + System.lineSeparator());
 
@@ -761,7 +940,7 @@ public class BladeCLI {
 				if (cause != null) {
 					Class<?> throwableCauseClass = cause.getClass();
 
-					System.err.print(
+					error.print(
 						throwableCauseClass.getName() + ": " + cause.getMessage() + System.lineSeparator());
 				}
 			}
@@ -770,6 +949,57 @@ public class BladeCLI {
 		return allCommands;
 	}
 
+	private static PrintStream _getCurrentStream(Function<BladeCLI, PrintStream> function, PrintStream systemStream) {
+		BladeCLI bladeCLI = current();
+
+		if (bladeCLI == null) {
+			return systemStream;
+		}
+
+		PrintStream printStream = function.apply(bladeCLI);
+
+		if ((printStream == _forwardingError) || (printStream == _forwardingOut)) {
+			return systemStream;
+		}
+
+		return printStream;
+	}
+
+	private static synchronized void _installSystemStreams() {
+		if (_forwardingOut != null) {
+			return;
+		}
+
+		PrintStream systemError = System.err;
+		PrintStream systemOut = System.out;
+
+		_forwardingError = new PrintStream(
+			new ForwardingOutputStream(() -> _getCurrentStream(BladeCLI::error, systemError)), true);
+		_forwardingOut = new PrintStream(
+			new ForwardingOutputStream(() -> _getCurrentStream(BladeCLI::out, systemOut)), true);
+
+		System.setErr(_forwardingError);
+		System.setOut(_forwardingOut);
+	}
+
+	private JCommander _buildJCommander(String[] args) throws Exception {
+		if (!_commands.isEmpty()) {
+			return _buildJCommanderWithCommandMap(args, _commands);
+		}
+
+		JCommander.Builder builder = JCommander.newBuilder();
+
+		builder.programName("blade");
+
+		Extensions extensions = getExtensions();
+
+		for (String commandName : extensions.getCommandNames(_commandsProfileName)) {
+			builder.addCommand(commandName, new Object());
+		}
+
+		return builder.build();
+	}
+
 	private JCommander _buildJCommanderWithCommandMap(
 		String[] args, Map<String, BaseCommand<? extends BaseArgs>> commandMap) {
 
@@ -784,7 +1014,7 @@ public class BladeCLI {
 				builder.addCommand(entry.getKey(), value.getArgs());
 			}
 			catch (ParameterException parameterException) {
-				System.err.println(parameterException.getMessage());
+				error(parameterException.getMessage());
 			}
 		}
 
@@ -859,7 +1089,6 @@ public class BladeCLI {
 		return build;
 	}
 
-	@SuppressWarnings("unchecked")
 	private Map<String, String> _buildMavenPossibleValuesMap(
 		Class<? extends Supplier<List<String>>> supplierValidator) {
 
@@ -873,16 +1102,16 @@ public class BladeCLI {
 
 			Iterator<String> it = options.iterator();
 
-			Map<String, Object> productInfos = BladeUtil.getProductInfos(true, error());
+			ProductIndex productIndex = BladeUtil.getProductIndex(true, error());
 
 			Map<String, String> optionsMap = new LinkedHashMap<>();
 
 			for (int x = 1; it.hasNext(); x++) {
 				String option = it.next();
 
-				ProductInfo productInfo = new ProductInfo((Map<String, String>)productInfos.get(option));
+				Optional<String> targetPlatformVersion = productIndex.getTargetPlatformVersion(option);
 
-				optionsMap.put(String.valueOf(x), productInfo.getTargetPlatformVersion());
+				optionsMap.put(String.valueOf(x), targetPlatformVersion.orElse(""));
 			}
 
 			return optionsMap;
@@ -961,12 +1190,74 @@ public class BladeCLI {
 		return null;
 	}
 
+	private String[] _extractProfileStartup(String[] args) {
+		Collection<String> flagsWithArgs = Extensions.getFlags(BaseArgs.class, true);
+
+		List<String> argsList = new ArrayList<>();
+
+		for (int x = 0; x < args.length; x++) {
+			String arg = args[x];
+
+			if (!arg.startsWith("-")) {
+
+				// Everything from the command name on belongs to the command
+
+				argsList.addAll(Arrays.asList(args).subList(x, args.length));
+
+				break;
+			}
+
+			if (arg.equals("--profile-startup")) {
+				_profileStartup = "";
+			}
+			else if (arg.startsWith("--profile-startup=")) {
+				_profileStartup = arg.substring("--profile-startup=".length());
+			}
+			else {
+				argsList.add(arg);
+
+				if (flagsWithArgs.contains(arg) && ((x + 1) < args.length)) {
+					x++;
+
+					argsList.add(args[x]);
+				}
+			}
+		}
+
+		return argsList.toArray(new String[0]);
+	}
+
+	private Map<String, BaseCommand<? extends BaseArgs>> _getAllCommands() {
+		try {
+			Extensions extensions = getExtensions();
+
+			return extensions.getCommands(_commandsProfileName);
+		}
+		catch (Exception exception) {
+			throw new RuntimeException(exception);
+		}
+	}
+
 	private ClassLoader _getClassLoader() {
-		if (_extensionsClassLoaderSupplier == null) {
-			_extensionsClassLoaderSupplier = new ExtensionsClassLoaderSupplier(getExtensionsPath());
+		ExtensionsClassLoaderSupplier extensionsClassLoaderSupplier = getExtensionsClassLoaderSupplier();
+
+		return extensionsClassLoaderSupplier.get();
+	}
+
+	private ClassLoader _getCombinedClassLoader(ClassLoader currentClassLoader, ClassLoader commandClassLoader) {
+		if ((commandClassLoader == null) || (commandClassLoader == currentClassLoader)) {
+			return currentClassLoader;
 		}
 
-		return _extensionsClassLoaderSupplier.get();
+		if (commandClassLoader instanceof CombinedClassLoader) {
+			CombinedClassLoader combinedClassLoader = (CombinedClassLoader)commandClassLoader;
+
+			if (combinedClassLoader.contains(currentClassLoader)) {
+				return combinedClassLoader;
+			}
+		}
+
+		return new CombinedClassLoader(currentClassLoader, commandClassLoader);
 	}
 
 	private String _getCommandProfile(String[] args) throws MissingCommandException {
@@ -1135,51 +1426,26 @@ public class BladeCLI {
 		return userBladePath.resolve("updateCheck.properties");
 	}
 
-	private Optional<String> _getUpdateVersionIfAvailable(boolean snapshots) {
-		UpdateArgs updateArgs = new UpdateArgs();
-
-		updateArgs.setCheckOnly(true);
-
-		UpdateCommand updateCommand = new UpdateCommand();
-
-		updateCommand.setArgs(updateArgs);
-
-		updateCommand.setBlade(this);
-
-		StringPrintStream stdOut = StringPrintStream.newInstance();
-
-		PrintStream currentStdOut = System.out;
-
-		try {
-			System.setOut(stdOut);
-
-			_out = System.out;
-
-			updateCommand.execute();
+	private JCommander _getUsageJCommander(String command) {
+		if ((_jCommander != null) && (_commands != null) && _commands.containsKey(command)) {
+			return _jCommander;
 		}
-		finally {
-			System.setOut(currentStdOut);
 
-			_out = System.out;
-		}
+		try {
+			Extensions extensions = getExtensions();
 
-		if (snapshots) {
-			Optional<String> snapshotUpdateVersionOpt = updateCommand.getSnapshotUpdateVersion();
+			String[] args = command.split(" ");
 
-			if (!snapshotUpdateVersionOpt.isPresent()) {
-				return Optional.empty();
+			if (Objects.equals(command, extensions.getCommandName(_commandsProfileName, args))) {
+				return _buildJCommanderWithCommandMap(
+					new String[0], extensions.getCommands(_commandsProfileName, args));
 			}
-
-			String snapshotUpdateVersion = snapshotUpdateVersionOpt.get();
-
-			snapshotUpdateVersion = snapshotUpdateVersion.substring(0, 14) + snapshotUpdateVersion.substring(15, 19);
-
-			snapshotUpdateVersion = snapshotUpdateVersion.replace('-', '.');
-
-			return Optional.of(snapshotUpdateVersion.trim());
+		}
+		catch (Exception exception) {
+			throw new RuntimeException(exception);
 		}
 
-		return updateCommand.getReleaseUpdateVersion();
+		return _buildJCommanderWithCommandMap(new String[0], _getAllCommands());
 	}
 
 	private Collection<WorkspaceProvider> _getWorkspaceProviders() throws Exception {
@@ -1200,7 +1466,9 @@ public class BladeCLI {
 				catch (Throwable throwable) {
 					Class<?> throwableClass = throwable.getClass();
 
-					System.err.println(
+					PrintStream error = error();
+
+					error.println(
 						"Exception thrown while loading WorkspaceProvider." + System.lineSeparator() + "Exception: " +
 							throwableClass.getName() + ": " + throwable.getMessage());
 
@@ -1209,7 +1477,7 @@ public class BladeCLI {
 					if (cause != null) {
 						Class<?> throwableCauseClass = cause.getClass();
 
-						System.err.print(throwableCauseClass.getName() + ": " + cause.getMessage());
+						error.print(throwableCauseClass.getName() + ": " + cause.getMessage());
 					}
 				}
 			}
@@ -1220,6 +1488,30 @@ public class BladeCLI {
 		return _workspaceProviders;
 	}
 
+	private boolean _isUpdateCheckDue() {
+		try {
+			Properties properties = UpdateCheck.read(_getUpdateCheckPath());
+
+			String lastUpdateCheckValue = properties.getProperty(UpdateCheck.LAST_UPDATE_CHECK_KEY);
+
+			if (lastUpdateCheckValue == null) {
+				return true;
+			}
+
+			Instant lastUpdateCheck = Instant.ofEpochMilli(Long.parseLong(lastUpdateCheckValue));
+
+			Instant now = Instant.now();
+
+			Instant yesterday = now.minus(1, ChronoUnit.DAYS);
+
+			return yesterday.isAfter(lastUpdateCheck);
+		}
+		catch (Exception exception) {
+		}
+
+		return false;
+	}
+
 	private void _migrateBladeSettingsFile(File settingsFile) throws IOException {
 		Path settingsPath = settingsFile.toPath();
 
@@ -1241,10 +1533,27 @@ public class BladeCLI {
 	}
 
 	private void _printUpdateIfAvailable() throws IOException {
-		Optional<String> releaseUpdateVersion = _getUpdateVersionIfAvailable(false);
+		Path updateCheckPath = _getUpdateCheckPath();
+
+		Properties properties = UpdateCheck.read(updateCheckPath);
+
+		if (Boolean.parseBoolean(properties.getProperty(UpdateCheck.NOTIFIED_KEY, "true"))) {
+			return;
+		}
 
 		String currentVersion = VersionCommand.getBladeCLIVersion();
 
+		if (!Objects.equals(currentVersion, properties.getProperty(UpdateCheck.CURRENT_VERSION_KEY))) {
+			return;
+		}
+
+		properties.setProperty(UpdateCheck.NOTIFIED_KEY, String.valueOf(true));
+
+		UpdateCheck.write(updateCheckPath, properties);
+
+		Optional<String> releaseUpdateVersion = Optional.ofNullable(
+			properties.getProperty(UpdateCheck.RELEASE_UPDATE_VERSION_KEY));
+
 		boolean currentVersionIsSnapshot = currentVersion.contains("SNAPSHOT");
 
 		currentVersion = currentVersion.replace("SNAPSHOT", "");
@@ -1254,12 +1563,13 @@ public class BladeCLI {
 		}
 
 		if (currentVersionIsSnapshot) {
-			Optional<String> snapshotUpdateVersion = _getUpdateVersionIfAvailable(true);
+			Optional<String> snapshotUpdateVersion = Optional.ofNullable(
+				properties.getProperty(UpdateCheck.SNAPSHOT_UPDATE_VERSION_KEY));
 
 			if (releaseUpdateVersion.isPresent() && snapshotUpdateVersion.isPresent()) {
 				out("Updates available to the installed version: " + currentVersion);
-				out("-> (Snapshot) " + snapshotUpdateVersion + "\t Run `blade update` to install");
-				out("-> (Release) " + releaseUpdateVersion + "\t\t\t Run `blade update -r` to install");
+				out("-> (Snapshot) " + snapshotUpdateVersion.get() + "\t Run `blade update` to install");
+				out("-> (Release) " + releaseUpdateVersion.get() + "\t\t\t Run `blade update -r` to install");
 			}
 			else if (snapshotUpdateVersion.isPresent()) {
 				out("Update available " + currentVersion + " -> " + snapshotUpdateVersion.get());
@@ -1358,7 +1668,7 @@ public class BladeCLI {
 			while (!optionsMap.containsKey(value) && !optionsMap.containsValue(value) &&
 				   !Objects.equals(value, "more")) {
 
-				System.out.println("Please enter a valid value for " + missingParametersFormatted);
+				printStream.println("Please enter a valid value for " + missingParametersFormatted);
 
 				value = Prompter.promptString("", reader, printStream);
 			}
@@ -1380,44 +1690,43 @@ public class BladeCLI {
 	}
 
 	private void _removeOutDatedTempDir() {
-		List<Long> processIdList = ProcessesUtil.getAllProcessIds();
+		Path bladeCachePath = BladeUtil.getBladeCachePath();
 
-		String tmpdir = System.getProperty("java.io.tmpdir");
+		Path tempCleanupPath = bladeCachePath.resolve(".temp-cleanup");
 
-		File tmpFile = new File(tmpdir);
+		try {
+			Instant now = Instant.now();
 
-		Thread thread = new Thread() {
+			if (Files.exists(tempCleanupPath)) {
+				FileTime lastModifiedTime = Files.getLastModifiedTime(tempCleanupPath);
 
-			@Override
-			public void run() {
-				try {
-					Stream.of(
-						tmpFile.listFiles()
-					).filter(
-						file -> {
-							String fileName = file.getName();
+				Instant lastCleanup = lastModifiedTime.toInstant();
 
-							if (fileName.startsWith(Extensions.TEMP_EXTENSIONS_PREFIX) ||
-								fileName.startsWith(Extensions.TEMP_TEMPLATES_PREFIX)) {
+				if (lastCleanup.isAfter(now.minus(_TEMP_CLEANUP_INTERVAL))) {
+					return;
+				}
+			}
+			else {
+				Files.createDirectories(bladeCachePath);
 
-								String[] segments = fileName.split("-");
+				Files.createFile(tempCleanupPath);
+			}
 
-								String pid = segments[2];
+			Files.setLastModifiedTime(tempCleanupPath, FileTime.from(now));
+		}
+		catch (IOException ioException) {
+			return;
+		}
 
-								return !processIdList.contains(Long.parseLong(pid));
-							}
+		Path tempPath = Paths.get(System.getProperty("java.io.tmpdir"));
 
-							return false;
-						}
-					).forEach(
-						file -> {
-							try {
-								FileUtil.deleteDirIfExists(file.toPath());
-							}
-							catch (Exception exception) {
-							}
-						}
-					);
+		Thread thread = new Thread() {
+
+			@Override
+			public void run() {
+				try {
+					TempDirectory.deleteAbandoned(
+						tempPath, Extensions.TEMP_EXTENSIONS_PREFIX, Extensions.TEMP_TEMPLATES_PREFIX);
 				}
 				catch (Exception exception) {
 				}
@@ -1428,6 +1737,28 @@ public class BladeCLI {
 		thread.start();
 	}
 
+	private void _resolveRelativeFiles(Object commandArgs) throws IllegalAccessException {
+		if (_workingDir == null) {
+			return;
+		}
+
+		for (Class<?> clazz = commandArgs.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+			for (Field field : clazz.getDeclaredFields()) {
+				if ((field.getType() != File.class) || !field.isAnnotationPresent(Parameter.class)) {
+					continue;
+				}
+
+				field.setAccessible(true);
+
+				File file = (File)field.get(commandArgs);
+
+				if ((file != null) && !file.isAbsolute()) {
+					field.set(commandArgs, new File(_workingDir, file.getPath()));
+				}
+			}
+		}
+	}
+
 	private void _runCommand() throws Exception {
 		BaseCommand<?> command = null;
 
@@ -1445,7 +1776,7 @@ public class BladeCLI {
 
 			ClassLoader currentClassLoader = thread.getContextClassLoader();
 
-			ClassLoader combinedClassLoader = new CombinedClassLoader(currentClassLoader, command.getClassLoader());
+			ClassLoader combinedClassLoader = _getCombinedClassLoader(currentClassLoader, command.getClassLoader());
 
 			try {
 				thread.setContextClassLoader(combinedClassLoader);
@@ -1478,44 +1809,13 @@ public class BladeCLI {
 	}
 
 	private boolean _shouldCheckForUpdates() {
-		try {
-			if (_command.contains("update")) {
-				return false;
-			}
-
-			BaseArgs baseArgs = getArgs();
-
-			if (baseArgs.isQuiet()) {
-				return false;
-			}
-
-			Path updateCheckPath = _getUpdateCheckPath();
-
-			if (!Files.exists(updateCheckPath)) {
-				return true;
-			}
-
-			Properties properties = new Properties();
-
-			try (InputStream inputStream = Files.newInputStream(updateCheckPath)) {
-				properties.load(inputStream);
-			}
-
-			Instant lastUpdateCheck = Instant.ofEpochMilli(
-				Long.parseLong(properties.getProperty(_LAST_UPDATE_CHECK_KEY)));
-
-			Instant now = Instant.now();
-
-			Instant yesterday = now.minus(1, ChronoUnit.DAYS);
-
-			if (yesterday.isAfter(lastUpdateCheck)) {
-				return true;
-			}
-		}
-		catch (Exception exception) {
+		if ((_command == null) || _command.contains("update")) {
+			return false;
 		}
 
-		return false;
+		BaseArgs baseArgs = getArgs();
+
+		return !baseArgs.isQuiet();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -1622,40 +1922,67 @@ public class BladeCLI {
 	private void _writeLastUpdateCheck() throws IOException {
 		Path updateCheckPath = _getUpdateCheckPath();
 
-		Properties properties = new Properties();
+		Properties properties = UpdateCheck.read(updateCheckPath);
 
 		Instant now = Instant.now();
 
-		properties.put(_LAST_UPDATE_CHECK_KEY, String.valueOf(now.toEpochMilli()));
+		properties.setProperty(UpdateCheck.LAST_UPDATE_CHECK_KEY, String.valueOf(now.toEpochMilli()));
 
-		try (OutputStream outputStream = Files.newOutputStream(updateCheckPath)) {
-			properties.store(outputStream, null);
+		UpdateCheck.write(updateCheckPath, properties);
+	}
+
+	private void _writeStartupProfile() {
+		try {
+			if (_profileStartup.isEmpty()) {
+				_startupProfiler.write(error());
+
+				return;
+			}
+
+			File profileFile = new File(_profileStartup);
+
+			if (!profileFile.isAbsolute()) {
+				profileFile = new File(_args.getBase(), _profileStartup);
+			}
+
+			_startupProfiler.write(profileFile.toPath());
+		}
+		catch (IOException ioException) {
+			error(ioException);
 		}
 	}
 
 	private static final String _BLADE_PROPERTIES = ".blade.properties";
 
-	private static final String _LAST_UPDATE_CHECK_KEY = "lastUpdateCheck";
-
 	private static final String _MESSAGE_OPTION_IS_REQUIRED = "The following option is required: ";
 
 	private static final String _MESSAGE_OPTIONS_ARE_REQUIRED = "The following options are required: ";
 
+	private static final Duration _TEMP_CLEANUP_INTERVAL = Duration.ofHours(1);
+
 	private static final File _USER_HOME_DIR = new File(System.getProperty("user.home"));
 
+	private static final ThreadLocal<BladeCLI> _currentBladeCLI = new InheritableThreadLocal<>();
 	private static final Pattern _parameterDescriptionPattern = Pattern.compile("(.*]) (.*)");
-	private static final Formatter _tracer = new Formatter(System.out);
+	private static volatile PrintStream _forwardingError;
+	private static volatile PrintStream _forwardingOut;
 
 	private BaseArgs _args = new BaseArgs();
 	private BaseCommand<?> _baseCommand;
 	private String _command;
 	private Map<String, BaseCommand<? extends BaseArgs>> _commands;
+	private String _commandsProfileName;
 	private final PrintStream _error;
 	private Extensions _extensions;
 	private ExtensionsClassLoaderSupplier _extensionsClassLoaderSupplier;
+	private volatile boolean _failed;
 	private final InputStream _in;
 	private JCommander _jCommander;
 	private PrintStream _out;
+	private String _profileStartup;
+	private final boolean _sharedExtensionsClassLoaderSupplier;
+	private StartupProfiler _startupProfiler;
+	private File _workingDir;
 	private Collection<WorkspaceProvider> _workspaceProviders = null;
 
 }
\ No newline at end of file
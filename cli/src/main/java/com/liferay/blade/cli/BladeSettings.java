@@ -34,6 +34,8 @@ import java.util.Properties;
  */
 public class BladeSettings {
 
+	public static final int DEFAULT_GRADLE_OUTPUT_LIMIT = 1024;
+
 	public BladeSettings(File settingsFile) throws IOException {
 		_settingsFile = settingsFile;
 
@@ -42,6 +44,24 @@ public class BladeSettings {
 		}
 	}
 
+	public String getGradleExecutor() {
+		return _properties.getProperty("gradle.executor", "auto");
+	}
+
+	public int getGradleOutputLimit() {
+		String gradleOutputLimit = _properties.getProperty("gradle.output.limit");
+
+		if (gradleOutputLimit != null) {
+			try {
+				return Integer.parseInt(gradleOutputLimit.trim());
+			}
+			catch (NumberFormatException numberFormatException) {
+			}
+		}
+
+		return DEFAULT_GRADLE_OUTPUT_LIMIT;
+	}
+
 	public String getLiferayVersionDefault() {
 		if (_properties.getProperty("liferay.version.default") != null) {
 			return _properties.getProperty("liferay.version.default");
@@ -127,6 +147,14 @@ public class BladeSettings {
 		}
 	}
 
+	public void setGradleExecutor(String gradleExecutor) {
+		_properties.setProperty("gradle.executor", gradleExecutor);
+	}
+
+	public void setGradleOutputLimit(int gradleOutputLimit) {
+		_properties.setProperty("gradle.output.limit", String.valueOf(gradleOutputLimit));
+	}
+
 	public void setLiferayVersionDefault(String liferayVersion) {
 		_properties.setProperty("liferay.version.default", liferayVersion);
 	}
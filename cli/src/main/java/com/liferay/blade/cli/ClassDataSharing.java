@@ -0,0 +1,362 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli;
+
+import com.liferay.blade.cli.util.BladeUtil;
+import com.liferay.blade.cli.util.ResourceCache;
+import com.liferay.blade.cli.util.TempDirectory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import java.security.MessageDigest;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * @author Gregory Amerson
+ */
+public class ClassDataSharing {
+
+	public static void generate() throws Exception {
+		Path archivePath = getArchivePath();
+
+		Path cdsPath = archivePath.getParent();
+
+		Files.createDirectories(cdsPath);
+
+		try (FileChannel fileChannel = FileChannel.open(
+				cdsPath.resolve(_LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			FileLock fileLock = fileChannel.tryLock()) {
+
+			if (fileLock == null) {
+				throw new IOException("The class data sharing archive is already being generated.");
+			}
+
+			String fingerprint = _getFingerprint();
+
+			try (TempDirectory tempDirectory = TempDirectory.create(cdsPath, "blade-cds-")) {
+				Path tempPath = tempDirectory.getPath();
+
+				Path batchPath = tempPath.resolve("training.txt");
+
+				Files.write(batchPath, Arrays.asList(_TRAINING_COMMAND_LINES));
+
+				Path tempArchivePath = tempPath.resolve(_ARCHIVE_FILE_NAME);
+
+				List<String> command = new ArrayList<>();
+
+				command.add(_getJavaPath());
+				command.add("-XX:ArchiveClassesAtExit=" + tempArchivePath);
+				command.add("-D" + _TRAINING_PROPERTY + "=true");
+				command.add("-cp");
+				command.add(String.valueOf(BladeUtil.getBladeJarPath()));
+				command.add(BladeCLI.class.getName());
+				command.add("--base");
+				command.add(String.valueOf(tempPath));
+				command.add("batch");
+				command.add(String.valueOf(batchPath));
+
+				ProcessBuilder processBuilder = new ProcessBuilder(command);
+
+				Map<String, String> environment = processBuilder.environment();
+
+				environment.remove("BLADE_DAEMON");
+
+				Path logPath = cdsPath.resolve("blade.log");
+
+				processBuilder.directory(tempPath.toFile());
+				processBuilder.redirectErrorStream(true);
+				processBuilder.redirectInput(ProcessBuilder.Redirect.from(_NULL_FILE));
+				processBuilder.redirectOutput(ProcessBuilder.Redirect.to(logPath.toFile()));
+
+				Process process = processBuilder.start();
+
+				process.waitFor();
+
+				if (Files.notExists(tempArchivePath)) {
+					throw new IOException("Unable to generate the class data sharing archive, see " + logPath);
+				}
+
+				Files.move(
+					tempArchivePath, archivePath, StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (Exception exception) {
+				_recordFailure(fingerprint);
+
+				throw exception;
+			}
+
+			Properties properties = new Properties();
+
+			properties.setProperty(_FINGERPRINT_KEY, fingerprint);
+
+			_writeProperties(properties);
+		}
+	}
+
+	public static Path getArchivePath() {
+		Path bladeCachePath = BladeUtil.getBladeCachePath();
+
+		return bladeCachePath.resolve("cds/" + _ARCHIVE_FILE_NAME);
+	}
+
+	public static List<String> getJvmArguments() {
+		try {
+			if (isSupported() && isCurrent()) {
+				return Collections.singletonList("-XX:SharedArchiveFile=" + getArchivePath());
+			}
+		}
+		catch (Exception exception) {
+		}
+
+		return Collections.emptyList();
+	}
+
+	public static boolean isCurrent() throws Exception {
+		if (Files.notExists(getArchivePath())) {
+			return false;
+		}
+
+		Properties properties = _readProperties();
+
+		return Objects.equals(properties.getProperty(_FINGERPRINT_KEY), _getFingerprint());
+	}
+
+	public static boolean isStale() throws Exception {
+		if (Boolean.getBoolean(_TRAINING_PROPERTY) || Files.notExists(_getPropertiesPath()) || !isSupported() ||
+			isCurrent()) {
+
+			return false;
+		}
+
+		Properties properties = _readProperties();
+
+		if (Objects.equals(properties.getProperty(_FAILED_FINGERPRINT_KEY), _getFingerprint())) {
+			long failedTime = Long.parseLong(properties.getProperty(_FAILED_TIME_KEY, "0"));
+
+			if ((System.currentTimeMillis() - failedTime) < _RETRY_INTERVAL.toMillis()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	public static boolean isSupported() {
+		String javaSpecificationVersion = System.getProperty("java.specification.version");
+
+		if (javaSpecificationVersion.startsWith("1.") ||
+			(Integer.parseInt(javaSpecificationVersion) < _MINIMUM_JAVA_VERSION)) {
+
+			return false;
+		}
+
+		return Files.isRegularFile(BladeUtil.getBladeJarPath());
+	}
+
+	public static void main(String[] args) throws Exception {
+		generate();
+	}
+
+	public static void start() throws Exception {
+		Path archivePath = getArchivePath();
+
+		if (_isGenerating(archivePath.resolveSibling(_LOCK_FILE_NAME))) {
+			return;
+		}
+
+		List<String> command = new ArrayList<>();
+
+		command.add(_getJavaPath());
+		command.add("-cp");
+		command.add(String.valueOf(BladeUtil.getBladeJarPath()));
+		command.add(ClassDataSharing.class.getName());
+
+		ProcessBuilder processBuilder = new ProcessBuilder(command);
+
+		processBuilder.redirectErrorStream(true);
+		processBuilder.redirectInput(ProcessBuilder.Redirect.from(_NULL_FILE));
+		processBuilder.redirectOutput(ProcessBuilder.Redirect.appendTo(_NULL_FILE));
+
+		try {
+			processBuilder.start();
+		}
+		catch (IOException ioException) {
+			_recordFailure(_getFingerprint());
+
+			throw ioException;
+		}
+	}
+
+	private static String _getFingerprint() throws Exception {
+		MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+		Map<String, Path> jars = new TreeMap<>();
+
+		Path extensionsPath = Paths.get(System.getProperty("user.home"), ".blade", "extensions");
+
+		if (Files.isDirectory(extensionsPath)) {
+			try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(extensionsPath, "*.jar")) {
+				for (Path jarPath : directoryStream) {
+					jars.put(String.valueOf(jarPath.getFileName()), jarPath);
+				}
+			}
+		}
+
+		jars.put("blade", BladeUtil.getBladeJarPath());
+
+		for (Map.Entry<String, Path> entry : jars.entrySet()) {
+			Path path = entry.getValue();
+
+			FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+
+			ResourceCache.updateDigest(messageDigest, entry.getKey(), Files.size(path), lastModifiedTime.toMillis());
+		}
+
+		ResourceCache.updateDigest(messageDigest, System.getProperty("java.home"), 0, 0);
+		ResourceCache.updateDigest(messageDigest, System.getProperty("java.vm.version"), 0, 0);
+
+		return ResourceCache.toHex(messageDigest);
+	}
+
+	private static String _getJavaPath() {
+		Path javaHomePath = Paths.get(System.getProperty("java.home"));
+
+		String java = BladeUtil.isWindows() ? "java.exe" : "java";
+
+		return String.valueOf(javaHomePath.resolve("bin/" + java));
+	}
+
+	private static Path _getPropertiesPath() {
+		Path archivePath = getArchivePath();
+
+		return archivePath.resolveSibling(_ARCHIVE_FILE_NAME + ".properties");
+	}
+
+	private static boolean _isGenerating(Path lockPath) throws IOException {
+		if (Files.notExists(lockPath)) {
+			return false;
+		}
+
+		try (FileChannel fileChannel = FileChannel.open(lockPath, StandardOpenOption.WRITE)) {
+			FileLock fileLock = fileChannel.tryLock();
+
+			if (fileLock == null) {
+				return true;
+			}
+
+			fileLock.release();
+
+			return false;
+		}
+		catch (OverlappingFileLockException overlappingFileLockException) {
+			return true;
+		}
+	}
+
+	private static Properties _readProperties() throws IOException {
+		Properties properties = new Properties();
+
+		Path propertiesPath = _getPropertiesPath();
+
+		if (Files.exists(propertiesPath)) {
+			try (InputStream inputStream = Files.newInputStream(propertiesPath)) {
+				properties.load(inputStream);
+			}
+		}
+
+		return properties;
+	}
+
+	private static void _recordFailure(String fingerprint) throws IOException {
+
+		// Remember the failed attempt so that later commands do not retry it on
+		// every run
+
+		Properties properties = _readProperties();
+
+		properties.setProperty(_FAILED_FINGERPRINT_KEY, fingerprint);
+		properties.setProperty(_FAILED_TIME_KEY, String.valueOf(System.currentTimeMillis()));
+
+		_writeProperties(properties);
+	}
+
+	private static void _writeProperties(Properties properties) throws IOException {
+		Path propertiesPath = _getPropertiesPath();
+
+		Path tempPropertiesPath = Files.createTempFile(propertiesPath.getParent(), "blade", ".tmp");
+
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(tempPropertiesPath)) {
+				properties.store(outputStream, null);
+			}
+
+			Files.move(tempPropertiesPath, propertiesPath, StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(tempPropertiesPath);
+		}
+	}
+
+	private static final String _ARCHIVE_FILE_NAME = "blade.jsa";
+
+	private static final String _FAILED_FINGERPRINT_KEY = "failed.fingerprint";
+
+	private static final String _FAILED_TIME_KEY = "failed.time";
+
+	private static final String _FINGERPRINT_KEY = "fingerprint";
+
+	private static final String _LOCK_FILE_NAME = ".lock";
+
+	private static final int _MINIMUM_JAVA_VERSION = 13;
+
+	private static final File _NULL_FILE = new File(BladeUtil.isWindows() ? "NUL" : "/dev/null");
+
+	private static final Duration _RETRY_INTERVAL = Duration.ofDays(1);
+
+	private static final String[] _TRAINING_COMMAND_LINES = {
+		"version", "help", "help create", "help deploy", "help init", "help watch", "server start --help",
+		"create -l"
+	};
+
+	private static final String _TRAINING_PROPERTY = "blade.cds.training";
+
+}
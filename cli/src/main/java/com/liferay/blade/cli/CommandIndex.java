@@ -0,0 +1,410 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli;
+
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+
+import com.liferay.blade.cli.command.BaseArgs;
+import com.liferay.blade.cli.command.BaseCommand;
+import com.liferay.blade.cli.command.BladeProfile;
+import com.liferay.blade.cli.command.CommandType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import java.lang.reflect.Field;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+
+/**
+ * @author Gregory Amerson
+ */
+public class CommandIndex {
+
+	@SuppressWarnings("rawtypes")
+	public static CommandIndex build(ClassLoader classLoader) throws Exception {
+		CommandIndex commandIndex = new CommandIndex();
+
+		ServiceLoader<BaseCommand> serviceLoader = ServiceLoader.load(BaseCommand.class, classLoader);
+
+		Iterator<BaseCommand> baseCommandIterator = serviceLoader.iterator();
+
+		while (baseCommandIterator.hasNext()) {
+			BaseCommand<?> baseCommand = null;
+
+			try {
+				baseCommand = baseCommandIterator.next();
+			}
+			catch (Throwable throwable) {
+				commandIndex._errors.add(_getLoadErrorMessage(throwable));
+
+				continue;
+			}
+
+			Class<?> commandClass = baseCommand.getClass();
+
+			List<String> commandNames = _getCommandNames(baseCommand);
+
+			BaseArgs baseArgs = baseCommand.getArgs();
+
+			Entry entry = new Entry(
+				commandClass.getName(), commandNames, _getBladeProfiles(commandClass), baseArgs.getCommandType());
+
+			_addFlags(entry, baseCommand.getArgsClass());
+
+			commandIndex._entries.add(entry);
+
+			commandIndex._commands.put(entry.getClassName(), baseCommand);
+		}
+
+		return commandIndex;
+	}
+
+	public static CommandIndex load(Path commandIndexPath) throws IOException {
+		Properties properties = new Properties();
+
+		try (InputStream inputStream = Files.newInputStream(commandIndexPath)) {
+			properties.load(inputStream);
+		}
+
+		if (!Objects.equals(_VERSION, properties.getProperty("version"))) {
+			throw new IOException("Unsupported command index " + commandIndexPath);
+		}
+
+		CommandIndex commandIndex = new CommandIndex();
+
+		for (int x = 0; properties.containsKey("command." + x + ".class"); x++) {
+			String prefix = "command." + x + ".";
+
+			Entry entry = new Entry(
+				properties.getProperty(prefix + "class"), _split(properties.getProperty(prefix + "names")),
+				_split(properties.getProperty(prefix + "profiles")),
+				CommandType.valueOf(properties.getProperty(prefix + "type")));
+
+			entry._flagsWithArgs.addAll(_split(properties.getProperty(prefix + "flags")));
+			entry._flagsWithoutArgs.addAll(_split(properties.getProperty(prefix + "switches")));
+
+			commandIndex._entries.add(entry);
+		}
+
+		for (int x = 0; properties.containsKey("error." + x); x++) {
+			commandIndex._errors.add(properties.getProperty("error." + x));
+		}
+
+		return commandIndex;
+	}
+
+	public String getCommandName(String profileName, String[] args) {
+		Map<String, Entry> entries = getEntries(profileName);
+
+		List<String> tokens = new ArrayList<>();
+
+		for (String arg : args) {
+			Collections.addAll(tokens, arg.split(" "));
+		}
+
+		Collection<String> flagsWithArgs = Extensions.getFlags(BaseArgs.class, true);
+
+		for (int x = 0; x < tokens.size(); x++) {
+			String token = tokens.get(x);
+
+			if (flagsWithArgs.contains(token)) {
+				x++;
+
+				continue;
+			}
+
+			if (token.startsWith("-")) {
+				continue;
+			}
+
+			String commandName = null;
+
+			StringBuilder sb = new StringBuilder();
+
+			for (int y = x; y < tokens.size(); y++) {
+				if (y > x) {
+					sb.append(" ");
+				}
+
+				sb.append(tokens.get(y));
+
+				if (entries.containsKey(sb.toString())) {
+					commandName = sb.toString();
+				}
+			}
+
+			return commandName;
+		}
+
+		return null;
+	}
+
+	public Map<String, Entry> getEntries(String profileName) {
+		Map<String, Entry> entries = new TreeMap<>();
+
+		boolean profileNameIsPresent = false;
+
+		if ((profileName != null) && (profileName.length() > 0)) {
+			profileNameIsPresent = true;
+		}
+
+		for (Entry entry : _entries) {
+			List<String> profileNames = entry.getProfileNames();
+
+			if (profileNameIsPresent && profileNames.contains(profileName)) {
+				_addEntry(entries, entry);
+			}
+		}
+
+		for (Entry entry : _entries) {
+			List<String> profileNames = entry.getProfileNames();
+
+			if (profileNames.isEmpty()) {
+				_addEntry(entries, entry);
+			}
+		}
+
+		return entries;
+	}
+
+	public List<String> getErrors() {
+		return _errors;
+	}
+
+	public BaseCommand<? extends BaseArgs> newCommand(Entry entry, ClassLoader classLoader) throws Exception {
+		BaseCommand<?> baseCommand = _commands.remove(entry.getClassName());
+
+		if (baseCommand == null) {
+			Class<?> commandClass = Class.forName(entry.getClassName(), true, classLoader);
+
+			baseCommand = (BaseCommand<?>)commandClass.newInstance();
+
+			Class<? extends BaseArgs> baseArgsClass = baseCommand.getArgsClass();
+
+			baseCommand.setArgs(baseArgsClass.newInstance());
+		}
+
+		baseCommand.setClassLoader(classLoader);
+
+		return baseCommand;
+	}
+
+	public void printErrors(PrintStream printStream) {
+		for (String error : _errors) {
+			printStream.println(error);
+		}
+	}
+
+	public void store(Path commandIndexPath) throws IOException {
+		Properties properties = new Properties();
+
+		properties.setProperty("version", _VERSION);
+
+		for (int x = 0; x < _entries.size(); x++) {
+			Entry entry = _entries.get(x);
+
+			String prefix = "command." + x + ".";
+
+			properties.setProperty(prefix + "class", entry.getClassName());
+			properties.setProperty(prefix + "names", String.join(",", entry.getCommandNames()));
+			properties.setProperty(prefix + "profiles", String.join(",", entry.getProfileNames()));
+			properties.setProperty(prefix + "type", String.valueOf(entry.getCommandType()));
+			properties.setProperty(prefix + "flags", String.join(",", entry.getFlagsWithArgs()));
+			properties.setProperty(prefix + "switches", String.join(",", entry.getFlagsWithoutArgs()));
+		}
+
+		for (int x = 0; x < _errors.size(); x++) {
+			properties.setProperty("error." + x, _errors.get(x));
+		}
+
+		Path tempCommandIndexPath = Files.createTempFile(
+			commandIndexPath.getParent(), String.valueOf(commandIndexPath.getFileName()), null);
+
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(tempCommandIndexPath)) {
+				properties.store(outputStream, null);
+			}
+
+			Files.move(tempCommandIndexPath, commandIndexPath, StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(tempCommandIndexPath);
+		}
+	}
+
+	public static class Entry {
+
+		public Entry(
+			String className, List<String> commandNames, List<String> profileNames, CommandType commandType) {
+
+			_className = className;
+			_commandNames = commandNames;
+			_profileNames = profileNames;
+			_commandType = commandType;
+		}
+
+		public String getClassName() {
+			return _className;
+		}
+
+		public List<String> getCommandNames() {
+			return _commandNames;
+		}
+
+		public CommandType getCommandType() {
+			return _commandType;
+		}
+
+		public List<String> getFlagsWithArgs() {
+			return _flagsWithArgs;
+		}
+
+		public List<String> getFlagsWithoutArgs() {
+			return _flagsWithoutArgs;
+		}
+
+		public List<String> getProfileNames() {
+			return _profileNames;
+		}
+
+		private final String _className;
+		private final List<String> _commandNames;
+		private final CommandType _commandType;
+		private final List<String> _flagsWithArgs = new ArrayList<>();
+		private final List<String> _flagsWithoutArgs = new ArrayList<>();
+		private final List<String> _profileNames;
+
+	}
+
+	private static void _addEntry(Map<String, Entry> entries, Entry entry) {
+		for (String commandName : entry.getCommandNames()) {
+			entries.putIfAbsent(commandName, entry);
+		}
+	}
+
+	private static void _addFlags(Entry entry, Class<?> argsClass) {
+		while ((argsClass != null) && !Objects.equals(argsClass, BaseArgs.class)) {
+			for (Field field : argsClass.getDeclaredFields()) {
+				Parameter parameter = field.getAnnotation(Parameter.class);
+
+				if (parameter == null) {
+					continue;
+				}
+
+				Class<?> type = field.getType();
+
+				if (type.equals(boolean.class) || type.equals(Boolean.class)) {
+					Collections.addAll(entry._flagsWithoutArgs, parameter.names());
+				}
+				else {
+					Collections.addAll(entry._flagsWithArgs, parameter.names());
+				}
+			}
+
+			argsClass = argsClass.getSuperclass();
+		}
+	}
+
+	private static List<String> _getBladeProfiles(Class<?> commandClass) {
+		List<String> profileNames = new ArrayList<>();
+
+		for (BladeProfile bladeProfile : commandClass.getAnnotationsByType(BladeProfile.class)) {
+			profileNames.add(bladeProfile.value());
+		}
+
+		return profileNames;
+	}
+
+	private static List<String> _getCommandNames(BaseCommand<?> baseCommand) throws Exception {
+		Class<? extends BaseArgs> baseArgsClass = baseCommand.getArgsClass();
+
+		BaseArgs baseArgs = baseArgsClass.newInstance();
+
+		baseCommand.setArgs(baseArgs);
+
+		Parameters parameters = baseArgsClass.getAnnotation(Parameters.class);
+
+		if (parameters == null) {
+			throw new IllegalArgumentException(
+				"Loaded base command class that does not have a Parameters annotation " + baseArgsClass.getName());
+		}
+
+		return Arrays.asList(parameters.commandNames());
+	}
+
+	private static String _getLoadErrorMessage(Throwable throwable) {
+		Class<?> throwableClass = throwable.getClass();
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("Exception thrown while loading extension.");
+		sb.append(System.lineSeparator());
+		sb.append("Exception: ");
+		sb.append(throwableClass.getName());
+		sb.append(": ");
+		sb.append(throwable.getMessage());
+		sb.append(System.lineSeparator());
+
+		Throwable cause = throwable.getCause();
+
+		if (cause != null) {
+			Class<?> throwableCauseClass = cause.getClass();
+
+			sb.append(throwableCauseClass.getName());
+			sb.append(": ");
+			sb.append(cause.getMessage());
+		}
+
+		return sb.toString();
+	}
+
+	private static List<String> _split(String value) {
+		List<String> values = new ArrayList<>();
+
+		if ((value != null) && !value.isEmpty()) {
+			Collections.addAll(values, value.split(","));
+		}
+
+		return values;
+	}
+
+	private static final String _VERSION = "1";
+
+	private final Map<String, BaseCommand<?>> _commands = new HashMap<>();
+	private final List<Entry> _entries = new ArrayList<>();
+	private final List<String> _errors = new ArrayList<>();
+
+}
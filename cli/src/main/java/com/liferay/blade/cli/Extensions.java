@@ -21,15 +21,19 @@ import com.beust.jcommander.Parameters;
 
 import com.liferay.blade.cli.command.BaseArgs;
 import com.liferay.blade.cli.command.BaseCommand;
-import com.liferay.blade.cli.util.FileUtil;
 import com.liferay.blade.cli.util.ProcessesUtil;
+import com.liferay.blade.cli.util.ResourceCache;
+import com.liferay.blade.cli.util.TempDirectory;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintStream;
 
 import java.lang.reflect.Field;
 
+import java.net.URL;
+
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -37,12 +41,12 @@ import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -74,148 +78,110 @@ public class Extensions implements Closeable {
 		);
 	}
 
-	public static String[] sortArgs(Map<String, BaseCommand<? extends BaseArgs>> commands, String[] args)
-		throws Exception {
-
-		List<String> argsList = new ArrayList<>(Arrays.asList(args));
-
-		Collection<String> addLast = new ArrayList<>();
-
-		Collection<BaseArgs> argList = new HashSet<>();
-
-		Collection<BaseCommand<? extends BaseArgs>> values = commands.values();
-
-		Stream<BaseCommand<? extends BaseArgs>> valuesStream = values.stream();
+	public static Collection<String> getFlags(Class<? extends BaseArgs> clazz, boolean withArguments) {
+		Collection<String> flags = new ArrayList<>();
 
-		valuesStream.map(
-			command -> command.getArgs()
-		).forEach(
-			argList::add
-		);
+		for (Field field : clazz.getDeclaredFields()) {
+			Parameter annotation = field.getAnnotation(Parameter.class);
 
-		Stream<BaseArgs> argStream = argList.stream();
+			if (annotation != null) {
+				String[] names = annotation.names();
 
-		Collection<String> commandNames = getCommandNames(
-			argStream.map(
-				BaseArgs::getClass
-			).collect(
-				Collectors.toSet()
-			));
+				if ((names != null) && (names.length > 0)) {
+					Class<?> type = field.getType();
 
-		Stream<String> commandNamesStream = commandNames.stream();
+					if ((withArguments && !type.equals(boolean.class)) ||
+						(!withArguments && type.equals(boolean.class))) {
 
-		Collection<String> spaceCommandCollection = commandNamesStream.filter(
-			x -> x.contains(" ")
-		).collect(
-			Collectors.toSet()
-		);
+						for (String name : names) {
+							flags.add(name);
+						}
+					}
+				}
+			}
+		}
 
-		Collection<String[]> spaceCommandSplitCollection = new ArrayList<>();
+		return flags;
+	}
 
-		Stream<String> spaceCommandStream = spaceCommandCollection.stream();
+	public static String[] sortArgs(Map<String, BaseCommand<? extends BaseArgs>> commands, String[] args)
+		throws Exception {
 
-		spaceCommandStream.map(
-			x -> x.split(" ")
-		).forEach(
-			spaceCommandSplitCollection::add
-		);
+		ArgsNormalizer argsNormalizer = ArgsNormalizer.get(commands.keySet());
 
-		Collection<String> flagsWithArgs = _getFlags(BaseArgs.class, true);
+		return argsNormalizer.normalize(args);
+	}
 
-		Collection<String> flagsWithoutArgs = _getFlags(BaseArgs.class, false);
+	public Extensions(ClassLoader classLoader) {
+		this(classLoader, null);
+	}
 
-		for (int x = 0; x < argsList.size(); x++) {
-			String s = argsList.get(x);
+	public Extensions(ClassLoader classLoader, Path commandIndexPath) {
+		_serviceLoaderClassLoader = classLoader;
+		_commandIndexPath = commandIndexPath;
+	}
 
-			if (flagsWithArgs.contains(s)) {
-				addLast.add(argsList.remove(x));
-				addLast.add(argsList.remove(x));
-				x--;
+	@Override
+	public void close() throws IOException {
+		if (_tempTemplatesDirectory != null) {
+			try {
+				_tempTemplatesDirectory.close();
+			}
+			catch (Exception exception) {
 			}
 		}
+	}
 
-		for (int x = 0; x < argsList.size(); x++) {
-			String s = argsList.get(x);
+	public CommandIndex getCommandIndex() throws Exception {
+		if (_commandIndex != null) {
+			return _commandIndex;
+		}
 
-			if (flagsWithoutArgs.contains(s)) {
-				addLast.add(argsList.remove(x));
+		if ((_commandIndexPath != null) && Files.exists(_commandIndexPath)) {
+			try {
+				_commandIndex = CommandIndex.load(_commandIndexPath);
+			}
+			catch (Exception exception) {
 			}
 		}
 
-		for (int x = 0; x < argsList.size(); x++) {
-			if (!spaceCommandSplitCollection.isEmpty()) {
-				String[] foundStrArray = null;
-
-				for (String[] strArray : spaceCommandSplitCollection) {
-					if ((argsList.size() >= (x + strArray.length)) && (foundStrArray == null)) {
-						boolean mismatch = false;
-
-						if (strArray.length == 0) {
-							mismatch = true;
-						}
-
-						for (int y = 0; y < strArray.length; y++) {
-							if (Objects.equals(strArray[y], argsList.get(x + y))) {
-								continue;
-							}
-
-							mismatch = true;
-						}
-
-						if (!mismatch) {
-							foundStrArray = strArray;
+		if (_commandIndex == null) {
+			_commandIndex = CommandIndex.build(_serviceLoaderClassLoader);
 
-							break;
-						}
-					}
+			if (_commandIndexPath != null) {
+				try {
+					_commandIndex.store(_commandIndexPath);
 				}
-
-				if (foundStrArray != null) {
-					Collection<String> commandParts = new ArrayList<>();
-
-					for (int y = 0; y < foundStrArray.length; y++) {
-						if (Objects.equals(foundStrArray[y], argsList.get(x + y))) {
-							commandParts.add(foundStrArray[y]);
-						}
-					}
-
-					StringBuilder newCommand = new StringBuilder();
-
-					for (String commandPart : commandParts) {
-						if (Objects.equals(commandPart, argsList.get(x))) {
-							int len = newCommand.length();
-
-							if (len > 0) {
-								newCommand.append(" ");
-							}
-
-							newCommand.append(argsList.remove(x));
-						}
-					}
-
-					argsList.add(x, newCommand.toString());
+				catch (IOException ioException) {
 				}
 			}
 		}
 
-		argsList.addAll(addLast);
+		_commandIndex.printErrors(BladeCLI.currentError());
 
-		return argsList.toArray(new String[0]);
+		return _commandIndex;
 	}
 
-	public Extensions(ClassLoader classLoader) {
-		_serviceLoaderClassLoader = classLoader;
+	public String getCommandName(String profileName, String[] args) throws Exception {
+		if (profileName == null) {
+			profileName = "gradle";
+		}
+
+		CommandIndex commandIndex = getCommandIndex();
+
+		return commandIndex.getCommandName(profileName, args);
 	}
 
-	@Override
-	public void close() throws IOException {
-		if ((_embeddedTemplatesPath != null) && Files.exists(_embeddedTemplatesPath)) {
-			try {
-				FileUtil.deleteDirIfExists(_embeddedTemplatesPath);
-			}
-			catch (Exception exception) {
-			}
+	public Collection<String> getCommandNames(String profileName) throws Exception {
+		if (profileName == null) {
+			profileName = "gradle";
 		}
+
+		CommandIndex commandIndex = getCommandIndex();
+
+		Map<String, CommandIndex.Entry> entries = commandIndex.getEntries(profileName);
+
+		return entries.keySet();
 	}
 
 	public Map<String, BaseCommand<? extends BaseArgs>> getCommands() throws Exception {
@@ -230,106 +196,138 @@ public class Extensions implements Closeable {
 		return _getCommands(profileName);
 	}
 
-	public Path getTemplatesPath() throws IOException {
-		if (_embeddedTemplatesPath == null) {
-			long pid = ProcessesUtil.getCurrentProcessId();
+	public Map<String, BaseCommand<? extends BaseArgs>> getCommands(String profileName, String[] args)
+		throws Exception {
 
-			_embeddedTemplatesPath = Files.createTempDirectory(TEMP_TEMPLATES_PREFIX + pid + "-");
+		if (profileName == null) {
+			profileName = "gradle";
+		}
 
-			try (InputStream inputStream = Extensions.class.getResourceAsStream(
-					"/blade-extensions-versions.properties")) {
+		CommandIndex commandIndex = getCommandIndex();
 
-				if (inputStream != null) {
-					Properties properties = new Properties();
+		String commandName = getCommandName(profileName, args);
 
-					properties.load(inputStream);
+		if (commandName == null) {
+			return _getCommands(profileName);
+		}
 
-					Set<String> templates = new HashSet<>();
-					ClassLoader classLoader = Extensions.class.getClassLoader();
+		Map<String, CommandIndex.Entry> entries = commandIndex.getEntries(profileName);
 
-					for (Object key : properties.keySet()) {
-						String jarResource = key.toString() + "-" + properties.getProperty(key.toString()) + ".jar";
+		CommandIndex.Entry entry = entries.get(commandName);
 
-						if (jarResource.startsWith("com.liferay.project.templates") &&
-							(classLoader.getResource(jarResource) != null)) {
+		BaseCommand<? extends BaseArgs> baseCommand = commandIndex.newCommand(entry, _serviceLoaderClassLoader);
 
-							templates.add(jarResource);
-						}
-					}
+		Map<String, BaseCommand<? extends BaseArgs>> commands = new TreeMap<>();
 
-					for (String template : templates) {
-						try (InputStream extensionInputStream = classLoader.getResourceAsStream(template)) {
-							Path extensionPath = _embeddedTemplatesPath.resolve(template);
+		for (Map.Entry<String, CommandIndex.Entry> mapEntry : entries.entrySet()) {
+			if (Objects.equals(mapEntry.getValue(), entry)) {
+				commands.put(mapEntry.getKey(), baseCommand);
+			}
+		}
 
-							Files.copy(extensionInputStream, extensionPath, StandardCopyOption.REPLACE_EXISTING);
-						}
-						catch (Throwable th) {
-							StringBuilder sb = new StringBuilder();
+		return commands;
+	}
+
+	public Path getTemplatesPath() throws IOException {
+		if (_embeddedTemplatesPath == null) {
+			try {
+				Map<String, URL> templates = _getEmbeddedTemplates();
 
-							sb.append("Error encountered while loading embedded custom template.");
-							sb.append(System.lineSeparator());
-							sb.append(th.getMessage());
-							sb.append(System.lineSeparator());
-							sb.append("Not loading template " + template + ".");
-							sb.append(System.lineSeparator());
+				ResourceCache resourceCache = new ResourceCache();
 
-							String errorString = sb.toString();
+				_embeddedTemplatesPath = resourceCache.get(
+					"templates", templates.values(),
+					templatesPath -> {
+						for (Map.Entry<String, URL> entry : templates.entrySet()) {
+							URL url = entry.getValue();
 
-							System.err.println(errorString);
+							try (InputStream extensionInputStream = url.openStream()) {
+								Path extensionPath = templatesPath.resolve(entry.getKey());
+
+								Files.copy(extensionInputStream, extensionPath, StandardCopyOption.REPLACE_EXISTING);
+							}
 						}
-					}
-				}
+					});
 			}
 			catch (Throwable th) {
 				String errorMessage = "Error encountered while loading custom extensions." + System.lineSeparator();
 
-				System.err.println(errorMessage);
+				PrintStream error = BladeCLI.currentError();
 
-				System.err.println(th.getMessage());
+				error.println(errorMessage);
+
+				error.println(th.getMessage());
+
+				long pid = ProcessesUtil.getCurrentProcessId();
+
+				_tempTemplatesDirectory = TempDirectory.create(TEMP_TEMPLATES_PREFIX + pid + "-");
+
+				_embeddedTemplatesPath = _tempTemplatesDirectory.getPath();
 			}
 		}
 
 		return _embeddedTemplatesPath;
 	}
 
-	private static Collection<String> _getFlags(Class<? extends BaseArgs> clazz, boolean withArguments) {
-		Collection<String> flags = new ArrayList<>();
+	private Map<String, BaseCommand<? extends BaseArgs>> _getCommands(String profileName) throws Exception {
+		if (_commands == null) {
+			CommandIndex commandIndex = getCommandIndex();
 
-		for (Field field : clazz.getDeclaredFields()) {
-			Parameter annotation = field.getAnnotation(Parameter.class);
+			Map<CommandIndex.Entry, BaseCommand<? extends BaseArgs>> baseCommands = new HashMap<>();
 
-			if (annotation != null) {
-				String[] names = annotation.names();
+			_commands = new TreeMap<>();
 
-				if ((names != null) && (names.length > 0)) {
-					Class<?> type = field.getType();
+			for (Map.Entry<String, CommandIndex.Entry> entry : commandIndex.getEntries(profileName).entrySet()) {
+				BaseCommand<? extends BaseArgs> baseCommand = baseCommands.get(entry.getValue());
 
-					if ((withArguments && !type.equals(boolean.class)) ||
-						(!withArguments && type.equals(boolean.class))) {
+				if (baseCommand == null) {
+					baseCommand = commandIndex.newCommand(entry.getValue(), _serviceLoaderClassLoader);
 
-						for (String name : names) {
-							flags.add(name);
-						}
-					}
+					baseCommands.put(entry.getValue(), baseCommand);
 				}
+
+				_commands.put(entry.getKey(), baseCommand);
 			}
 		}
 
-		return flags;
+		return _commands;
 	}
 
-	private Map<String, BaseCommand<? extends BaseArgs>> _getCommands(String profileName) throws Exception {
-		if (_commands == null) {
-			ClassLoader serviceLoaderClassLoader = _serviceLoaderClassLoader;
+	private Map<String, URL> _getEmbeddedTemplates() throws IOException {
+		Map<String, URL> templates = new TreeMap<>();
+
+		try (InputStream inputStream = Extensions.class.getResourceAsStream("/blade-extensions-versions.properties")) {
+			if (inputStream == null) {
+				return templates;
+			}
+
+			Properties properties = new Properties();
 
-			_commands = BladeCLI.getCommandMapByClassLoader(profileName, serviceLoaderClassLoader);
+			properties.load(inputStream);
+
+			ClassLoader classLoader = Extensions.class.getClassLoader();
+
+			for (Object key : properties.keySet()) {
+				String jarResource = key.toString() + "-" + properties.getProperty(key.toString()) + ".jar";
+
+				if (jarResource.startsWith("com.liferay.project.templates")) {
+					URL url = classLoader.getResource(jarResource);
+
+					if (url != null) {
+						templates.put(jarResource, url);
+					}
+				}
+			}
 		}
 
-		return _commands;
+		return templates;
 	}
 
+	private CommandIndex _commandIndex;
+	private final Path _commandIndexPath;
 	private Map<String, BaseCommand<? extends BaseArgs>> _commands;
 	private Path _embeddedTemplatesPath = null;
 	private ClassLoader _serviceLoaderClassLoader = null;
+	private TempDirectory _tempTemplatesDirectory;
 
 }
\ No newline at end of file
@@ -16,27 +16,33 @@
 
 package com.liferay.blade.cli;
 
+import com.liferay.blade.cli.util.BladeUtil;
 import com.liferay.blade.cli.util.CombinedClassLoader;
-import com.liferay.blade.cli.util.FileUtil;
-import com.liferay.blade.cli.util.ProcessesUtil;
+import com.liferay.blade.cli.util.ResourceCache;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintStream;
 
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
 
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 
-import java.util.HashSet;
+import java.security.MessageDigest;
+
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -47,7 +53,12 @@ import java.util.stream.Stream;
 public class ExtensionsClassLoaderSupplier implements AutoCloseable, Supplier<ClassLoader> {
 
 	public ExtensionsClassLoaderSupplier(Path extensionsPath) {
+		this(extensionsPath, BladeUtil.getBladeCachePath());
+	}
+
+	public ExtensionsClassLoaderSupplier(Path extensionsPath, Path cachePath) {
 		_extensionsPath = extensionsPath;
+		_resourceCache = new ResourceCache(cachePath);
 	}
 
 	@Override
@@ -57,29 +68,23 @@ public class ExtensionsClassLoaderSupplier implements AutoCloseable, Supplier<Cl
 
 			closeable.close();
 		}
+	}
 
-		if ((_tempExtensionsDirectory != null) && Files.exists(_tempExtensionsDirectory)) {
-			try {
-				FileUtil.deleteDirIfExists(_tempExtensionsDirectory);
-			}
-			catch (IOException ioException) {
-			}
-		}
+	public Path getCommandIndexPath() {
+		return _commandIndexPath;
 	}
 
 	@Override
-	public ClassLoader get() {
+	public synchronized ClassLoader get() {
 		try {
 			if (_serviceLoaderClassLoader == null) {
-				long pid = ProcessesUtil.getCurrentProcessId();
+				Path extensionsDirectory = _getCachedExtensionsDirectory();
 
-				_tempExtensionsDirectory = Files.createTempDirectory("blade-extensions-" + pid + "-");
-
-				FileUtil.copyDir(_extensionsPath, _tempExtensionsDirectory);
-
-				_extractBladeExtensions(_tempExtensionsDirectory);
+				if (!Files.isDirectory(BladeUtil.getBladeJarPath())) {
+					_commandIndexPath = extensionsDirectory.resolve("blade-command-index.properties");
+				}
 
-				URL[] jarUrls = _getJarUrls(_tempExtensionsDirectory);
+				URL[] jarUrls = _getJarUrls(extensionsDirectory);
 
 				Thread thread = Thread.currentThread();
 
@@ -107,10 +112,54 @@ public class ExtensionsClassLoaderSupplier implements AutoCloseable, Supplier<Cl
 		return null;
 	}
 
-	private void _extractBladeExtensions(Path extensionsDirectory) throws IOException {
+	private void _copyInstalledExtensions(Path extensionsDirectory) throws IOException {
+		if (Files.notExists(_extensionsPath)) {
+			return;
+		}
+
+		try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(_extensionsPath, "*.jar")) {
+			for (Path path : directoryStream) {
+				Files.copy(
+					path, extensionsDirectory.resolve(path.getFileName()), StandardCopyOption.COPY_ATTRIBUTES,
+					StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+
+	private void _extractBladeExtensions(Map<String, URL> embeddedExtensions, Path extensionsDirectory)
+		throws IOException {
+
+		for (Map.Entry<String, URL> entry : embeddedExtensions.entrySet()) {
+			URL url = entry.getValue();
+
+			try (InputStream extensionInputStream = url.openStream()) {
+				Path extensionPath = extensionsDirectory.resolve(entry.getKey());
+
+				Files.copy(extensionInputStream, extensionPath, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+
+	private Path _getCachedExtensionsDirectory() throws Exception {
+		Map<String, URL> embeddedExtensions = _getEmbeddedExtensions();
+
+		String digest = _getExtensionsDigest(embeddedExtensions);
+
+		return _resourceCache.get(
+			"extensions", digest,
+			extensionsDirectory -> {
+				_copyInstalledExtensions(extensionsDirectory);
+
+				_extractBladeExtensions(embeddedExtensions, extensionsDirectory);
+			});
+	}
+
+	private Map<String, URL> _getEmbeddedExtensions() throws IOException {
+		Map<String, URL> embeddedExtensions = new TreeMap<>();
+
 		try (InputStream inputStream = Extensions.class.getResourceAsStream("/blade-extensions-versions.properties")) {
 			if (inputStream == null) {
-				return;
+				return embeddedExtensions;
 			}
 
 			Properties properties = new Properties();
@@ -122,40 +171,20 @@ public class ExtensionsClassLoaderSupplier implements AutoCloseable, Supplier<Cl
 			ClassLoader classLoader = Extensions.class.getClassLoader();
 
 			try {
-				Set<String> extensions = new HashSet<>();
-
 				for (Object key : keySet) {
 					String extension = key.toString() + "-" + properties.getProperty(key.toString()) + ".jar";
 
 					if (!extension.startsWith("com.liferay.project.templates")) {
-						if (classLoader.getResource(extension) != null) {
-							extensions.add(extension);
+						URL url = classLoader.getResource(extension);
+
+						if (url != null) {
+							embeddedExtensions.put(extension, url);
 						}
 						else {
-							System.err.println("Warning: Unable to locate " + extension);
-						}
-					}
-				}
-
-				for (String extension : extensions) {
-					try (InputStream extensionInputStream = classLoader.getResourceAsStream(extension)) {
-						Path extensionPath = extensionsDirectory.resolve(extension);
-
-						Files.copy(extensionInputStream, extensionPath, StandardCopyOption.REPLACE_EXISTING);
-					}
-					catch (Throwable throwable) {
-						StringBuilder sb = new StringBuilder();
+							PrintStream error = BladeCLI.currentError();
 
-						sb.append("Error encountered while loading custom extensions.");
-						sb.append(System.lineSeparator());
-						sb.append(throwable.getMessage());
-						sb.append(System.lineSeparator());
-						sb.append("Not loading extension " + extension + ".");
-						sb.append(System.lineSeparator());
-
-						String errorString = sb.toString();
-
-						System.err.println(errorString);
+							error.println("Warning: Unable to locate " + extension);
+						}
 					}
 				}
 			}
@@ -171,7 +200,9 @@ public class ExtensionsClassLoaderSupplier implements AutoCloseable, Supplier<Cl
 
 				String errorString = sb.toString();
 
-				System.err.println(errorString);
+				PrintStream error = BladeCLI.currentError();
+
+				error.println(errorString);
 			}
 			catch (Throwable throwable) {
 				String errorMessage = "Error encountered while loading custom extensions." + System.lineSeparator();
@@ -179,6 +210,44 @@ public class ExtensionsClassLoaderSupplier implements AutoCloseable, Supplier<Cl
 				throw new RuntimeException(errorMessage, throwable);
 			}
 		}
+
+		return embeddedExtensions;
+	}
+
+	private String _getExtensionsDigest(Map<String, URL> embeddedExtensions) throws Exception {
+		MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+		Path bladeJarPath = BladeUtil.getBladeJarPath();
+
+		FileTime bladeJarLastModifiedTime = Files.getLastModifiedTime(bladeJarPath);
+
+		ResourceCache.updateDigest(
+			messageDigest, String.valueOf(bladeJarPath), Files.size(bladeJarPath),
+			bladeJarLastModifiedTime.toMillis());
+
+		if (Files.exists(_extensionsPath)) {
+			Map<String, Path> installedExtensions = new TreeMap<>();
+
+			try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(_extensionsPath, "*.jar")) {
+				for (Path path : directoryStream) {
+					installedExtensions.put(String.valueOf(path.getFileName()), path);
+				}
+			}
+
+			for (Map.Entry<String, Path> entry : installedExtensions.entrySet()) {
+				Path path = entry.getValue();
+
+				FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+
+				ResourceCache.updateDigest(messageDigest, entry.getKey(), Files.size(path), lastModifiedTime.toMillis());
+			}
+		}
+
+		for (Map.Entry<String, URL> entry : embeddedExtensions.entrySet()) {
+			ResourceCache.updateDigest(messageDigest, "embedded/" + entry.getKey(), entry.getValue());
+		}
+
+		return ResourceCache.toHex(messageDigest);
 	}
 
 	private URL[] _getJarUrls(Path jarsPath) throws IOException {
@@ -203,8 +272,9 @@ public class ExtensionsClassLoaderSupplier implements AutoCloseable, Supplier<Cl
 		}
 	}
 
+	private Path _commandIndexPath;
 	private final Path _extensionsPath;
+	private final ResourceCache _resourceCache;
 	private ClassLoader _serviceLoaderClassLoader = null;
-	private Path _tempExtensionsDirectory;
 
-}
\ No newline at end of file
+}
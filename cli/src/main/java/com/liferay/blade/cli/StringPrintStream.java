@@ -16,18 +16,21 @@
 
 package com.liferay.blade.cli;
 
+import com.liferay.blade.cli.util.RingBufferOutputStream;
+
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 
 import java.nio.charset.Charset;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Scanner;
+import java.util.Collections;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 /**
  * @author Christopher Bryan Boyd
@@ -35,21 +38,31 @@ import java.util.stream.Stream;
 public class StringPrintStream extends PrintStream implements Supplier<String> {
 
 	public static StringPrintStream fromInputStream(InputStream inputStream) {
-		StringPrintStream stringPrintStream = new StringPrintStream(
-			new ByteArrayOutputStream(), Charset.defaultCharset());
+		StringPrintStream stringPrintStream = newInstance();
 
 		StringConverter.readInputStreamToPrintStream(inputStream, stringPrintStream);
 
 		return stringPrintStream;
 	}
 
+	public static StringPrintStream newBoundedInstance(int capacity) {
+		return new StringPrintStream(new RingBufferOutputStream(capacity), Charset.defaultCharset());
+	}
+
+	public static StringPrintStream newBoundedInstance(
+		int capacity, Collection<Predicate<String>> filters, Collection<Consumer<String>> lineListeners) {
+
+		return new FilteringPrintStream(
+			new RingBufferOutputStream(capacity), Charset.defaultCharset(), filters, lineListeners);
+	}
+
 	public static StringPrintStream newFilteredInstance(Collection<Predicate<String>> filters) {
-		return new FilteringPrintStream(new ByteArrayOutputStream(), Charset.defaultCharset(), filters);
+		return newBoundedInstance(Integer.MAX_VALUE, filters, Collections.emptyList());
 	}
 
 	@SafeVarargs
 	public static StringPrintStream newFilteredInstance(Predicate<String>... filters) {
-		return new FilteringPrintStream(new ByteArrayOutputStream(), Charset.defaultCharset(), Arrays.asList(filters));
+		return newFilteredInstance(Arrays.asList(filters));
 	}
 
 	public static StringPrintStream newInstance() {
@@ -57,7 +70,7 @@ public class StringPrintStream extends PrintStream implements Supplier<String> {
 	}
 
 	public static StringPrintStream newInstance(Charset charset) {
-		return new StringPrintStream(new ByteArrayOutputStream(), charset);
+		return new StringPrintStream(new RingBufferOutputStream(Integer.MAX_VALUE), charset);
 	}
 
 	public static String toString(InputStream inputStream) {
@@ -68,7 +81,23 @@ public class StringPrintStream extends PrintStream implements Supplier<String> {
 
 	@Override
 	public String get() {
-		return new String(_outputStream.toByteArray(), _charset);
+		flush();
+
+		String string = new String(_ringBufferOutputStream.toByteArray(), _charset);
+
+		if (_ringBufferOutputStream.isTruncated()) {
+			int index = string.indexOf('\n');
+
+			if (index >= 0) {
+				string = string.substring(index + 1);
+			}
+		}
+
+		return string;
+	}
+
+	public boolean isTruncated() {
+		return _ringBufferOutputStream.isTruncated();
 	}
 
 	@Override
@@ -76,50 +105,174 @@ public class StringPrintStream extends PrintStream implements Supplier<String> {
 		return get();
 	}
 
-	private StringPrintStream(ByteArrayOutputStream outputStream, Charset charset) {
+	private StringPrintStream(
+		OutputStream outputStream, RingBufferOutputStream ringBufferOutputStream, Charset charset) {
+
 		super(outputStream);
 
-		_outputStream = outputStream;
+		_ringBufferOutputStream = ringBufferOutputStream;
 		_charset = charset;
 	}
 
-	private Charset _charset;
-	private ByteArrayOutputStream _outputStream;
+	private StringPrintStream(RingBufferOutputStream ringBufferOutputStream, Charset charset) {
+		this(ringBufferOutputStream, ringBufferOutputStream, charset);
+	}
+
+	private final Charset _charset;
+	private final RingBufferOutputStream _ringBufferOutputStream;
 
 	private static class FilteringPrintStream extends StringPrintStream {
 
 		public FilteringPrintStream(
-			ByteArrayOutputStream outputStream, Charset charset, Collection<Predicate<String>> filters) {
-
-			super(outputStream, charset);
+			RingBufferOutputStream ringBufferOutputStream, Charset charset, Collection<Predicate<String>> filters,
+			Collection<Consumer<String>> lineListeners) {
 
-			_filters = filters;
+			this(new LineOutputStream(ringBufferOutputStream, charset, filters, lineListeners), charset);
 		}
 
 		@Override
 		public String get() {
-			StringBuilder stringBuilder = new StringBuilder();
 			String results = super.get();
 
-			try (Scanner scanner = new Scanner(results)) {
-				while (scanner.hasNext()) {
-					String line = scanner.nextLine();
+			return results + _lineOutputStream.getPendingLine();
+		}
+
+		private FilteringPrintStream(LineOutputStream lineOutputStream, Charset charset) {
+			super(lineOutputStream, lineOutputStream._ringBufferOutputStream, charset);
+
+			_lineOutputStream = lineOutputStream;
+		}
+
+		private final LineOutputStream _lineOutputStream;
+
+	}
+
+	private static class LineOutputStream extends OutputStream {
+
+		public LineOutputStream(
+			RingBufferOutputStream ringBufferOutputStream, Charset charset, Collection<Predicate<String>> filters,
+			Collection<Consumer<String>> lineListeners) {
+
+			_ringBufferOutputStream = ringBufferOutputStream;
+			_charset = charset;
+			_filters = filters;
+			_lineListeners = lineListeners;
+		}
+
+		public synchronized String getPendingLine() {
+			if (_lineOutputStream.size() == 0) {
+				return "";
+			}
+
+			String line = _toLine(_lineOutputStream.toByteArray());
+
+			if (_isBlank(line) || _isFiltered(line)) {
+				return "";
+			}
+
+			return _getLines(_blankLines, line);
+		}
+
+		@Override
+		public synchronized void write(byte[] bytes, int offset, int length) {
+			int start = offset;
+
+			for (int i = offset; i < (offset + length); i++) {
+				if (bytes[i] == '\n') {
+					_lineOutputStream.write(bytes, start, i - start);
+
+					_processLine();
+
+					start = i + 1;
+				}
+			}
+
+			_lineOutputStream.write(bytes, start, offset + length - start);
+
+			if (_lineOutputStream.size() >= _ringBufferOutputStream.getCapacity()) {
+				_processLine();
+			}
+		}
 
-					Stream<Predicate<String>> filtersStream = _filters.stream();
+		@Override
+		public synchronized void write(int b) {
+			write(new byte[] {(byte)b}, 0, 1);
+		}
+
+		private String _getLines(int blankLines, String line) {
+			StringBuilder sb = new StringBuilder();
+
+			for (int i = 0; i < blankLines; i++) {
+				sb.append(System.lineSeparator());
+			}
 
-					if (filtersStream.anyMatch(predicate -> predicate.test(line))) {
-						continue;
-					}
+			sb.append(line);
+			sb.append(System.lineSeparator());
+
+			return sb.toString();
+		}
+
+		private boolean _isBlank(String line) {
+			String trimmedLine = line.trim();
+
+			return trimmedLine.isEmpty();
+		}
 
-					stringBuilder.append(line + System.lineSeparator());
+		private boolean _isFiltered(String line) {
+			for (Predicate<String> filter : _filters) {
+				if (filter.test(line)) {
+					return true;
 				}
 			}
 
-			return stringBuilder.toString();
+			return false;
+		}
+
+		private void _processLine() {
+			String line = _toLine(_lineOutputStream.toByteArray());
+
+			_lineOutputStream.reset();
+
+			if (_isFiltered(line)) {
+				return;
+			}
+
+			for (Consumer<String> lineListener : _lineListeners) {
+				lineListener.accept(line);
+			}
+
+			if (_isBlank(line)) {
+				_blankLines++;
+
+				return;
+			}
+
+			String lines = _getLines(_blankLines, line);
+
+			_blankLines = 0;
+
+			byte[] bytes = lines.getBytes(_charset);
+
+			_ringBufferOutputStream.write(bytes, 0, bytes.length);
+		}
+
+		private String _toLine(byte[] bytes) {
+			int length = bytes.length;
+
+			if ((length > 0) && (bytes[length - 1] == '\r')) {
+				length--;
+			}
+
+			return new String(bytes, 0, length, _charset);
 		}
 
-		private Collection<Predicate<String>> _filters;
+		private int _blankLines;
+		private final Charset _charset;
+		private final Collection<Predicate<String>> _filters;
+		private final Collection<Consumer<String>> _lineListeners;
+		private final ByteArrayOutputStream _lineOutputStream = new ByteArrayOutputStream();
+		private final RingBufferOutputStream _ringBufferOutputStream;
 
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli;
+
+import com.liferay.blade.cli.command.UpdateArgs;
+import com.liferay.blade.cli.command.UpdateCommand;
+import com.liferay.blade.cli.command.VersionCommand;
+import com.liferay.blade.cli.util.BladeUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import java.time.Instant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * @author Gregory Amerson
+ */
+public class UpdateCheck {
+
+	public static final String CURRENT_VERSION_KEY = "currentVersion";
+
+	public static final String LAST_UPDATE_CHECK_KEY = "lastUpdateCheck";
+
+	public static final String NOTIFIED_KEY = "notified";
+
+	public static final String RELEASE_UPDATE_VERSION_KEY = "releaseUpdateVersion";
+
+	public static final String SNAPSHOT_UPDATE_VERSION_KEY = "snapshotUpdateVersion";
+
+	public static void main(String[] args) throws Exception {
+		UpdateCheck updateCheck = new UpdateCheck(Paths.get(args[0]));
+
+		updateCheck.run();
+	}
+
+	public static Properties read(Path updateCheckPath) throws IOException {
+		Properties properties = new Properties();
+
+		if (Files.exists(updateCheckPath)) {
+			try (InputStream inputStream = Files.newInputStream(updateCheckPath)) {
+				properties.load(inputStream);
+			}
+		}
+
+		return properties;
+	}
+
+	public static void start(Path updateCheckPath) throws IOException {
+		Path bladeJarPath = BladeUtil.getBladeJarPath();
+
+		if ((bladeJarPath != null) && Files.isRegularFile(bladeJarPath)) {
+			Path javaHomePath = Paths.get(System.getProperty("java.home"));
+
+			String java = BladeUtil.isWindows() ? "java.exe" : "java";
+
+			List<String> command = new ArrayList<>();
+
+			command.add(String.valueOf(javaHomePath.resolve("bin/" + java)));
+			command.addAll(ClassDataSharing.getJvmArguments());
+			command.add("-cp");
+			command.add(String.valueOf(bladeJarPath));
+			command.add(UpdateCheck.class.getName());
+			command.add(String.valueOf(updateCheckPath));
+
+			ProcessBuilder processBuilder = new ProcessBuilder(command);
+
+			processBuilder.redirectErrorStream(true);
+			processBuilder.redirectInput(ProcessBuilder.Redirect.from(_NULL_FILE));
+			processBuilder.redirectOutput(ProcessBuilder.Redirect.appendTo(_NULL_FILE));
+
+			processBuilder.start();
+
+			return;
+		}
+
+		UpdateCheck updateCheck = new UpdateCheck(updateCheckPath);
+
+		Thread thread = new Thread(
+			() -> {
+				try {
+					updateCheck.run();
+				}
+				catch (Exception exception) {
+				}
+			},
+			"blade-update-check");
+
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+
+		thread.start();
+	}
+
+	public static void write(Path updateCheckPath, Properties properties) throws IOException {
+		Files.createDirectories(updateCheckPath.getParent());
+
+		Path tempPath = Files.createTempFile(updateCheckPath.getParent(), "updateCheck", ".tmp");
+
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(tempPath)) {
+				properties.store(outputStream, null);
+			}
+
+			try {
+				Files.move(
+					tempPath, updateCheckPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException atomicMoveNotSupportedException) {
+				Files.move(tempPath, updateCheckPath, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+
+	public UpdateCheck(Path updateCheckPath) {
+		_updateCheckPath = updateCheckPath;
+	}
+
+	public void run() throws Exception {
+		StringPrintStream out = StringPrintStream.newInstance();
+		StringPrintStream error = StringPrintStream.newInstance();
+
+		BladeCLI bladeCLI = new BladeCLI(out, error, new ByteArrayInputStream(new byte[0]));
+
+		UpdateArgs updateArgs = new UpdateArgs();
+
+		updateArgs.setCheckOnly(true);
+
+		UpdateCommand updateCommand = new UpdateCommand(bladeCLI);
+
+		updateCommand.setArgs(updateArgs);
+
+		updateCommand.execute();
+
+		Properties properties = read(_updateCheckPath);
+
+		properties.setProperty(CURRENT_VERSION_KEY, VersionCommand.getBladeCLIVersion());
+		properties.setProperty(LAST_UPDATE_CHECK_KEY, String.valueOf(Instant.now().toEpochMilli()));
+		properties.setProperty(NOTIFIED_KEY, String.valueOf(false));
+
+		_setVersion(properties, RELEASE_UPDATE_VERSION_KEY, updateCommand.getReleaseUpdateVersion());
+		_setVersion(properties, SNAPSHOT_UPDATE_VERSION_KEY, _getSnapshotUpdateVersion(updateCommand));
+
+		write(_updateCheckPath, properties);
+	}
+
+	private static Optional<String> _getSnapshotUpdateVersion(UpdateCommand updateCommand) {
+		Optional<String> snapshotUpdateVersionOptional = updateCommand.getSnapshotUpdateVersion();
+
+		if (!snapshotUpdateVersionOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		String snapshotUpdateVersion = snapshotUpdateVersionOptional.get();
+
+		if (snapshotUpdateVersion.length() >= 19) {
+			snapshotUpdateVersion = snapshotUpdateVersion.substring(0, 14) + snapshotUpdateVersion.substring(15, 19);
+		}
+
+		snapshotUpdateVersion = snapshotUpdateVersion.replace('-', '.');
+
+		return Optional.of(snapshotUpdateVersion.trim());
+	}
+
+	private static void _setVersion(Properties properties, String key, Optional<String> version) {
+		if (version.isPresent()) {
+			properties.setProperty(key, version.get());
+		}
+		else {
+			properties.remove(key);
+		}
+	}
+
+	private static final File _NULL_FILE = new File(BladeUtil.isWindows() ? "NUL" : "/dev/null");
+
+	private final Path _updateCheckPath;
+
+}
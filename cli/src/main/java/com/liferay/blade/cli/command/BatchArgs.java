@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.command;
+
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+
+/**
+ * @author Gregory Amerson
+ */
+@Parameters(
+	commandDescription = "Runs the blade command lines in a file, one per line, in a single process.",
+	commandNames = "batch"
+)
+public class BatchArgs extends BaseArgs {
+
+	public String getFile() {
+		return _file;
+	}
+
+	public int getParallel() {
+		return _parallel;
+	}
+
+	public void setFile(String file) {
+		_file = file;
+	}
+
+	public void setParallel(int parallel) {
+		_parallel = parallel;
+	}
+
+	@Parameter(description = "The file of command lines to run, or - to read them from standard input.")
+	private String _file;
+
+	@Parameter(
+		description = "The number of command lines to run at the same time. Lines with the same --base run in order.",
+		names = "--parallel"
+	)
+	private int _parallel = 1;
+
+}
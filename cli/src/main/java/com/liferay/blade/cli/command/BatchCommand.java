@@ -0,0 +1,388 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.command;
+
+import com.liferay.blade.cli.BladeCLI;
+import com.liferay.blade.cli.BladeExecutionException;
+import com.liferay.blade.cli.ExtensionsClassLoaderSupplier;
+import com.liferay.blade.cli.StringPrintStream;
+import com.liferay.blade.cli.util.BladeUtil;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.io.input.CloseShieldInputStream;
+
+/**
+ * @author Gregory Amerson
+ */
+public class BatchCommand extends BaseCommand<BatchArgs> {
+
+	public BatchCommand() {
+	}
+
+	@Override
+	public void execute() throws Exception {
+		BatchArgs batchArgs = getArgs();
+
+		BladeCLI bladeCLI = getBladeCLI();
+
+		String file = batchArgs.getFile();
+
+		List<String> lines;
+
+		if ((file == null) || file.equals("-")) {
+			lines = _readLines(bladeCLI.in());
+		}
+		else {
+			File batchFile = new File(file);
+
+			if (!batchFile.isAbsolute()) {
+				batchFile = new File(batchArgs.getBase(), file);
+			}
+
+			if (!batchFile.exists()) {
+				bladeCLI.error("Batch file " + batchFile + " does not exist.");
+
+				return;
+			}
+
+			lines = Files.readAllLines(batchFile.toPath());
+		}
+
+		List<List<BatchLine>> stages = _getStages(lines, batchArgs.getBase());
+
+		int total = 0;
+
+		for (List<BatchLine> stage : stages) {
+			total += stage.size();
+		}
+
+		int parallel = Math.max(1, batchArgs.getParallel());
+
+		ExecutorService executorService = Executors.newFixedThreadPool(parallel);
+
+		int failed = 0;
+		int skipped = 0;
+
+		try {
+			for (List<BatchLine> stage : stages) {
+				if (failed > 0) {
+					for (BatchLine batchLine : stage) {
+						batchLine.skip();
+
+						_printResult(batchLine, total);
+					}
+
+					skipped += stage.size();
+
+					continue;
+				}
+
+				for (List<BatchLine> chain : _getChains(stage, parallel)) {
+					executorService.submit(() -> _runChain(chain));
+				}
+
+				for (BatchLine batchLine : stage) {
+					batchLine.await();
+
+					_printResult(batchLine, total);
+
+					if (batchLine.isSkipped()) {
+						skipped++;
+					}
+					else if (batchLine.getReturnCode() != 0) {
+						failed++;
+					}
+				}
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		if (failed > 0) {
+			String message = failed + " of " + total + " batch command lines failed, " + skipped + " skipped.";
+
+			bladeCLI.error(message);
+
+			throw new BladeExecutionException(message, 1);
+		}
+
+		if (!batchArgs.isQuiet()) {
+			bladeCLI.out("Finished " + total + " batch command lines.");
+		}
+	}
+
+	@Override
+	public Class<BatchArgs> getArgsClass() {
+		return BatchArgs.class;
+	}
+
+	private List<List<BatchLine>> _getChains(List<BatchLine> stage, int parallel) {
+		if (parallel == 1) {
+			return Arrays.asList(stage);
+		}
+
+		Map<File, List<BatchLine>> chains = new LinkedHashMap<>();
+
+		for (BatchLine batchLine : stage) {
+			List<BatchLine> chain = chains.computeIfAbsent(batchLine.getBaseDir(), baseDir -> new ArrayList<>());
+
+			chain.add(batchLine);
+		}
+
+		return new ArrayList<>(chains.values());
+	}
+
+	private List<List<BatchLine>> _getStages(List<String> lines, File baseDir) {
+		List<List<BatchLine>> stages = new ArrayList<>();
+
+		List<BatchLine> stage = new ArrayList<>();
+
+		int number = 0;
+
+		for (String line : lines) {
+			line = line.trim();
+
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+
+			if (line.equals("wait")) {
+				if (!stage.isEmpty()) {
+					stages.add(stage);
+
+					stage = new ArrayList<>();
+				}
+
+				continue;
+			}
+
+			List<String> args = BladeUtil.tokenize(line);
+
+			if (args.get(0).equals("blade")) {
+				args.remove(0);
+			}
+
+			File lineBaseDir = baseDir;
+
+			int baseIndex = args.indexOf("--base");
+
+			if ((baseIndex >= 0) && ((baseIndex + 1) < args.size())) {
+				lineBaseDir = new File(args.get(baseIndex + 1));
+
+				if (!lineBaseDir.isAbsolute()) {
+					lineBaseDir = new File(baseDir, args.get(baseIndex + 1));
+				}
+
+				args.set(baseIndex + 1, lineBaseDir.getAbsolutePath());
+			}
+			else {
+				args.add(0, "--base");
+				args.add(1, baseDir.getAbsolutePath());
+			}
+
+			stage.add(new BatchLine(++number, line, args.toArray(new String[0]), lineBaseDir.getAbsoluteFile()));
+		}
+
+		if (!stage.isEmpty()) {
+			stages.add(stage);
+		}
+
+		return stages;
+	}
+
+	private void _printResult(BatchLine batchLine, int total) {
+		BladeCLI bladeCLI = getBladeCLI();
+
+		String prefix = "[" + batchLine.getNumber() + "/" + total + "] ";
+
+		bladeCLI.out(prefix + batchLine.getLine());
+
+		if (batchLine.isSkipped()) {
+			bladeCLI.out(prefix + "skipped");
+
+			return;
+		}
+
+		PrintStream out = bladeCLI.out();
+
+		out.print(batchLine.getOutput());
+
+		PrintStream error = bladeCLI.error();
+
+		error.print(batchLine.getError());
+
+		if (batchLine.getReturnCode() != 0) {
+			bladeCLI.error(prefix + "failed with exit code " + batchLine.getReturnCode());
+		}
+	}
+
+	private List<String> _readLines(InputStream inputStream) throws Exception {
+		List<String> lines = new ArrayList<>();
+
+		try (CloseShieldInputStream closeShieldInputStream = new CloseShieldInputStream(inputStream);
+			BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(closeShieldInputStream))) {
+
+			String line;
+
+			while ((line = bufferedReader.readLine()) != null) {
+				lines.add(line);
+			}
+		}
+
+		return lines;
+	}
+
+	private void _runChain(List<BatchLine> chain) {
+		BladeCLI bladeCLI = getBladeCLI();
+
+		ExtensionsClassLoaderSupplier extensionsClassLoaderSupplier = bladeCLI.getExtensionsClassLoaderSupplier();
+
+		boolean failed = false;
+
+		for (BatchLine batchLine : chain) {
+			if (failed) {
+				batchLine.skip();
+
+				continue;
+			}
+
+			StringPrintStream out = StringPrintStream.newInstance();
+			StringPrintStream error = StringPrintStream.newInstance();
+
+			int returnCode = 0;
+
+			BladeCLI lineBladeCLI = new BladeCLI(
+				out, error, new ByteArrayInputStream(new byte[0]), extensionsClassLoaderSupplier) {
+
+				@Override
+				public void postRunCommand() {
+				}
+
+			};
+
+			try {
+				lineBladeCLI.run(batchLine.getArgs());
+			}
+			catch (BladeExecutionException bladeExecutionException) {
+				returnCode = bladeExecutionException.getReturnCode();
+			}
+			catch (Throwable throwable) {
+				throwable.printStackTrace(error);
+
+				returnCode = 1;
+			}
+
+			if ((returnCode == 0) && lineBladeCLI.isFailed()) {
+				returnCode = 1;
+			}
+
+			batchLine.complete(out.get(), error.get(), returnCode);
+
+			failed = returnCode != 0;
+		}
+	}
+
+	private static class BatchLine {
+
+		public BatchLine(int number, String line, String[] args, File baseDir) {
+			_number = number;
+			_line = line;
+			_args = args;
+			_baseDir = baseDir;
+		}
+
+		public void await() throws Exception {
+			_result.get();
+		}
+
+		public void complete(String output, String error, int returnCode) {
+			_output = output;
+			_error = error;
+			_returnCode = returnCode;
+
+			_result.complete(null);
+		}
+
+		public String[] getArgs() {
+			return _args;
+		}
+
+		public File getBaseDir() {
+			return _baseDir;
+		}
+
+		public String getError() {
+			return _error;
+		}
+
+		public String getLine() {
+			return _line;
+		}
+
+		public int getNumber() {
+			return _number;
+		}
+
+		public String getOutput() {
+			return _output;
+		}
+
+		public int getReturnCode() {
+			return _returnCode;
+		}
+
+		public boolean isSkipped() {
+			return _skipped;
+		}
+
+		public void skip() {
+			_skipped = true;
+
+			_result.complete(null);
+		}
+
+		private final String[] _args;
+		private final File _baseDir;
+		private String _error = "";
+		private final String _line;
+		private final int _number;
+		private String _output = "";
+		private final CompletableFuture<Void> _result = new CompletableFuture<>();
+		private int _returnCode;
+		private boolean _skipped;
+
+	}
+
+}
@@ -109,9 +109,9 @@ public class CreateCommand extends BaseCommand<CreateArgs> {
 		File argsDir = createArgs.getDir();
 
 		if (Objects.equals(template, "client-extension") && Objects.isNull(argsDir)) {
-			Path destinationPath = BladeUtil.getCurrentPath();
+			BladeCLI bladeCLI = getBladeCLI();
 
-			argsDir = destinationPath.toFile();
+			argsDir = bladeCLI.getWorkingDir();
 		}
 
 		File baseDir = createArgs.getBase();
@@ -23,16 +23,26 @@ import com.beust.jcommander.Parameters;
  * @author Gregory Amerson
  */
 @Parameters(commandDescription = "Builds and deploys bundles to the Liferay module framework.", commandNames = "deploy")
-public class DeployArgs extends BaseArgs {
+public class DeployArgs extends TaskTimingsArgs {
 
 	public CommandType getCommandType() {
 		return CommandType.WORKSPACE_ONLY;
 	}
 
+	public boolean isIncremental() {
+		return _incremental;
+	}
+
 	public boolean isWatch() {
 		return _watch;
 	}
 
+	@Parameter(
+		description = "Only deploy projects whose sources or build files changed since their last successful deploy.",
+		names = "--incremental"
+	)
+	private boolean _incremental;
+
 	@Parameter(
 		description = "Watches the deployed file for changes and will automatically redeploy", names = {"-w", "--watch"}
 	)
@@ -18,12 +18,20 @@ package com.liferay.blade.cli.command;
 
 import com.liferay.blade.cli.BladeCLI;
 import com.liferay.blade.cli.WorkspaceProvider;
+import com.liferay.blade.cli.gradle.DeployFingerprints;
 import com.liferay.blade.cli.gradle.GradleExec;
+import com.liferay.blade.cli.gradle.GradleTooling;
 import com.liferay.blade.cli.gradle.ProcessResult;
+import com.liferay.blade.cli.gradle.TaskTimings;
+import com.liferay.blade.gradle.tooling.ProjectInfo;
 
 import java.io.File;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * @author Gregory Amerson
@@ -45,7 +53,23 @@ public class DeployCommand extends BaseCommand<DeployArgs> {
 
 		WorkspaceProvider workspaceProvider = bladeCLI.getWorkspaceProvider(baseDir);
 
-		if (workspaceProvider != null) {
+		if (deployArgs.isIncremental()) {
+			if (workspaceProvider != null) {
+				File workspaceDir = workspaceProvider.getWorkspaceDir(baseDir);
+
+				ProjectInfo projectInfo = GradleTooling.loadProjectInfo(workspaceDir.toPath());
+
+				Map<String, File> projectDirs = projectInfo.getProjectDirs();
+
+				_deployChanged(
+					gradleExec, "deploy", workspaceDir,
+					DeployFingerprints.getProjectDirs(workspaceDir, baseDir, projectDirs.values()));
+			}
+			else {
+				_deployChanged(gradleExec, "clean deploy", baseDir, Collections.singleton(baseDir));
+			}
+		}
+		else if (workspaceProvider != null) {
 			_deploy(gradleExec, "deploy");
 		}
 		else {
@@ -69,7 +93,20 @@ public class DeployCommand extends BaseCommand<DeployArgs> {
 
 		File baseDir = deployArgs.getBase();
 
-		ProcessResult processResult = gradle.executeTask(command, baseDir, false);
+		TaskTimings taskTimings = TaskTimings.create(deployArgs);
+
+		gradle.setTaskProgressListener(taskTimings);
+
+		ProcessResult processResult = null;
+
+		try {
+			processResult = gradle.executeTask(command, baseDir, false);
+		}
+		finally {
+			if (taskTimings != null) {
+				taskTimings.report(getBladeCLI(), deployArgs);
+			}
+		}
 
 		int resultCode = processResult.getResultCode();
 
@@ -88,4 +125,71 @@ public class DeployCommand extends BaseCommand<DeployArgs> {
 		}
 	}
 
+	private void _deployChanged(GradleExec gradle, String command, File rootDir, Collection<File> projectDirs)
+		throws Exception {
+
+		BladeCLI bladeCLI = getBladeCLI();
+
+		DeployArgs deployArgs = getArgs();
+
+		DeployFingerprints deployFingerprints = new DeployFingerprints(rootDir);
+
+		Map<File, String> changedProjects = deployFingerprints.getChangedProjects(projectDirs);
+
+		if (changedProjects.isEmpty()) {
+			if (!deployArgs.isQuiet()) {
+				bladeCLI.out("No projects changed since the last deploy.");
+			}
+
+			return;
+		}
+
+		if (!deployArgs.isQuiet()) {
+			bladeCLI.out("Deploying " + changedProjects.size() + " changed project(s)...");
+		}
+
+		TaskTimings taskTimings = TaskTimings.create(deployArgs);
+
+		gradle.setTaskProgressListener(taskTimings);
+
+		Map<File, ProcessResult> processResults = null;
+
+		try {
+			processResults = gradle.executeTask(command, changedProjects.keySet(), false);
+		}
+		finally {
+			if (taskTimings != null) {
+				taskTimings.report(bladeCLI, deployArgs);
+			}
+		}
+
+		List<String> failedProjects = new ArrayList<>();
+
+		for (Map.Entry<File, ProcessResult> entry : processResults.entrySet()) {
+			File projectDir = entry.getKey();
+			ProcessResult processResult = entry.getValue();
+
+			if (processResult.getResultCode() > 0) {
+				deployFingerprints.remove(projectDir);
+
+				failedProjects.add(String.valueOf(projectDir));
+			}
+			else {
+				deployFingerprints.update(projectDir, changedProjects.get(projectDir));
+			}
+		}
+
+		deployFingerprints.write();
+
+		if (!failedProjects.isEmpty()) {
+			_addError("Gradle \"" + command + "\" task failed for " + String.join(", ", failedProjects) + ".");
+
+			return;
+		}
+
+		if (!deployArgs.isQuiet()) {
+			bladeCLI.out("Gradle \"" + command + "\" task succeeded.");
+		}
+	}
+
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import com.liferay.blade.cli.WorkspaceProvider;
 import com.liferay.blade.cli.command.validator.ParameterPossibleValues;
 import com.liferay.blade.cli.gradle.GradleExec;
 import com.liferay.blade.cli.util.BladeUtil;
+import com.liferay.blade.cli.util.ProductIndex;
 import com.liferay.blade.cli.util.ProductInfo;
 import com.liferay.project.templates.ProjectTemplates;
 import com.liferay.project.templates.extensions.ProjectTemplatesArgs;
@@ -65,7 +66,6 @@ public class InitCommand extends BaseCommand<InitArgs> {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void execute() throws Exception {
 		BladeCLI bladeCLI = getBladeCLI();
 
@@ -207,7 +207,7 @@ public class InitCommand extends BaseCommand<InitArgs> {
 		String liferayVersion;
 		String workspaceProductKey;
 
-		Map<String, Object> productInfos = BladeUtil.getProductInfos(initArgs.isTrace(), bladeCLI.error());
+		ProductIndex productIndex = BladeUtil.getProductIndex(initArgs.isTrace(), bladeCLI.error());
 
 		if (!mavenBuild) {
 			workspaceProductKey = _getDefaultProductKey(initArgs);
@@ -220,16 +220,14 @@ public class InitCommand extends BaseCommand<InitArgs> {
 				return;
 			}
 
-			Object productInfoObject = productInfos.get(workspaceProductKey);
+			ProductInfo productInfo = productIndex.getProductInfo(workspaceProductKey);
 
-			if (productInfoObject == null) {
+			if (productInfo == null) {
 				_addError("Unable to get product info for selected version " + workspaceProductKey);
 
 				return;
 			}
 
-			ProductInfo productInfo = new ProductInfo((Map<String, String>)productInfoObject);
-
 			Version targetPlatformVersion = _makeCompatibleVersion(productInfo.getTargetPlatformVersion());
 
 			liferayVersion = new String(
@@ -237,7 +235,7 @@ public class InitCommand extends BaseCommand<InitArgs> {
 					targetPlatformVersion.getMicro());
 		}
 		else {
-			liferayVersion = _getDefaultMavenTargetPlatformVersion(productInfos, initArgs);
+			liferayVersion = _getDefaultMavenTargetPlatformVersion(productIndex, initArgs);
 
 			workspaceProductKey = liferayVersion;
 		}
@@ -324,20 +322,17 @@ public class InitCommand extends BaseCommand<InitArgs> {
 		getBladeCLI().addErrors("init", Collections.singleton(msg));
 	}
 
-	@SuppressWarnings("unchecked")
-	private String _getDefaultMavenTargetPlatformVersion(Map<String, Object> productInfos, InitArgs initArgs)
+	private String _getDefaultMavenTargetPlatformVersion(ProductIndex productIndex, InitArgs initArgs)
 		throws Exception {
 
 		String possibleProductKey = _getDefaultProductKey(initArgs);
 
-		Object productInfoObject = productInfos.get(possibleProductKey);
+		ProductInfo productInfo = productIndex.getProductInfo(possibleProductKey);
 
-		if (productInfoObject == null) {
+		if (productInfo == null) {
 			return possibleProductKey;
 		}
 
-		ProductInfo productInfo = new ProductInfo((Map<String, String>)productInfoObject);
-
 		return productInfo.getTargetPlatformVersion();
 	}
 
@@ -29,7 +29,17 @@ public class InstallExtensionArgs extends BaseArgs {
 		return _path;
 	}
 
+	public boolean isRefreshModel() {
+		return _refreshModel;
+	}
+
 	@Parameter(description = "[path]", required = true)
 	private String _path;
 
+	@Parameter(
+		description = "Configure the Gradle build again instead of using the cached project model.",
+		names = "--refresh-model"
+	)
+	private boolean _refreshModel;
+
 }
\ No newline at end of file
@@ -292,7 +292,9 @@ public class InstallExtensionCommand extends BaseCommand<InstallExtensionArgs> {
 	private Set<Path> _gradleAssemble(Path projectPath) throws Exception {
 		GradleExec gradleExec = new GradleExec(getBladeCLI());
 
-		ProjectInfo projectInfo = GradleTooling.loadProjectInfo(projectPath);
+		InstallExtensionArgs installExtensionArgs = getArgs();
+
+		ProjectInfo projectInfo = GradleTooling.loadProjectInfo(projectPath, installExtensionArgs.isRefreshModel());
 
 		ProcessResult processResult = gradleExec.executeTask("assemble -x check", projectPath.toFile());
 
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.command;
+
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+
+/**
+ * @author Gregory Amerson
+ */
+@Parameters(
+	commandDescription = "Generates a class data sharing archive that shortens the startup time of blade.",
+	commandNames = "optimize"
+)
+public class OptimizeArgs extends BaseArgs {
+
+	public boolean isForce() {
+		return _force;
+	}
+
+	public void setForce(boolean force) {
+		_force = force;
+	}
+
+	@Parameter(description = "Generate the archive even if it is up to date.", names = {"-f", "--force"})
+	private boolean _force;
+
+}
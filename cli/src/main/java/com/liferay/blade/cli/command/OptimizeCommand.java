@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.command;
+
+import com.liferay.blade.cli.BladeCLI;
+import com.liferay.blade.cli.ClassDataSharing;
+
+import java.nio.file.Path;
+
+/**
+ * @author Gregory Amerson
+ */
+public class OptimizeCommand extends BaseCommand<OptimizeArgs> {
+
+	public OptimizeCommand() {
+	}
+
+	@Override
+	public void execute() throws Exception {
+		BladeCLI bladeCLI = getBladeCLI();
+
+		if (!ClassDataSharing.isSupported()) {
+			bladeCLI.error("Class data sharing requires blade to run from its jar on Java 13 or newer.");
+
+			return;
+		}
+
+		OptimizeArgs optimizeArgs = getArgs();
+
+		Path archivePath = ClassDataSharing.getArchivePath();
+
+		if (!optimizeArgs.isForce() && ClassDataSharing.isCurrent()) {
+			bladeCLI.out("The class data sharing archive " + archivePath + " is up to date.");
+		}
+		else {
+			ClassDataSharing.generate();
+
+			bladeCLI.out("Generated the class data sharing archive " + archivePath + ".");
+		}
+
+		bladeCLI.out("Add the following option to the java command that launches blade, or to JDK_JAVA_OPTIONS:");
+		bladeCLI.out(String.join(" ", ClassDataSharing.getJvmArguments()));
+	}
+
+	@Override
+	public Class<OptimizeArgs> getArgsClass() {
+		return OptimizeArgs.class;
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package com.liferay.blade.cli.command;
 
+import com.beust.jcommander.Parameter;
 import com.beust.jcommander.Parameters;
 
 /**
@@ -28,4 +29,14 @@ public class OutputsArgs extends BaseArgs {
 		return CommandType.HIDDEN;
 	}
 
+	public boolean isRefreshModel() {
+		return _refreshModel;
+	}
+
+	@Parameter(
+		description = "Configure the Gradle build again instead of using the cached project model.",
+		names = "--refresh-model"
+	)
+	private boolean _refreshModel;
+
 }
\ No newline at end of file
@@ -39,11 +39,11 @@ public class OutputsCommand extends BaseCommand<OutputsArgs> {
 	public void execute() throws Exception {
 		BladeCLI bladeCLI = getBladeCLI();
 
-		BaseArgs args = bladeCLI.getArgs();
+		OutputsArgs outputsArgs = getArgs();
 
-		File base = args.getBase();
+		File base = outputsArgs.getBase();
 
-		ProjectInfo projectInfo = GradleTooling.loadProjectInfo(base.toPath());
+		ProjectInfo projectInfo = GradleTooling.loadProjectInfo(base.toPath(), outputsArgs.isRefreshModel());
 
 		Map<String, Set<File>> projectOutputFiles = projectInfo.getProjectOutputFiles();
 
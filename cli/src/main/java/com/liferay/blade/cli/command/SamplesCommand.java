@@ -348,7 +348,7 @@ public class SamplesCommand extends BaseCommand<SamplesArgs> {
 
 			parentSubprojectsScript = _removeGradleSection(parentSubprojectsScript, "buildscript");
 
-			System.out.println(parentSubprojectsScript);
+			bladeCLI.out(parentSubprojectsScript);
 
 			script = parentBuildScript + parentSubprojectsScript + script;
 		}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.command;
+
+import com.beust.jcommander.Parameter;
+
+import java.io.File;
+
+/**
+ * @author Gregory Amerson
+ */
+public class TaskTimingsArgs extends BaseArgs {
+
+	public File getTimingsFile() {
+		return _timingsFile;
+	}
+
+	public boolean isTimings() {
+		return _timings;
+	}
+
+	@Parameter(description = "Print how long each Gradle task took.", names = "--timings")
+	private boolean _timings;
+
+	@Parameter(description = "Write the Gradle task timings as JSON to this file.", names = "--timings-file")
+	private File _timingsFile;
+
+}
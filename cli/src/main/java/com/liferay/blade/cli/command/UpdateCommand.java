@@ -713,7 +713,9 @@ public class UpdateCommand extends BaseCommand<UpdateArgs> {
 			currentVersion = VersionCommand.getBladeCLIVersion();
 		}
 		catch (IOException ioException) {
-			System.err.println("Could not determine current blade version, continuing with update.");
+			BladeCLI bladeCLI = getBladeCLI();
+
+			bladeCLI.error("Could not determine current blade version, continuing with update.");
 		}
 
 		return new BladeVersions(currentVersion, _getUpdateVersion(false), _getUpdateVersion(true));
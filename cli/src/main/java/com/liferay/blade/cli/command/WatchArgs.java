@@ -19,6 +19,8 @@ package com.liferay.blade.cli.command;
 import com.beust.jcommander.Parameter;
 import com.beust.jcommander.Parameters;
 
+import java.io.File;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -33,7 +35,7 @@ import java.util.stream.Stream;
 	commandDescription = "Watch for changes to workspace projects and automatically build, deploy, or update them into running Liferay instance.",
 	commandNames = "watch"
 )
-public class WatchArgs extends BaseArgs {
+public class WatchArgs extends TaskTimingsArgs {
 
 	public CommandType getCommandType() {
 		return CommandType.WORKSPACE_ONLY;
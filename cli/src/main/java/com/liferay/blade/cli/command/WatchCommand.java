@@ -18,6 +18,8 @@ package com.liferay.blade.cli.command;
 
 import com.liferay.blade.cli.BladeCLI;
 import com.liferay.blade.cli.gradle.GradleExec;
+import com.liferay.blade.cli.gradle.ProcessResult;
+import com.liferay.blade.cli.gradle.TaskTimings;
 
 import com.sun.nio.file.SensitivityWatchEventModifier;
 
@@ -42,9 +44,13 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -109,6 +115,12 @@ public class WatchCommand extends BaseCommand<WatchArgs> {
 		pathMatchers.add(fileSystem.getPathMatcher("glob:" + pattern));
 	}
 
+	private void _addProjectTask(Map<String, Set<File>> projectTasks, String task, Path projectPath) {
+		Set<File> projectDirs = projectTasks.computeIfAbsent(task, key -> new LinkedHashSet<>());
+
+		projectDirs.add(projectPath.toFile());
+	}
+
 	private String _getGradlePath(Path path, Path basePath) {
 		String gradlePath = ":" + String.valueOf(basePath.relativize(path));
 
@@ -268,6 +280,8 @@ public class WatchCommand extends BaseCommand<WatchArgs> {
 
 				BaseArgs baseArgs = bladeCLI.getArgs();
 
+				WatchArgs watchArgs = getArgs();
+
 				try (final FileSystem fileSystem = FileSystems.getDefault();
 					final WatchService watchService = fileSystem.newWatchService()) {
 
@@ -283,120 +297,166 @@ public class WatchCommand extends BaseCommand<WatchArgs> {
 
 					final GradleExec gradleExec = new GradleExec(bladeCLI);
 
+					final TaskTimings taskTimings = TaskTimings.create(watchArgs);
+
+					gradleExec.setTaskProgressListener(taskTimings);
+
 					if (deploy) {
 						if (!baseArgs.isQuiet()) {
 							bladeCLI.out("Deploying...  To skip initial deployment, use `blade watch -s`");
 						}
 
 						gradleExec.executeTask("deploy", false);
+
+						if (taskTimings != null) {
+							taskTimings.report(bladeCLI, watchArgs);
+						}
 					}
 
 					while (true) {
-						WatchKey watchKey;
+						List<WatchKey> readyWatchKeys = new ArrayList<>();
 
 						try {
-							watchKey = watchService.take();
-						}
-						catch (InterruptedException interruptedException) {
-							continue;
-						}
+							readyWatchKeys.add(watchService.take());
 
-						Path dir = watchKeys.get(watchKey);
+							WatchKey readyWatchKey = watchService.poll(_BATCH_DELAY, TimeUnit.MILLISECONDS);
 
-						if (dir == null) {
-							bladeCLI.error("WatchKey not recognized!!");
+							while (readyWatchKey != null) {
+								readyWatchKeys.add(readyWatchKey);
 
-							continue;
+								readyWatchKey = watchService.poll(_BATCH_DELAY, TimeUnit.MILLISECONDS);
+							}
+						}
+						catch (InterruptedException interruptedException) {
+							if (readyWatchKeys.isEmpty()) {
+								continue;
+							}
 						}
 
-						for (WatchEvent<?> event : watchKey.pollEvents()) {
-							WatchEvent.Kind<?> kind = event.kind();
+						Map<String, Set<File>> projectTasks = new LinkedHashMap<>();
 
-							Path path = (Path)event.context();
+						for (WatchKey watchKey : readyWatchKeys) {
+							Path dir = watchKeys.get(watchKey);
 
-							Path resolvedPath = dir.resolve(path);
+							if (dir == null) {
+								bladeCLI.error("WatchKey not recognized!!");
 
-							boolean ignoredPath = false;
+								continue;
+							}
 
-							for (PathMatcher pathMatcher : ignorePathMatchers) {
-								if (pathMatcher.matches(resolvedPath)) {
-									ignoredPath = true;
+							for (WatchEvent<?> event : watchKey.pollEvents()) {
+								WatchEvent.Kind<?> kind = event.kind();
 
-									break;
-								}
-							}
+								Path path = (Path)event.context();
 
-							if (ignoredPath) {
-								continue;
-							}
+								Path resolvedPath = dir.resolve(path);
 
-							boolean directory = Files.isDirectory(resolvedPath);
+								boolean ignoredPath = false;
 
-							Path projectPath = _getGradleProjectPath(watchPath, resolvedPath, projectPaths);
+								for (PathMatcher pathMatcher : ignorePathMatchers) {
+									if (pathMatcher.matches(resolvedPath)) {
+										ignoredPath = true;
 
-							if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-								if (directory) {
-									try {
-										_walkAndRegisterDirectories(
-											watchService, watchKeys, resolvedPath, ignorePathMatchers);
-									}
-									catch (IOException ioException) {
-										bladeCLI.error("Could not register directory:" + resolvedPath);
+										break;
 									}
 								}
 
-								if (!baseArgs.isQuiet()) {
-									bladeCLI.out(resolvedPath + " has been created, deploying...");
+								if (ignoredPath) {
+									continue;
 								}
 
-								gradleExec.executeTask("deploy", projectPath.toFile(), false);
-							}
-							else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
-								if (!baseArgs.isQuiet()) {
-									bladeCLI.out(resolvedPath + " has been deleted, redeploying...");
-								}
+								boolean directory = Files.isDirectory(resolvedPath);
 
-								gradleExec.executeTask("clean deploy", projectPath.toFile(), false);
-							}
-							else if (!directory) {
-								boolean fastExtension = false;
+								Path projectPath = _getGradleProjectPath(watchPath, resolvedPath, projectPaths);
 
-								for (PathMatcher pathMatcher : fastPathMatchers) {
-									if (pathMatcher.matches(resolvedPath)) {
-										fastExtension = true;
+								if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+									if (directory) {
+										try {
+											_walkAndRegisterDirectories(
+												watchService, watchKeys, resolvedPath, ignorePathMatchers);
+										}
+										catch (IOException ioException) {
+											bladeCLI.error("Could not register directory:" + resolvedPath);
+										}
+									}
 
-										break;
+									if (!baseArgs.isQuiet()) {
+										bladeCLI.out(resolvedPath + " has been created, deploying...");
 									}
-								}
 
-								if (fastExtension) {
+									_addProjectTask(projectTasks, "deploy", projectPath);
+								}
+								else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
 									if (!baseArgs.isQuiet()) {
-										bladeCLI.out(resolvedPath + " has changed, fast deploying...");
+										bladeCLI.out(resolvedPath + " has been deleted, redeploying...");
 									}
 
-									gradleExec.executeTask("deployFast -a", projectPath.toFile(), false);
+									_addProjectTask(projectTasks, "clean deploy", projectPath);
 								}
-								else {
-									System.out.println(resolvedPath + " has changed, deploying...");
+								else if (!directory) {
+									boolean fastExtension = false;
+
+									for (PathMatcher pathMatcher : fastPathMatchers) {
+										if (pathMatcher.matches(resolvedPath)) {
+											fastExtension = true;
+
+											break;
+										}
+									}
+
+									if (fastExtension) {
+										if (!baseArgs.isQuiet()) {
+											bladeCLI.out(resolvedPath + " has changed, fast deploying...");
+										}
+
+										_addProjectTask(projectTasks, "deployFast -a", projectPath);
+									}
+									else {
+										bladeCLI.out(resolvedPath + " has changed, deploying...");
 
-									gradleExec.executeTask("deploy -a", projectPath.toFile(), false);
+										_addProjectTask(projectTasks, "deploy -a", projectPath);
+									}
 								}
 							}
 
-							if (!baseArgs.isQuiet()) {
-								bladeCLI.out("Watching files in " + watchPath + ". Press Crtl + C to stop.");
+							boolean valid = watchKey.reset();
+
+							if (!valid) {
+								watchKeys.remove(watchKey);
 							}
 						}
 
-						boolean valid = watchKey.reset();
+						if (taskTimings != null) {
+							taskTimings.clear();
+						}
+
+						for (Map.Entry<String, Set<File>> entry : projectTasks.entrySet()) {
+							String task = entry.getKey();
 
-						if (!valid) {
-							watchKeys.remove(watchKey);
+							Map<File, ProcessResult> processResults = gradleExec.executeTask(
+								task, entry.getValue(), false);
 
-							if (watchKeys.isEmpty()) {
-								break;
+							for (Map.Entry<File, ProcessResult> processResultEntry : processResults.entrySet()) {
+								ProcessResult processResult = processResultEntry.getValue();
+
+								if (processResult.getResultCode() > 0) {
+									bladeCLI.error(
+										"Gradle \"" + task + "\" task failed in " + processResultEntry.getKey());
+								}
 							}
 						}
+
+						if (!projectTasks.isEmpty() && (taskTimings != null)) {
+							taskTimings.report(bladeCLI, watchArgs);
+						}
+
+						if (!projectTasks.isEmpty() && !baseArgs.isQuiet()) {
+							bladeCLI.out("Watching files in " + watchPath + ". Press Crtl + C to stop.");
+						}
+
+						if (watchKeys.isEmpty()) {
+							break;
+						}
 					}
 				}
 				catch (Exception exception) {
@@ -415,4 +475,6 @@ public class WatchCommand extends BaseCommand<WatchArgs> {
 		watchThread.join();
 	}
 
-}
\ No newline at end of file
+	private static final long _BATCH_DELAY = 100;
+
+}
@@ -34,7 +34,7 @@ public class TemplateNameValidator implements ValidatorSupplier {
 	@Override
 	public List<String> get() {
 		try {
-			return new ArrayList<>(BladeUtil.getTemplateNames(BladeCLI.instance));
+			return new ArrayList<>(BladeUtil.getTemplateNames(BladeCLI.current()));
 		}
 		catch (Exception exception) {
 			throw new RuntimeException(exception);
@@ -16,8 +16,11 @@
 
 package com.liferay.blade.cli.command.validator;
 
+import com.liferay.blade.cli.BladeCLI;
 import com.liferay.blade.cli.command.UpdateArgs;
 
+import java.io.PrintStream;
+
 import java.util.function.Predicate;
 
 /**
@@ -28,7 +31,9 @@ public class UpdateArgsValidator implements Predicate<UpdateArgs> {
 	@Override
 	public boolean test(UpdateArgs updateArgs) {
 		if (updateArgs.isRelease() && updateArgs.isSnapshots()) {
-			System.err.println(
+			PrintStream error = BladeCLI.currentError();
+
+			error.println(
 				"Can only either specify snapshot (-s, --snapshot) or release (-r, --release), not both.");
 
 			return false;
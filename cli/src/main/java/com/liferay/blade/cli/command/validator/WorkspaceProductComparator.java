@@ -27,7 +27,9 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -54,58 +56,55 @@ public class WorkspaceProductComparator implements Comparator<Pair<String, Produ
 		else if (aKey.startsWith("commerce") && !bKey.startsWith("commerce")) {
 			return 1;
 		}
-		else if (!StringUtil.equals(_getProductMainVersion(aKey), _getProductMainVersion(bKey))) {
-			Version aProductMainVersion = Version.parseVersion(_getProductMainVersion(aKey));
-			Version bProductMainVersion = Version.parseVersion(_getProductMainVersion(bKey));
+
+		SortKey aSortKey = _getSortKey(aPair);
+		SortKey bSortKey = _getSortKey(bPair);
+
+		if (!StringUtil.equals(aSortKey._productMainVersion, bSortKey._productMainVersion)) {
+			Version aProductMainVersion = aSortKey._getMainVersion();
+			Version bProductMainVersion = bSortKey._getMainVersion();
 
 			return -1 * aProductMainVersion.compareTo(bProductMainVersion);
 		}
-		else {
-			String aProductMicroVersion = _getProductMicroVersion(aKey);
-			String bProductMicroVersion = _getProductMicroVersion(bKey);
 
-			if (BladeUtil.isEmpty(aProductMicroVersion)) {
-				return 1;
-			}
-			else if (BladeUtil.isEmpty(bProductMicroVersion)) {
-				return -1;
-			}
-			else if (Version.isVersion(aProductMicroVersion) && Version.isVersion(bProductMicroVersion)) {
-				Version aMicroVersion = Version.parseVersion(aProductMicroVersion);
-				Version bMicroVersion = Version.parseVersion(bProductMicroVersion);
+		String aProductMicroVersion = aSortKey._productMicroVersion;
+		String bProductMicroVersion = bSortKey._productMicroVersion;
 
-				return -1 * aMicroVersion.compareTo(bMicroVersion);
-			}
-			else {
-				ProductInfo aProductInfo = aPair.second();
-				ProductInfo bProductInfo = bPair.second();
+		if (BladeUtil.isEmpty(aProductMicroVersion)) {
+			return 1;
+		}
+		else if (BladeUtil.isEmpty(bProductMicroVersion)) {
+			return -1;
+		}
 
-				try {
-					DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("M/d/yyyy", Locale.ENGLISH);
+		Version aMicroVersion = aSortKey._getMicroVersion();
+		Version bMicroVersion = bSortKey._getMicroVersion();
 
-					LocalDate aDate = LocalDate.parse(aProductInfo.getReleaseDate(), dateTimeFormatter);
-					LocalDate bDate = LocalDate.parse(bProductInfo.getReleaseDate(), dateTimeFormatter);
+		if ((aMicroVersion != null) && (bMicroVersion != null)) {
+			return -1 * aMicroVersion.compareTo(bMicroVersion);
+		}
 
-					return bDate.compareTo(aDate);
-				}
-				catch (Exception exception) {
-					String aMicroVersionPrefix = aProductMicroVersion.substring(0, 2);
-					String bMicroVersionPrefix = bProductMicroVersion.substring(0, 2);
+		LocalDate aDate = aSortKey._getReleaseDate();
+		LocalDate bDate = bSortKey._getReleaseDate();
 
-					if (!aMicroVersionPrefix.equalsIgnoreCase(bMicroVersionPrefix)) {
-						return -1 * aMicroVersionPrefix.compareTo(bMicroVersionPrefix);
-					}
+		if ((aDate != null) && (bDate != null)) {
+			return bDate.compareTo(aDate);
+		}
 
-					String aMicroVersionString = aProductMicroVersion.substring(2);
-					String bMicroVersionString = bProductMicroVersion.substring(2);
+		String aMicroVersionPrefix = aProductMicroVersion.substring(0, 2);
+		String bMicroVersionPrefix = bProductMicroVersion.substring(0, 2);
 
-					return Integer.parseInt(bMicroVersionString) - Integer.parseInt(aMicroVersionString);
-				}
-			}
+		if (!aMicroVersionPrefix.equalsIgnoreCase(bMicroVersionPrefix)) {
+			return -1 * aMicroVersionPrefix.compareTo(bMicroVersionPrefix);
 		}
+
+		String aMicroVersionString = aProductMicroVersion.substring(2);
+		String bMicroVersionString = bProductMicroVersion.substring(2);
+
+		return Integer.parseInt(bMicroVersionString) - Integer.parseInt(aMicroVersionString);
 	}
 
-	private String _getProductMainVersion(String productKey) {
+	private static String _getProductMainVersion(String productKey) {
 		Matcher aMatcher = _versionPattern.matcher(productKey.substring(productKey.indexOf('-') + 1));
 
 		if (aMatcher.find()) {
@@ -115,7 +114,7 @@ public class WorkspaceProductComparator implements Comparator<Pair<String, Produ
 		return "";
 	}
 
-	private String _getProductMicroVersion(String productKey) {
+	private static String _getProductMicroVersion(String productKey) {
 		String[] prodcutKeyArrays = StringUtil.split(productKey, "-");
 
 		if (prodcutKeyArrays.length > 2) {
@@ -125,6 +124,70 @@ public class WorkspaceProductComparator implements Comparator<Pair<String, Produ
 		return null;
 	}
 
+	private SortKey _getSortKey(Pair<String, ProductInfo> pair) {
+		SortKey sortKey = _sortKeys.get(pair);
+
+		if (sortKey == null) {
+			sortKey = new SortKey(pair.first(), pair.second());
+
+			_sortKeys.put(pair, sortKey);
+		}
+
+		return sortKey;
+	}
+
+	private static final DateTimeFormatter _dateTimeFormatter = DateTimeFormatter.ofPattern("M/d/yyyy", Locale.ENGLISH);
 	private static final Pattern _versionPattern = Pattern.compile("([0-9\\.]+).*");
 
-}
\ No newline at end of file
+	private final Map<Pair<String, ProductInfo>, SortKey> _sortKeys = new HashMap<>();
+
+	private static class SortKey {
+
+		private SortKey(String productKey, ProductInfo productInfo) {
+			_productInfo = productInfo;
+
+			_productMainVersion = _getProductMainVersion(productKey);
+			_productMicroVersion = _getProductMicroVersion(productKey);
+		}
+
+		private Version _getMainVersion() {
+			if (_mainVersion == null) {
+				_mainVersion = Version.parseVersion(_productMainVersion);
+			}
+
+			return _mainVersion;
+		}
+
+		private Version _getMicroVersion() {
+			if ((_microVersion == null) && Version.isVersion(_productMicroVersion)) {
+				_microVersion = Version.parseVersion(_productMicroVersion);
+			}
+
+			return _microVersion;
+		}
+
+		private LocalDate _getReleaseDate() {
+			if (!_releaseDateParsed) {
+				_releaseDateParsed = true;
+
+				try {
+					_releaseDate = LocalDate.parse(_productInfo.getReleaseDate(), _dateTimeFormatter);
+				}
+				catch (Exception exception) {
+				}
+			}
+
+			return _releaseDate;
+		}
+
+		private Version _mainVersion;
+		private Version _microVersion;
+		private final ProductInfo _productInfo;
+		private final String _productMainVersion;
+		private final String _productMicroVersion;
+		private LocalDate _releaseDate;
+		private boolean _releaseDateParsed;
+
+	}
+
+}
@@ -0,0 +1,345 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.daemon;
+
+import com.liferay.blade.cli.BladeCLI;
+import com.liferay.blade.cli.BladeExecutionException;
+import com.liferay.blade.cli.ExtensionsClassLoaderSupplier;
+import com.liferay.blade.cli.util.BladeUtil;
+import com.liferay.blade.cli.util.ProcessesUtil;
+import com.liferay.blade.cli.util.ResourceCache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+import java.security.MessageDigest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Gregory Amerson
+ */
+public class BladeDaemon {
+
+	public static final long DEFAULT_IDLE_TIMEOUT = TimeUnit.HOURS.toMillis(3);
+
+	public static void main(String[] args) throws Exception {
+		long idleTimeout = Long.getLong("blade.daemon.idle.timeout", DEFAULT_IDLE_TIMEOUT);
+
+		BladeDaemon bladeDaemon = new BladeDaemon(args[0], idleTimeout);
+
+		bladeDaemon.run();
+	}
+
+	public BladeDaemon(String key, long idleTimeout) throws Exception {
+		_key = key;
+		_idleTimeout = idleTimeout;
+
+		Path userHomePath = Paths.get(System.getProperty("user.home"));
+
+		_extensionsPath = userHomePath.resolve(".blade/extensions");
+
+		_fingerprint = _getFingerprint();
+		_extensionsClassLoaderSupplier = new ExtensionsClassLoaderSupplier(_extensionsPath);
+		_token = String.valueOf(UUID.randomUUID());
+	}
+
+	public void run() throws Exception {
+		Path daemonPath = DaemonProtocol.getDaemonPath();
+
+		Files.createDirectories(daemonPath);
+
+		Path propertiesPath = daemonPath.resolve(_key + ".properties");
+
+		ExecutorService executorService = Executors.newCachedThreadPool();
+
+		try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+			_serverSocket = serverSocket;
+
+			serverSocket.setSoTimeout((int)Math.min(_idleTimeout, Integer.MAX_VALUE));
+
+			try {
+				_extensionsClassLoaderSupplier.get();
+			}
+			catch (RuntimeException runtimeException) {
+				runtimeException.printStackTrace();
+			}
+
+			_writeProperties(propertiesPath, serverSocket.getLocalPort());
+
+			while (!serverSocket.isClosed()) {
+				try {
+					Socket socket = serverSocket.accept();
+
+					executorService.submit(() -> _handle(socket, propertiesPath));
+				}
+				catch (SocketTimeoutException socketTimeoutException) {
+					if (_activeClients.get() == 0) {
+						break;
+					}
+				}
+				catch (IOException ioException) {
+					if (!serverSocket.isClosed()) {
+						throw ioException;
+					}
+				}
+			}
+		}
+		finally {
+			_deleteProperties(propertiesPath);
+
+			executorService.shutdown();
+
+			executorService.awaitTermination(1, TimeUnit.DAYS);
+
+			_extensionsClassLoaderSupplier.close();
+		}
+	}
+
+	private static Map<String, Path> _getJars(Path path) throws IOException {
+		Map<String, Path> jars = new TreeMap<>();
+
+		if (Files.exists(path)) {
+			try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(path, "*.jar")) {
+				for (Path jarPath : directoryStream) {
+					jars.put(String.valueOf(jarPath.getFileName()), jarPath);
+				}
+			}
+		}
+
+		return jars;
+	}
+
+	private void _deleteProperties(Path propertiesPath) {
+		try {
+			Properties properties = _readProperties(propertiesPath);
+
+			if (_token.equals(properties.getProperty("token"))) {
+				Files.deleteIfExists(propertiesPath);
+			}
+		}
+		catch (IOException ioException) {
+		}
+	}
+
+	private String _getFingerprint() throws Exception {
+		MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+		Map<String, Path> jars = _getJars(_extensionsPath);
+
+		jars.put("blade", BladeUtil.getBladeJarPath());
+
+		for (Map.Entry<String, Path> entry : jars.entrySet()) {
+			Path path = entry.getValue();
+
+			FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+
+			ResourceCache.updateDigest(messageDigest, entry.getKey(), Files.size(path), lastModifiedTime.toMillis());
+		}
+
+		return ResourceCache.toHex(messageDigest);
+	}
+
+	private void _handle(Socket socket, Path propertiesPath) {
+		_activeClients.incrementAndGet();
+
+		try (Socket clientSocket = socket;
+			DataInputStream dataInputStream = new DataInputStream(
+				new BufferedInputStream(clientSocket.getInputStream()));
+			DataOutputStream dataOutputStream = new DataOutputStream(
+				new BufferedOutputStream(clientSocket.getOutputStream()))) {
+
+			if (!_token.equals(dataInputStream.readUTF())) {
+				return;
+			}
+
+			String workingDirectory = dataInputStream.readUTF();
+
+			int length = dataInputStream.readInt();
+
+			List<String> args = new ArrayList<>();
+
+			for (int i = 0; i < length; i++) {
+				args.add(dataInputStream.readUTF());
+			}
+
+			if (!_fingerprint.equals(_getFingerprint())) {
+				_deleteProperties(propertiesPath);
+
+				_serverSocket.close();
+
+				dataOutputStream.writeByte(DaemonProtocol.RESTART);
+
+				dataOutputStream.flush();
+
+				return;
+			}
+
+			PipedInputStream pipedInputStream = new PipedInputStream();
+
+			PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
+
+			Thread stdinThread = new Thread(() -> _pumpStdin(dataInputStream, pipedOutputStream));
+
+			stdinThread.setDaemon(true);
+
+			stdinThread.start();
+
+			synchronized (dataOutputStream) {
+				dataOutputStream.writeByte(DaemonProtocol.READY);
+				dataOutputStream.flush();
+			}
+
+			PrintStream out = new PrintStream(
+				new DaemonProtocol.FrameOutputStream(dataOutputStream, DaemonProtocol.OUT), true);
+			PrintStream err = new PrintStream(
+				new DaemonProtocol.FrameOutputStream(dataOutputStream, DaemonProtocol.ERR), true);
+
+			int exitCode = _run(args.toArray(new String[0]), new File(workingDirectory), out, err, pipedInputStream);
+
+			synchronized (dataOutputStream) {
+				dataOutputStream.writeByte(DaemonProtocol.EXIT);
+				dataOutputStream.writeInt(exitCode);
+				dataOutputStream.flush();
+			}
+		}
+		catch (Exception exception) {
+		}
+		finally {
+			_activeClients.decrementAndGet();
+		}
+	}
+
+	private void _pumpStdin(DataInputStream dataInputStream, OutputStream outputStream) {
+		try (OutputStream stdin = outputStream) {
+			while (true) {
+				byte type = dataInputStream.readByte();
+
+				if (type == DaemonProtocol.STDIN_EOF) {
+					break;
+				}
+
+				byte[] bytes = new byte[dataInputStream.readInt()];
+
+				dataInputStream.readFully(bytes);
+
+				stdin.write(bytes);
+
+				stdin.flush();
+			}
+		}
+		catch (IOException ioException) {
+		}
+	}
+
+	private Properties _readProperties(Path propertiesPath) throws IOException {
+		Properties properties = new Properties();
+
+		if (Files.exists(propertiesPath)) {
+			try (InputStream inputStream = Files.newInputStream(propertiesPath)) {
+				properties.load(inputStream);
+			}
+		}
+
+		return properties;
+	}
+
+	private int _run(String[] args, File workingDir, PrintStream out, PrintStream err, InputStream in) {
+		BladeCLI bladeCLI = new BladeCLI(out, err, in, _extensionsClassLoaderSupplier);
+
+		bladeCLI.setWorkingDir(workingDir);
+
+		try {
+			bladeCLI.run(args);
+
+			return 0;
+		}
+		catch (BladeExecutionException bladeExecutionException) {
+			return bladeExecutionException.getReturnCode();
+		}
+		catch (Throwable throwable) {
+			bladeCLI.error("Unexpected error occured.");
+
+			throwable.printStackTrace(err);
+
+			return 1;
+		}
+	}
+
+	private void _writeProperties(Path propertiesPath, int port) throws IOException {
+		Properties properties = new Properties();
+
+		properties.setProperty("pid", String.valueOf(ProcessesUtil.getCurrentProcessId()));
+		properties.setProperty("port", String.valueOf(port));
+		properties.setProperty("token", _token);
+
+		Path tempPropertiesPath = Files.createTempFile(propertiesPath.getParent(), _key, ".tmp");
+
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(tempPropertiesPath)) {
+				properties.store(outputStream, null);
+			}
+
+			Files.move(
+				tempPropertiesPath, propertiesPath, StandardCopyOption.ATOMIC_MOVE,
+				StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(tempPropertiesPath);
+		}
+	}
+
+	private final AtomicInteger _activeClients = new AtomicInteger();
+	private final ExtensionsClassLoaderSupplier _extensionsClassLoaderSupplier;
+	private final Path _extensionsPath;
+	private final String _fingerprint;
+	private final long _idleTimeout;
+	private final String _key;
+	private ServerSocket _serverSocket;
+	private final String _token;
+
+}
@@ -0,0 +1,285 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.daemon;
+
+import com.liferay.blade.cli.ClassDataSharing;
+import com.liferay.blade.cli.util.BladeUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Gregory Amerson
+ */
+public class BladeDaemonClient {
+
+	public static boolean isEnabled() {
+		if (Boolean.getBoolean("blade.daemon")) {
+			return true;
+		}
+
+		return Boolean.parseBoolean(System.getenv("BLADE_DAEMON"));
+	}
+
+	public static Integer run(String[] args) {
+		return run(args, new File(System.getProperty("user.dir")));
+	}
+
+	public static Integer run(String[] args, File workingDir) {
+		try {
+			BladeDaemonClient bladeDaemonClient = new BladeDaemonClient();
+
+			for (int i = 0; i < 2; i++) {
+				Integer exitCode = bladeDaemonClient._run(args, workingDir);
+
+				if (exitCode != null) {
+					return exitCode;
+				}
+
+				if (!bladeDaemonClient._startDaemon()) {
+					break;
+				}
+			}
+		}
+		catch (Exception exception) {
+		}
+
+		return null;
+	}
+
+	private BladeDaemonClient() throws Exception {
+		_key = DaemonProtocol.getDaemonKey();
+
+		Path daemonPath = DaemonProtocol.getDaemonPath();
+
+		_propertiesPath = daemonPath.resolve(_key + ".properties");
+	}
+
+	private Socket _connect() {
+		try {
+			Properties properties = _readProperties();
+
+			String port = properties.getProperty("port");
+
+			if (port == null) {
+				return null;
+			}
+
+			Socket socket = new Socket();
+
+			socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(port)), 1000);
+
+			_token = properties.getProperty("token");
+
+			return socket;
+		}
+		catch (Exception exception) {
+			return null;
+		}
+	}
+
+	private void _pumpStdin(DataOutputStream dataOutputStream) {
+		InputStream in = System.in;
+
+		byte[] buffer = new byte[8192];
+
+		try {
+			int length;
+
+			while ((length = in.read(buffer)) != -1) {
+				DaemonProtocol.writeFrame(dataOutputStream, DaemonProtocol.STDIN, buffer, 0, length);
+			}
+
+			synchronized (dataOutputStream) {
+				dataOutputStream.writeByte(DaemonProtocol.STDIN_EOF);
+				dataOutputStream.flush();
+			}
+		}
+		catch (IOException ioException) {
+		}
+	}
+
+	private Properties _readProperties() throws IOException {
+		Properties properties = new Properties();
+
+		if (Files.exists(_propertiesPath)) {
+			try (InputStream inputStream = Files.newInputStream(_propertiesPath)) {
+				properties.load(inputStream);
+			}
+		}
+
+		return properties;
+	}
+
+	private Integer _run(String[] args, File workingDir) throws IOException {
+		Socket socket = _connect();
+
+		if (socket == null) {
+			return null;
+		}
+
+		PrintStream out = System.out;
+		PrintStream err = System.err;
+
+		boolean started = false;
+
+		try (Socket daemonSocket = socket;
+			DataInputStream dataInputStream = new DataInputStream(
+				new BufferedInputStream(daemonSocket.getInputStream()));
+			DataOutputStream dataOutputStream = new DataOutputStream(
+				new BufferedOutputStream(daemonSocket.getOutputStream()))) {
+
+			synchronized (dataOutputStream) {
+				dataOutputStream.writeUTF(_token);
+				dataOutputStream.writeUTF(workingDir.getAbsolutePath());
+				dataOutputStream.writeInt(args.length);
+
+				for (String arg : args) {
+					dataOutputStream.writeUTF(arg);
+				}
+
+				dataOutputStream.flush();
+			}
+
+			while (true) {
+				byte type = dataInputStream.readByte();
+
+				if (type == DaemonProtocol.EXIT) {
+					return dataInputStream.readInt();
+				}
+				else if (type == DaemonProtocol.READY) {
+					started = true;
+
+					Thread stdinThread = new Thread(() -> _pumpStdin(dataOutputStream));
+
+					stdinThread.setDaemon(true);
+
+					stdinThread.start();
+
+					continue;
+				}
+				else if (type == DaemonProtocol.RESTART) {
+					return null;
+				}
+
+				byte[] bytes = new byte[dataInputStream.readInt()];
+
+				dataInputStream.readFully(bytes);
+
+				PrintStream printStream = (type == DaemonProtocol.ERR) ? err : out;
+
+				printStream.write(bytes);
+
+				printStream.flush();
+			}
+		}
+		catch (IOException ioException) {
+			if (!started) {
+				return null;
+			}
+
+			err.println("Error: Lost the connection to the blade daemon: " + ioException.getMessage());
+
+			return 1;
+		}
+	}
+
+	private boolean _startDaemon() throws Exception {
+		Path javaHomePath = Paths.get(System.getProperty("java.home"));
+
+		String java = BladeUtil.isWindows() ? "java.exe" : "java";
+
+		Path javaPath = javaHomePath.resolve("bin/" + java);
+
+		Path daemonPath = DaemonProtocol.getDaemonPath();
+
+		Files.createDirectories(daemonPath);
+
+		List<String> command = new ArrayList<>();
+
+		command.add(javaPath.toString());
+		command.addAll(ClassDataSharing.getJvmArguments());
+
+		String idleTimeout = System.getProperty("blade.daemon.idle.timeout");
+
+		if (idleTimeout != null) {
+			command.add("-Dblade.daemon.idle.timeout=" + idleTimeout);
+		}
+
+		command.add("-cp");
+		command.add(String.valueOf(BladeUtil.getBladeJarPath()));
+		command.add(BladeDaemon.class.getName());
+		command.add(_key);
+
+		ProcessBuilder processBuilder = new ProcessBuilder(command);
+
+		File logFile = new File(daemonPath.toFile(), _key + ".log");
+
+		processBuilder.directory(new File(System.getProperty("user.home")));
+		processBuilder.redirectErrorStream(true);
+		processBuilder.redirectInput(ProcessBuilder.Redirect.from(_NULL_FILE));
+		processBuilder.redirectOutput(ProcessBuilder.Redirect.appendTo(logFile));
+
+		Process process = processBuilder.start();
+
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+
+		while (System.currentTimeMillis() < timeout) {
+			Properties properties = _readProperties();
+
+			String token = properties.getProperty("token");
+
+			if ((token != null) && !token.equals(_token)) {
+				return true;
+			}
+
+			if (!process.isAlive()) {
+				return false;
+			}
+
+			Thread.sleep(50);
+		}
+
+		return false;
+	}
+
+	private static final File _NULL_FILE = new File(BladeUtil.isWindows() ? "NUL" : "/dev/null");
+
+	private final String _key;
+	private final Path _propertiesPath;
+	private String _token;
+
+}
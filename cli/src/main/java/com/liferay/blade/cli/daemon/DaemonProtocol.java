@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.daemon;
+
+import com.liferay.blade.cli.util.BladeUtil;
+import com.liferay.blade.cli.util.ResourceCache;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.security.MessageDigest;
+
+/**
+ * @author Gregory Amerson
+ */
+public class DaemonProtocol {
+
+	public static final byte ERR = 2;
+
+	public static final byte EXIT = 3;
+
+	public static final byte OUT = 1;
+
+	public static final byte READY = 5;
+
+	public static final byte RESTART = 4;
+
+	public static final byte STDIN = 1;
+
+	public static final byte STDIN_EOF = 2;
+
+	public static String getDaemonKey() throws Exception {
+		MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+		_updateDigest(messageDigest, System.getProperty("java.home"));
+		_updateDigest(messageDigest, String.valueOf(BladeUtil.getBladeJarPath()));
+
+		for (String name : _ENVIRONMENT_VARIABLES) {
+			_updateDigest(messageDigest, name + "=" + System.getenv(name));
+		}
+
+		return ResourceCache.toHex(messageDigest);
+	}
+
+	public static Path getDaemonPath() {
+		return Paths.get(System.getProperty("user.home"), ".blade", "daemon");
+	}
+
+	public static void writeFrame(DataOutputStream dataOutputStream, byte type, byte[] bytes, int offset, int length)
+		throws IOException {
+
+		synchronized (dataOutputStream) {
+			dataOutputStream.writeByte(type);
+			dataOutputStream.writeInt(length);
+			dataOutputStream.write(bytes, offset, length);
+			dataOutputStream.flush();
+		}
+	}
+
+	private static void _updateDigest(MessageDigest messageDigest, String value) {
+		String entry = value + "\n";
+
+		messageDigest.update(entry.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static final String[] _ENVIRONMENT_VARIABLES = {
+		"GRADLE_HOME", "GRADLE_OPTS", "GRADLE_USER_HOME", "JAVA_HOME", "JAVA_OPTS", "LIFERAY_HOME", "M2_HOME",
+		"MAVEN_HOME", "MAVEN_OPTS", "PATH"
+	};
+
+	public static class FrameOutputStream extends OutputStream {
+
+		public FrameOutputStream(DataOutputStream dataOutputStream, byte type) {
+			_dataOutputStream = dataOutputStream;
+			_type = type;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			writeFrame(_dataOutputStream, _type, bytes, offset, length);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] {(byte)b}, 0, 1);
+		}
+
+		private final DataOutputStream _dataOutputStream;
+		private final byte _type;
+
+	}
+
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Gregory Amerson
+ */
+public class CancellationSignal {
+
+	public void cancel() {
+		List<Runnable> runnables;
+
+		synchronized (this) {
+			if (_cancelled) {
+				return;
+			}
+
+			_cancelled = true;
+
+			runnables = new ArrayList<>(_runnables);
+
+			_runnables.clear();
+		}
+
+		for (Runnable runnable : runnables) {
+			runnable.run();
+		}
+	}
+
+	public synchronized boolean isCancelled() {
+		return _cancelled;
+	}
+
+	public void onCancel(Runnable runnable) {
+		synchronized (this) {
+			if (!_cancelled) {
+				_runnables.add(runnable);
+
+				return;
+			}
+		}
+
+		runnable.run();
+	}
+
+	private boolean _cancelled;
+	private final List<Runnable> _runnables = new ArrayList<>();
+
+}
@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import com.liferay.blade.cli.util.ResourceCache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+import java.security.MessageDigest;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * @author Gregory Amerson
+ */
+public class DeployFingerprints {
+
+	public static List<File> getProjectDirs(File rootDir, File baseDir, Collection<File> projectDirs)
+		throws IOException {
+
+		File canonicalRootDir = rootDir.getCanonicalFile();
+
+		Path rootPath = canonicalRootDir.toPath();
+
+		File canonicalBaseDir = baseDir.getCanonicalFile();
+
+		Path basePath = canonicalBaseDir.toPath();
+
+		Set<Path> paths = new TreeSet<>();
+
+		for (File projectDir : projectDirs) {
+			File canonicalProjectDir = projectDir.getCanonicalFile();
+
+			Path path = canonicalProjectDir.toPath();
+
+			if (!path.equals(rootPath) && path.startsWith(basePath) && _isProjectDir(path)) {
+				paths.add(path);
+			}
+		}
+
+		return paths.stream(
+		).map(
+			Path::toFile
+		).collect(
+			Collectors.toList()
+		);
+	}
+
+	public DeployFingerprints(File rootDir) throws IOException {
+		_rootDir = rootDir.getCanonicalFile();
+
+		Path rootPath = _rootDir.toPath();
+
+		_fingerprintsPath = rootPath.resolve(".blade/deploy-fingerprints.properties");
+
+		if (Files.exists(_fingerprintsPath)) {
+			try (InputStream inputStream = Files.newInputStream(_fingerprintsPath)) {
+				_fingerprints.load(inputStream);
+			}
+		}
+	}
+
+	public Map<File, String> getChangedProjects(Collection<File> projectDirs) throws Exception {
+		Map<File, String> changedProjects = new LinkedHashMap<>();
+
+		String rootFingerprint = _getRootFingerprint();
+
+		Set<Path> projectPaths = new HashSet<>();
+
+		for (File projectDir : projectDirs) {
+			File canonicalProjectDir = projectDir.getCanonicalFile();
+
+			projectPaths.add(canonicalProjectDir.toPath());
+		}
+
+		for (File projectDir : projectDirs) {
+			File canonicalProjectDir = projectDir.getCanonicalFile();
+
+			String fingerprint = _getFingerprint(canonicalProjectDir.toPath(), projectPaths, rootFingerprint);
+
+			if (!Objects.equals(fingerprint, _fingerprints.getProperty(_getKey(canonicalProjectDir)))) {
+				changedProjects.put(projectDir, fingerprint);
+			}
+		}
+
+		return changedProjects;
+	}
+
+	public void remove(File projectDir) throws IOException {
+		_fingerprints.remove(_getKey(projectDir.getCanonicalFile()));
+	}
+
+	public void update(File projectDir, String fingerprint) throws IOException {
+		_fingerprints.setProperty(_getKey(projectDir.getCanonicalFile()), fingerprint);
+	}
+
+	public void write() throws IOException {
+		Path rootPath = _rootDir.toPath();
+
+		_fingerprints.stringPropertyNames(
+		).stream(
+		).filter(
+			key -> !Files.isDirectory(rootPath.resolve(key))
+		).forEach(
+			_fingerprints::remove
+		);
+
+		Path parentPath = _fingerprintsPath.getParent();
+
+		Files.createDirectories(parentPath);
+
+		Path tempPath = Files.createTempFile(parentPath, String.valueOf(_fingerprintsPath.getFileName()), ".tmp");
+
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(tempPath)) {
+				_fingerprints.store(outputStream, null);
+			}
+
+			Files.move(tempPath, _fingerprintsPath, StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+
+	private static boolean _isProjectDir(Path path) {
+		for (String buildFileName : _PROJECT_FILE_NAMES) {
+			if (Files.exists(path.resolve(buildFileName))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private String _getFingerprint(Path projectPath, Set<Path> projectPaths, String rootFingerprint)
+		throws Exception {
+
+		Map<String, BasicFileAttributes> files = new TreeMap<>();
+
+		Files.walkFileTree(
+			projectPath,
+			new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path path, BasicFileAttributes basicFileAttributes) {
+					if (path.equals(projectPath)) {
+						return FileVisitResult.CONTINUE;
+					}
+
+					if (projectPaths.contains(path) ||
+						_SKIPPED_DIR_NAMES.contains(String.valueOf(path.getFileName()))) {
+
+						return FileVisitResult.SKIP_SUBTREE;
+					}
+
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path path, BasicFileAttributes basicFileAttributes) {
+					files.put(String.valueOf(projectPath.relativize(path)), basicFileAttributes);
+
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path path, IOException ioException) {
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+
+		MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+		messageDigest.update(rootFingerprint.getBytes(StandardCharsets.UTF_8));
+
+		for (Map.Entry<String, BasicFileAttributes> entry : files.entrySet()) {
+			BasicFileAttributes basicFileAttributes = entry.getValue();
+
+			FileTime lastModifiedTime = basicFileAttributes.lastModifiedTime();
+
+			ResourceCache.updateDigest(
+				messageDigest, entry.getKey(), basicFileAttributes.size(), lastModifiedTime.toMillis());
+		}
+
+		return ResourceCache.toHex(messageDigest);
+	}
+
+	private String _getKey(File projectDir) {
+		Path rootPath = _rootDir.toPath();
+
+		Path relativePath = rootPath.relativize(projectDir.toPath());
+
+		String key = relativePath.toString();
+
+		return key.replace(File.separatorChar, '/');
+	}
+
+	private String _getRootFingerprint() throws Exception {
+		MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+		Path rootPath = _rootDir.toPath();
+
+		for (String rootFileName : _ROOT_FILE_NAMES) {
+			Path path = rootPath.resolve(rootFileName);
+
+			if (Files.exists(path)) {
+				FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+
+				ResourceCache.updateDigest(messageDigest, rootFileName, Files.size(path), lastModifiedTime.toMillis());
+			}
+		}
+
+		return ResourceCache.toHex(messageDigest);
+	}
+
+	private static final String[] _PROJECT_FILE_NAMES = {
+		"bnd.bnd", "build.gradle", "build.gradle.kts", "client-extension.yaml", "package.json"
+	};
+
+	private static final String[] _ROOT_FILE_NAMES = {
+		"build.gradle", "build.gradle.kts", "gradle.properties", "gradle-local.properties",
+		"gradle/wrapper/gradle-wrapper.properties", "settings.gradle", "settings.gradle.kts"
+	};
+
+	private static final Set<String> _SKIPPED_DIR_NAMES = new HashSet<>(
+		Arrays.asList(".blade", ".git", ".gradle", "build", "bundles", "node_modules"));
+
+	private final Properties _fingerprints = new Properties();
+	private final Path _fingerprintsPath;
+	private final File _rootDir;
+
+}
\ No newline at end of file
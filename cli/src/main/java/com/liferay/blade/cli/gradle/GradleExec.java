@@ -17,15 +17,33 @@
 package com.liferay.blade.cli.gradle;
 
 import com.liferay.blade.cli.BladeCLI;
-import com.liferay.blade.cli.StringConverter;
+import com.liferay.blade.cli.BladeSettings;
 import com.liferay.blade.cli.StringPrintStream;
 import com.liferay.blade.cli.command.BaseArgs;
 import com.liferay.blade.cli.util.BladeUtil;
 
 import java.io.File;
-
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * @author David Truong
@@ -37,6 +55,12 @@ public class GradleExec {
 		_blade = blade;
 	}
 
+	public void cancel() {
+		for (CancellationSignal cancellationSignal : _cancellationSignals) {
+			cancellationSignal.cancel();
+		}
+	}
+
 	public ProcessResult executeTask(String task) throws Exception {
 		BaseArgs args = _blade.getArgs();
 
@@ -58,17 +82,86 @@ public class GradleExec {
 	}
 
 	public ProcessResult executeTask(String task, File baseDir, boolean captureOutput) throws Exception {
-		String executable = _getGradleExecutable(baseDir);
+		return _executeTask(task, baseDir, captureOutput, _taskProgressListener);
+	}
+
+	public Map<File, ProcessResult> executeTask(String task, Collection<File> projectDirs, boolean captureOutput)
+		throws Exception {
+
+		File rootDir = _getRootProjectDir(projectDirs);
+
+		if ((rootDir == null) || (projectDirs.size() == 1)) {
+			return _executeProjectTasks(task, projectDirs, captureOutput);
+		}
+
+		Map<File, String> gradlePaths = new LinkedHashMap<>();
+
+		for (File projectDir : projectDirs) {
+			gradlePaths.put(projectDir, _getGradlePath(rootDir, projectDir));
+		}
+
+		Set<String> completedTaskPaths = ConcurrentHashMap.newKeySet();
+		Set<String> failedTaskPaths = ConcurrentHashMap.newKeySet();
+
+		ProcessResult processResult = null;
+
+		try {
+			processResult = _executeTask(
+				_getQualifiedTask(task, gradlePaths.values()), rootDir, captureOutput,
+				new TaskOutcomeProgressListener(completedTaskPaths, failedTaskPaths, _taskProgressListener));
+		}
+		catch (GradleExecutionException gradleExecutionException) {
+			String message = gradleExecutionException.getMessage();
+
+			Matcher matcher = _failedTaskPattern.matcher(String.valueOf(message));
+
+			while (matcher.find()) {
+				failedTaskPaths.add(matcher.group(1));
+			}
+
+			processResult = new ProcessResult(gradleExecutionException.getReturnCode(), null, message);
+		}
+
+		if ((processResult.getResultCode() != 0) && failedTaskPaths.isEmpty()) {
+			return _executeProjectTasks(task, projectDirs, captureOutput);
+		}
+
+		Map<File, ProcessResult> processResults = new LinkedHashMap<>();
+
+		for (Map.Entry<File, String> entry : gradlePaths.entrySet()) {
+			processResults.put(
+				entry.getKey(), _getProjectProcessResult(processResult, task, entry.getValue(), completedTaskPaths));
+		}
+
+		return processResults;
+	}
+
+	public void setTaskProgressListener(TaskProgressListener taskProgressListener) {
+		_taskProgressListener = taskProgressListener;
+	}
+
+	private ProcessResult _executeForkedTask(
+			String task, File baseDir, boolean captureOutput, TaskProgressListener taskProgressListener)
+		throws Exception {
+
+		String command = "\"" + _getGradleExecutable(baseDir) + "\" " + task;
+
+		PlainConsoleParser plainConsoleParser = null;
+
+		if (taskProgressListener != null) {
+			command = command + " --console=plain";
+
+			plainConsoleParser = new PlainConsoleParser(taskProgressListener);
+		}
 
 		if (captureOutput) {
-			StringPrintStream outputStream = StringPrintStream.newInstance();
+			int outputLimit = _getOutputLimit();
 
-			StringPrintStream errorStream = StringPrintStream.newInstance();
+			StringPrintStream outputStream = StringPrintStream.newBoundedInstance(outputLimit);
 
-			Process process = BladeUtil.startProcess(
-				"\"" + executable + "\" " + task, baseDir, outputStream, errorStream);
+			StringPrintStream errorStream = StringPrintStream.newBoundedInstance(outputLimit);
 
-			int returnCode = process.waitFor();
+			int returnCode = _runProcess(command, baseDir, outputStream, errorStream, plainConsoleParser);
 
 			String error = errorStream.get();
 
@@ -81,9 +174,16 @@ public class GradleExec {
 			return new ProcessResult(returnCode, output, error);
 		}
 
-		Process process = BladeUtil.startProcess("\"" + executable + "\" " + task, baseDir);
+		int returnCode;
 
-		int returnCode = process.waitFor();
+		if (plainConsoleParser == null) {
+			Process process = BladeUtil.startProcess(command, baseDir);
+
+			returnCode = process.waitFor();
+		}
+		else {
+			returnCode = _runProcess(command, baseDir, _blade.out(), _blade.error(), plainConsoleParser);
+		}
 
 		if (returnCode > 0) {
 			throw new GradleExecutionException(
@@ -93,88 +193,362 @@ public class GradleExec {
 		return new ProcessResult(returnCode, null, null);
 	}
 
-	private String _getGradleExecutable(File dir) throws Exception {
-		File gradlew = BladeUtil.getGradleWrapper(dir);
+	private ProcessResult _executeProjectTask(String task, File projectDir, boolean captureOutput) throws Exception {
+		try {
+			return executeTask(task, projectDir, captureOutput);
+		}
+		catch (GradleExecutionException gradleExecutionException) {
+			return new ProcessResult(
+				gradleExecutionException.getReturnCode(), null, gradleExecutionException.getMessage());
+		}
+	}
 
-		String executable = "gradle";
+	private Map<File, ProcessResult> _executeProjectTasks(
+			String task, Collection<File> projectDirs, boolean captureOutput)
+		throws Exception {
 
+		Map<File, ProcessResult> processResults = new LinkedHashMap<>();
+
+		for (File projectDir : projectDirs) {
+			processResults.put(projectDir, _executeProjectTask(task, projectDir, captureOutput));
+		}
+
+		return processResults;
+	}
+
+	private ProcessResult _executeTask(
+			String task, File baseDir, boolean captureOutput, TaskProgressListener taskProgressListener)
+		throws Exception {
+
+		if (_isToolingExecutor(baseDir)) {
+			try {
+				return _executeToolingTask(task, baseDir, captureOutput, taskProgressListener);
+			}
+			catch (ToolingConnectionException toolingConnectionException) {
+				_toolingExecutorAvailable = false;
+
+				BaseArgs baseArgs = _blade.getArgs();
+
+				if (!baseArgs.isQuiet()) {
+					_blade.error(
+						"Could not run Gradle with the Tooling API, using a separate process: " +
+							toolingConnectionException.getMessage());
+				}
+			}
+		}
+
+		return _executeForkedTask(task, baseDir, captureOutput, taskProgressListener);
+	}
+
+	private ProcessResult _executeToolingTask(
+			String task, File baseDir, boolean captureOutput, TaskProgressListener taskProgressListener)
+		throws Exception {
+
+		StringPrintStream outputStream = null;
+		StringPrintStream errorStream = null;
+
+		PrintStream out = _blade.out();
+		PrintStream err = _blade.error();
+
+		if (captureOutput) {
+			int outputLimit = _getOutputLimit();
+
+			outputStream = StringPrintStream.newBoundedInstance(outputLimit);
+			errorStream = StringPrintStream.newBoundedInstance(outputLimit);
+
+			out = outputStream;
+			err = errorStream;
+		}
+
+		CancellationSignal cancellationSignal = new CancellationSignal();
+
+		_cancellationSignals.add(cancellationSignal);
+
+		try {
+			GradleTooling.runBuild(
+				baseDir.toPath(), BladeUtil.tokenize(task), out, err, taskProgressListener, cancellationSignal);
+		}
+		catch (GradleExecutionException gradleExecutionException) {
+			if (captureOutput) {
+				throw new GradleExecutionException(errorStream.get(), gradleExecutionException.getReturnCode());
+			}
+
+			throw new GradleExecutionException(
+				"Gradle error executing task '" + task + "' in " + baseDir.getAbsolutePath(),
+				gradleExecutionException.getReturnCode());
+		}
+		finally {
+			_cancellationSignals.remove(cancellationSignal);
+		}
+
+		if (captureOutput) {
+			return new ProcessResult(0, outputStream.get(), errorStream.get());
+		}
+
+		return new ProcessResult(0, null, null);
+	}
+
+	private String _getGradleExecutable(File dir) throws Exception {
 		BaseArgs baseArgs = _blade.getArgs();
 
-		if ((gradlew == null) || !gradlew.exists()) {
-			File baseDir = baseArgs.getBase();
+		GradleExecutable gradleExecutable = GradleExecutable.getWrapper(dir);
+
+		if (gradleExecutable == null) {
+			gradleExecutable = GradleExecutable.getWrapper(baseArgs.getBase());
+		}
+
+		if (gradleExecutable == null) {
+			gradleExecutable = GradleExecutable.getInstalled();
+
+			if (gradleExecutable == null) {
+				throw new NoSuchElementException("Gradle wrapper not found and Gradle is not installed");
+			}
+
+			if (!baseArgs.isQuiet()) {
+				_blade.out("Could not find gradle wrapper, using gradle");
+			}
+		}
+
+		return gradleExecutable.getPath();
+	}
+
+	private String _getGradlePath(File rootDir, File projectDir) throws IOException {
+		Path rootPath = rootDir.toPath();
+
+		File canonicalProjectDir = projectDir.getCanonicalFile();
+
+		Path relativePath = rootPath.relativize(canonicalProjectDir.toPath());
 
-			gradlew = BladeUtil.getGradleWrapper(baseDir);
+		String gradlePath = relativePath.toString();
+
+		if (gradlePath.isEmpty()) {
+			return gradlePath;
 		}
 
-		if (gradlew != null) {
+		return ":" + gradlePath.replace(File.separatorChar, ':');
+	}
+
+	private int _getOutputLimit() {
+		Integer outputLimit = Integer.getInteger("blade.gradle.output.limit");
+
+		if (outputLimit == null) {
 			try {
-				if (!gradlew.canExecute()) {
-					gradlew.setExecutable(true);
-				}
+				BladeSettings bladeSettings = _blade.getBladeSettings();
 
-				executable = gradlew.getCanonicalPath();
+				outputLimit = bladeSettings.getGradleOutputLimit();
 			}
-			catch (Throwable th) {
+			catch (IOException ioException) {
+				outputLimit = BladeSettings.DEFAULT_GRADLE_OUTPUT_LIMIT;
 			}
 		}
 
-		if (Objects.equals("gradle", executable)) {
-			if (_isGradleInstalled()) {
-				if (!baseArgs.isQuiet()) {
-					_blade.out("Could not find gradle wrapper, using gradle");
-				}
+		return (int)Math.min(Math.max(outputLimit, 1) * 1024L, Integer.MAX_VALUE);
+	}
+
+	private ProcessResult _getProjectProcessResult(
+		ProcessResult processResult, String task, String gradlePath, Set<String> completedTaskPaths) {
+
+		if ((processResult.getResultCode() == 0) || gradlePath.isEmpty()) {
+			return processResult;
+		}
+
+		// With --continue, a requested task whose dependency failed never runs,
+		// so only a project whose requested tasks all finished has succeeded
+
+		List<String> taskPaths = _getProjectTaskPaths(task, gradlePath);
+
+		if (taskPaths.isEmpty() || !completedTaskPaths.containsAll(taskPaths)) {
+			return processResult;
+		}
+
+		return new ProcessResult(0, processResult.getOutput(), processResult.getError());
+	}
+
+	private List<String> _getProjectTaskPaths(String task, String gradlePath) {
+		List<String> taskPaths = new ArrayList<>();
+
+		List<String> tokens = BladeUtil.tokenize(task);
+
+		for (int i = 0; i < tokens.size(); i++) {
+			String token = tokens.get(i);
+
+			if (_EXCLUDE_TASK_OPTIONS.contains(token)) {
+				i++;
 			}
-			else {
-				throw new NoSuchElementException("Gradle wrapper not found and Gradle is not installed");
+			else if (!token.startsWith("-")) {
+				taskPaths.add(_getTaskPath(gradlePath, token));
 			}
 		}
 
-		return executable;
+		return taskPaths;
 	}
 
-	private boolean _isGradleInstalled() {
-		try {
-			ProcessBuilder builder = new ProcessBuilder();
+	private String _getQualifiedTask(String task, Collection<String> gradlePaths) {
+		List<String> arguments = new ArrayList<>();
+
+		arguments.add("--continue");
+
+		List<String> tokens = BladeUtil.tokenize(task);
 
-			if (BladeUtil.isWindows()) {
-				builder.command("cmd.exe", "/c", "gradle -version");
+		for (int i = 0; i < tokens.size(); i++) {
+			String token = tokens.get(i);
+
+			if (_EXCLUDE_TASK_OPTIONS.contains(token) && ((i + 1) < tokens.size())) {
+				String taskName = tokens.get(++i);
+
+				for (String gradlePath : gradlePaths) {
+					arguments.add(token);
+					arguments.add(_getTaskPath(gradlePath, taskName));
+				}
+			}
+			else if (token.startsWith("-")) {
+				arguments.add(token);
 			}
 			else {
-				builder.command("sh", "-c", "gradle -version");
+				for (String gradlePath : gradlePaths) {
+					arguments.add(_getTaskPath(gradlePath, token));
+				}
 			}
+		}
 
-			builder.directory(new File(System.getProperty("user.home")));
+		return arguments.stream(
+		).map(
+			argument -> argument.matches(".*\\s.*") ? "\"" + argument + "\"" : argument
+		).collect(
+			Collectors.joining(" ")
+		);
+	}
 
-			Process process = builder.start();
+	private File _getRootProjectDir(Collection<File> projectDirs) throws IOException {
+		File rootDir = null;
 
-			StringBuilder output = new StringBuilder();
+		for (File projectDir : projectDirs) {
+			File settingsDir = BladeUtil.findParentFile(projectDir.getCanonicalFile(), _SETTINGS_FILE_NAMES, true);
 
-			String stdOutString = StringConverter.frommInputStream(process.getInputStream());
-			String stdErrString = StringConverter.frommInputStream(process.getErrorStream());
+			if ((settingsDir == null) || ((rootDir != null) && !rootDir.equals(settingsDir))) {
+				return null;
+			}
 
-			output.append(stdOutString);
-			output.append(System.lineSeparator());
-			output.append(stdErrString);
+			rootDir = settingsDir;
+		}
 
-			int code = process.waitFor();
+		return rootDir;
+	}
 
-			if (code != 0) {
-				return false;
-			}
+	private String _getTaskPath(String gradlePath, String taskName) {
+		if (gradlePath.isEmpty() || taskName.startsWith(":")) {
+			return taskName;
+		}
+
+		return gradlePath + ":" + taskName;
+	}
 
-			String result = output.toString();
+	private boolean _isToolingExecutor(File baseDir) {
+		String gradleExecutor = System.getProperty("blade.gradle.executor");
 
-			if ((result != null) && result.contains("version")) {
-				return true;
+		if (gradleExecutor == null) {
+			try {
+				BladeSettings bladeSettings = _blade.getBladeSettings();
+
+				gradleExecutor = bladeSettings.getGradleExecutor();
+			}
+			catch (IOException ioException) {
+				gradleExecutor = "auto";
 			}
+		}
 
+		if (Objects.equals(gradleExecutor, "fork") || !_toolingExecutorAvailable) {
 			return false;
 		}
-		catch (Exception exception) {
+
+		if (Objects.equals(gradleExecutor, "tooling")) {
+			return true;
+		}
+
+		if (GradleExecutable.getWrapper(baseDir) == null) {
 			return false;
 		}
+
+		_toolingExecutorAvailable = GradleTooling.isAvailable();
+
+		return _toolingExecutorAvailable;
+	}
+
+	private static final Set<String> _EXCLUDE_TASK_OPTIONS = new HashSet<>(Arrays.asList("-x", "--exclude-task"));
+
+	private static final String[] _SETTINGS_FILE_NAMES = {"settings.gradle", "settings.gradle.kts"};
+
+	private static final Pattern _failedTaskPattern = Pattern.compile("Execution failed for task '([^']+)'");
+
+	private int _runProcess(
+			String command, File dir, PrintStream out, PrintStream err, Consumer<String> outputLineListener)
+		throws Exception {
+
+		ProcessBuilder processBuilder = new ProcessBuilder();
+
+		if ((dir != null) && dir.exists()) {
+			processBuilder.directory(dir);
+		}
+
+		BladeUtil.setShell(processBuilder, command);
+
+		Process process = processBuilder.start();
+
+		OutputStream outputStream = process.getOutputStream();
+
+		outputStream.close();
+
+		Thread outThread = BladeUtil.readProcessStream(process.getInputStream(), out, outputLineListener);
+		Thread errThread = BladeUtil.readProcessStream(process.getErrorStream(), err);
+
+		int returnCode = process.waitFor();
+
+		outThread.join();
+		errThread.join();
+
+		return returnCode;
 	}
 
 	private BladeCLI _blade;
+	private final Set<CancellationSignal> _cancellationSignals = ConcurrentHashMap.newKeySet();
+	private TaskProgressListener _taskProgressListener;
+	private boolean _toolingExecutorAvailable = true;
+
+	private static class TaskOutcomeProgressListener implements TaskProgressListener {
+
+		public TaskOutcomeProgressListener(
+			Set<String> completedTaskPaths, Set<String> failedTaskPaths, TaskProgressListener taskProgressListener) {
+
+			_completedTaskPaths = completedTaskPaths;
+			_failedTaskPaths = failedTaskPaths;
+			_taskProgressListener = taskProgressListener;
+		}
+
+		@Override
+		public void taskFinished(String taskPath, long startTime, long endTime, String outcome) {
+			if (Objects.equals(outcome, "FAILED")) {
+				_failedTaskPaths.add(taskPath);
+			}
+			else {
+				_completedTaskPaths.add(taskPath);
+			}
+
+			if (_taskProgressListener != null) {
+				_taskProgressListener.taskFinished(taskPath, startTime, endTime, outcome);
+			}
+		}
+
+		@Override
+		public void taskStarted(String taskPath, long startTime) {
+			if (_taskProgressListener != null) {
+				_taskProgressListener.taskStarted(taskPath, startTime);
+			}
+		}
+
+		private final Set<String> _completedTaskPaths;
+		private final Set<String> _failedTaskPaths;
+		private final TaskProgressListener _taskProgressListener;
+
+	}
 
-}
\ No newline at end of file
+}
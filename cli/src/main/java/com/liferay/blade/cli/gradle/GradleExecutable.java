@@ -0,0 +1,258 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import com.liferay.blade.cli.StringConverter;
+import com.liferay.blade.cli.util.BladeUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Gregory Amerson
+ */
+public class GradleExecutable {
+
+	public static GradleExecutable getInstalled() {
+		File gradleFile = _findInstalledGradle();
+
+		if (gradleFile == null) {
+			return null;
+		}
+
+		String stamp = _getStamp(gradleFile);
+
+		GradleExecutable gradleExecutable = _installedGradleExecutable;
+
+		if ((gradleExecutable == null) || !Objects.equals(stamp, gradleExecutable._stamp)) {
+
+			// A failed probe is remembered too, so that a broken gradle on the
+			// PATH is not run again for every task
+
+			Path cachePath = _getInstalledCachePath();
+
+			Properties properties = _readProperties(cachePath);
+
+			String installed = properties.getProperty("installed");
+
+			if ((installed == null) || !Objects.equals(stamp, properties.getProperty("stamp"))) {
+				installed = String.valueOf(_isInstalled());
+
+				_writeProperties(cachePath, stamp, installed);
+			}
+
+			gradleExecutable = new GradleExecutable(Boolean.parseBoolean(installed) ? "gradle" : null, stamp);
+
+			_installedGradleExecutable = gradleExecutable;
+		}
+
+		if (gradleExecutable._path == null) {
+			return null;
+		}
+
+		return gradleExecutable;
+	}
+
+	public static GradleExecutable getWrapper(File dir) {
+		if (dir == null) {
+			return null;
+		}
+
+		File gradlew = _wrappers.get(dir);
+
+		if ((gradlew == null) || !gradlew.exists()) {
+			gradlew = BladeUtil.getGradleWrapper(dir);
+
+			if ((gradlew == null) || !gradlew.exists()) {
+				_wrappers.remove(dir);
+
+				return null;
+			}
+
+			_wrappers.put(dir, gradlew);
+		}
+
+		try {
+			if (!gradlew.canExecute()) {
+				gradlew.setExecutable(true);
+			}
+
+			File canonicalGradlew = gradlew.getCanonicalFile();
+
+			String stamp = _getStamp(canonicalGradlew);
+
+			return _wrapperGradleExecutables.compute(
+				canonicalGradlew.getPath(),
+				(path, gradleExecutable) -> {
+					if ((gradleExecutable != null) && Objects.equals(stamp, gradleExecutable._stamp)) {
+						return gradleExecutable;
+					}
+
+					return new GradleExecutable(path, stamp);
+				});
+		}
+		catch (Throwable throwable) {
+			return null;
+		}
+	}
+
+	public String getPath() {
+		return _path;
+	}
+
+	private static File _findInstalledGradle() {
+		String path = System.getenv("PATH");
+
+		if (path == null) {
+			return null;
+		}
+
+		String[] fileNames = {"gradle"};
+
+		if (BladeUtil.isWindows()) {
+			fileNames = new String[] {"gradle.bat", "gradle.cmd"};
+		}
+
+		for (String dirName : path.split(File.pathSeparator)) {
+			if (dirName.isEmpty()) {
+				continue;
+			}
+
+			for (String fileName : fileNames) {
+				File file = new File(dirName, fileName);
+
+				if (file.isFile()) {
+					return file;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private static Path _getInstalledCachePath() {
+		Path bladeCachePath = BladeUtil.getBladeCachePath();
+
+		return bladeCachePath.resolve("gradle-executable/installed.properties");
+	}
+
+	private static String _getStamp(File file) {
+		String path = file.getAbsolutePath();
+
+		try {
+			path = file.getCanonicalPath();
+		}
+		catch (IOException ioException) {
+		}
+
+		return path + ":" + file.length() + ":" + file.lastModified();
+	}
+
+	private static boolean _isInstalled() {
+		try {
+			ProcessBuilder processBuilder = new ProcessBuilder();
+
+			if (BladeUtil.isWindows()) {
+				processBuilder.command("cmd.exe", "/c", "gradle -version");
+			}
+			else {
+				processBuilder.command("sh", "-c", "gradle -version");
+			}
+
+			processBuilder.directory(new File(System.getProperty("user.home")));
+			processBuilder.redirectErrorStream(true);
+
+			Process process = processBuilder.start();
+
+			String output = StringConverter.frommInputStream(process.getInputStream());
+
+			if ((process.waitFor() == 0) && output.contains("version")) {
+				return true;
+			}
+		}
+		catch (Exception exception) {
+		}
+
+		return false;
+	}
+
+	private static Properties _readProperties(Path path) {
+		Properties properties = new Properties();
+
+		if (Files.exists(path)) {
+			try (InputStream inputStream = Files.newInputStream(path)) {
+				properties.load(inputStream);
+			}
+			catch (IOException ioException) {
+			}
+		}
+
+		return properties;
+	}
+
+	private static void _writeProperties(Path cachePath, String stamp, String installed) {
+		Properties properties = new Properties();
+
+		properties.setProperty("installed", installed);
+		properties.setProperty("stamp", stamp);
+
+		try {
+			Path parentPath = cachePath.getParent();
+
+			Files.createDirectories(parentPath);
+
+			Path tempPath = Files.createTempFile(parentPath, String.valueOf(cachePath.getFileName()), ".tmp");
+
+			try {
+				try (OutputStream outputStream = Files.newOutputStream(tempPath)) {
+					properties.store(outputStream, null);
+				}
+
+				Files.move(tempPath, cachePath, StandardCopyOption.REPLACE_EXISTING);
+			}
+			finally {
+				Files.deleteIfExists(tempPath);
+			}
+		}
+		catch (IOException ioException) {
+		}
+	}
+
+	private GradleExecutable(String path, String stamp) {
+		_path = path;
+		_stamp = stamp;
+	}
+
+	private static final Map<String, GradleExecutable> _wrapperGradleExecutables = new ConcurrentHashMap<>();
+	private static final Map<File, File> _wrappers = new ConcurrentHashMap<>();
+	private static volatile GradleExecutable _installedGradleExecutable;
+
+	private final String _path;
+	private final String _stamp;
+
+}
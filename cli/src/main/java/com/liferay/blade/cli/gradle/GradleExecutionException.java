@@ -16,21 +16,15 @@
 
 package com.liferay.blade.cli.gradle;
 
+import com.liferay.blade.cli.BladeExecutionException;
+
 /**
  * @author Christopher Bryan Boyd
  */
-public class GradleExecutionException extends RuntimeException {
+public class GradleExecutionException extends BladeExecutionException {
 
 	public GradleExecutionException(String message, int returnCode) {
-		super(message);
-
-		_returnCode = returnCode;
+		super(message, returnCode);
 	}
 
-	public int getReturnCode() {
-		return _returnCode;
-	}
-
-	private final int _returnCode;
-
-}
\ No newline at end of file
+}
@@ -17,76 +17,166 @@
 package com.liferay.blade.cli.gradle;
 
 import com.liferay.blade.cli.util.FileUtil;
+import com.liferay.blade.cli.util.IsolatedClassLoader;
+import com.liferay.blade.cli.util.ResourceCache;
 import com.liferay.blade.gradle.tooling.ProjectInfo;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.gradle.tooling.GradleConnector;
-import org.gradle.tooling.ModelBuilder;
-import org.gradle.tooling.ProjectConnection;
-
 /**
  * @author Gregory Amerson
  */
 public class GradleTooling {
 
+	public static boolean isAvailable() {
+		try {
+			_getProjectConnectionPool();
+
+			return true;
+		}
+		catch (Throwable throwable) {
+			return false;
+		}
+	}
+
 	public static ProjectInfo loadProjectInfo(Path projectPath) throws Exception {
-		ProjectInfo projectInfo = null;
+		return loadProjectInfo(projectPath, false);
+	}
+
+	public static ProjectInfo loadProjectInfo(Path projectPath, boolean refreshModel) throws Exception {
+		ProjectInfoCache projectInfoCache = new ProjectInfoCache(projectPath);
+
+		String fingerprint = projectInfoCache.getFingerprint();
 
-		GradleConnector connector = GradleConnector.newConnector();
+		if (!refreshModel) {
+			ProjectInfo projectInfo = projectInfoCache.read(fingerprint);
 
-		connector.forProjectDirectory(projectPath.toFile());
+			if (projectInfo != null) {
+				return projectInfo;
+			}
+		}
+
+		ProjectConnectionPool projectConnectionPool = _getProjectConnectionPool();
+
+		ProjectInfo projectInfo = projectConnectionPool.getProjectInfo(projectPath, _getInitScriptPath());
+
+		projectInfoCache.write(fingerprint, projectInfo);
 
-		ProjectConnection connection = null;
+		return projectInfo;
+	}
+
+	public static void runBuild(
+			Path projectPath, List<String> arguments, OutputStream standardOutput, OutputStream standardError,
+			TaskProgressListener taskProgressListener, CancellationSignal cancellationSignal)
+		throws Exception {
+
+		ProjectConnectionPool projectConnectionPool;
 
 		try {
-			connection = connector.connect();
+			projectConnectionPool = _getProjectConnectionPool();
+		}
+		catch (Exception | LinkageError exception) {
+			throw new ToolingConnectionException("Unable to load the Gradle Tooling API", exception);
+		}
+
+		projectConnectionPool.runBuild(
+			projectPath, arguments, standardOutput, standardError, taskProgressListener, cancellationSignal);
+	}
 
-			ModelBuilder<ProjectInfo> modelBuilder = connection.model(ProjectInfo.class);
+	private static Path _createInitScriptPath() throws Exception {
+		ResourceCache resourceCache = new ResourceCache();
 
-			Path tempPath = Files.createTempDirectory("tooling");
+		Path toolingPath = resourceCache.get(
+			"tooling",
+			Arrays.asList(
+				GradleTooling.class.getResource("/tooling.zip"), GradleTooling.class.getResource("init.gradle")),
+			cachePath -> {
+				InputStream in = GradleTooling.class.getResourceAsStream("/tooling.zip");
 
-			InputStream in = GradleTooling.class.getResourceAsStream("/tooling.zip");
+				FileUtil.unzip(in, cachePath.toFile());
+			});
 
-			FileUtil.unzip(in, tempPath.toFile());
+		Path initPath = toolingPath.resolve("init.gradle");
+
+		if (Files.exists(initPath)) {
+			return initPath;
+		}
 
-			try (Stream<Path> toolingFiles = Files.list(tempPath)) {
-				String files = toolingFiles.map(
-					Path::toAbsolutePath
-				).map(
-					Path::toString
-				).map(
-					path -> "\"" + path.replaceAll("\\\\", "/") + "\""
-				).collect(
-					Collectors.joining(", ")
-				);
+		try (Stream<Path> toolingFiles = Files.list(toolingPath)) {
+			String files = toolingFiles.filter(
+				path -> {
+					String fileName = String.valueOf(path.getFileName());
 
-				String initScriptTemplate = FileUtil.collect(GradleTooling.class.getResourceAsStream("init.gradle"));
+					return fileName.endsWith(".jar");
+				}
+			).map(
+				Path::toAbsolutePath
+			).map(
+				Path::toString
+			).map(
+				path -> "\"" + path.replaceAll("\\\\", "/") + "\""
+			).collect(
+				Collectors.joining(", ")
+			);
 
-				String initScriptContents = initScriptTemplate.replaceAll("%files%", files);
+			String initScriptTemplate = FileUtil.collect(GradleTooling.class.getResourceAsStream("init.gradle"));
 
-				Path initPath = tempPath.resolve("init.gradle");
+			String initScriptContents = initScriptTemplate.replaceAll("%files%", files);
 
-				Files.write(initPath, initScriptContents.getBytes());
+			Path tempInitPath = Files.createTempFile(toolingPath, "init", ".tmp");
 
-				modelBuilder.withArguments("--init-script", initPath.toString(), "--stacktrace");
+			try {
+				Files.write(tempInitPath, initScriptContents.getBytes());
 
-				projectInfo = modelBuilder.get();
+				Files.move(tempInitPath, initPath, StandardCopyOption.ATOMIC_MOVE);
 			}
-		}
-		finally {
-			if (connection != null) {
-				connection.close();
+			catch (IOException ioException) {
+				if (Files.notExists(initPath)) {
+					throw ioException;
+				}
+			}
+			finally {
+				Files.deleteIfExists(tempInitPath);
 			}
 		}
 
-		return projectInfo;
+		return initPath;
 	}
 
-}
\ No newline at end of file
+	private static synchronized Path _getInitScriptPath() throws Exception {
+		if ((_initScriptPath == null) || Files.notExists(_initScriptPath)) {
+			_initScriptPath = _createInitScriptPath();
+		}
+
+		return _initScriptPath;
+	}
+
+	private static synchronized ProjectConnectionPool _getProjectConnectionPool() throws Exception {
+		if (_projectConnectionPool == null) {
+			ClassLoader classLoader = IsolatedClassLoader.get(
+				"gradle-tooling-api", "com.liferay.blade.cli.gradle.internal", "org.gradle");
+
+			Class<?> clazz = classLoader.loadClass(
+				"com.liferay.blade.cli.gradle.internal.DefaultProjectConnectionPool");
+
+			_projectConnectionPool = (ProjectConnectionPool)clazz.newInstance();
+		}
+
+		return _projectConnectionPool;
+	}
+
+	private static Path _initScriptPath;
+	private static ProjectConnectionPool _projectConnectionPool;
+
+}
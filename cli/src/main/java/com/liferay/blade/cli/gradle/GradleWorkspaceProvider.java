@@ -23,16 +23,19 @@ import com.liferay.blade.cli.WorkspaceConstants;
 import com.liferay.blade.cli.WorkspaceProvider;
 import com.liferay.blade.cli.command.BaseArgs;
 import com.liferay.blade.cli.util.BladeUtil;
-import com.liferay.blade.cli.util.ProductInfo;
+import com.liferay.blade.cli.util.ProductIndex;
 import com.liferay.project.templates.extensions.util.VersionUtil;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.io.IOException;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -54,9 +57,26 @@ public class GradleWorkspaceProvider implements WorkspaceProvider {
 		Pattern.MULTILINE | Pattern.DOTALL);
 
 	public Properties getGradleProperties(File dir) {
-		File file = getGradlePropertiesFile(dir);
+		WorkspaceDescriptor workspaceDescriptor = _getWorkspaceDescriptor(dir);
 
-		return BladeUtil.getProperties(file);
+		if (workspaceDescriptor == null) {
+			return BladeUtil.getProperties(getGradlePropertiesFile(dir));
+		}
+
+		Properties gradleProperties = workspaceDescriptor._gradleProperties;
+
+		if (gradleProperties == null) {
+			gradleProperties = BladeUtil.getProperties(
+				new File(workspaceDescriptor._workspaceDir, _GRADLE_PROPERTIES_FILE_NAME));
+
+			if (gradleProperties == null) {
+				return null;
+			}
+
+			workspaceDescriptor._gradleProperties = gradleProperties;
+		}
+
+		return (Properties)gradleProperties.clone();
 	}
 
 	public File getGradlePropertiesFile(File dir) {
@@ -64,8 +84,121 @@ public class GradleWorkspaceProvider implements WorkspaceProvider {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public String getLiferayVersion(File workspaceDir) {
+		WorkspaceDescriptor workspaceDescriptor = _getWorkspaceDescriptor(workspaceDir);
+
+		if ((workspaceDescriptor != null) && (workspaceDescriptor._liferayVersion != null)) {
+			return workspaceDescriptor._liferayVersion;
+		}
+
+		String liferayVersion = _getLiferayVersion(workspaceDir);
+
+		if (workspaceDescriptor != null) {
+			workspaceDescriptor._liferayVersion = liferayVersion;
+		}
+
+		return liferayVersion;
+	}
+
+	@Override
+	public String getProduct(File workspaceDir) {
+		WorkspaceDescriptor workspaceDescriptor = _getWorkspaceDescriptor(workspaceDir);
+
+		if (workspaceDescriptor == null) {
+			return _getProduct(workspaceDir);
+		}
+
+		if (workspaceDescriptor._product == null) {
+			workspaceDescriptor._product = _getProduct(workspaceDir);
+		}
+
+		return workspaceDescriptor._product;
+	}
+
+	public File getSettingGradleFile(File dir) {
+		return new File(getWorkspaceDir(dir), _SETTINGS_GRADLE_FILE_NAME);
+	}
+
+	@Override
+	public File getWorkspaceDir(BladeCLI blade) {
+		BaseArgs args = blade.getArgs();
+
+		return getWorkspaceDir(args.getBase());
+	}
+
+	@Override
+	public File getWorkspaceDir(File dir) {
+		File gradleParent = BladeUtil.findParentFile(
+			dir, new String[] {_SETTINGS_GRADLE_FILE_NAME, _GRADLE_PROPERTIES_FILE_NAME}, true);
+
+		if ((gradleParent != null) && gradleParent.exists()) {
+			return gradleParent;
+		}
+
+		FilenameFilter gradleFilter =
+			(file, name) -> _SETTINGS_GRADLE_FILE_NAME.equals(name) || _GRADLE_PROPERTIES_FILE_NAME.equals(name);
+
+		File[] matches = dir.listFiles(gradleFilter);
+
+		if (Objects.nonNull(matches) && (matches.length > 0)) {
+			return dir;
+		}
+
+		return null;
+	}
+
+	@Override
+	public boolean isDependencyManagementEnabled(File dir) {
+		if (!isWorkspace(dir)) {
+			return false;
+		}
+
+		WorkspaceDescriptor workspaceDescriptor = _getWorkspaceDescriptor(dir);
+
+		if (workspaceDescriptor == null) {
+			return _isDependencyManagementEnabled(dir);
+		}
+
+		if (workspaceDescriptor._dependencyManagementEnabled == null) {
+			workspaceDescriptor._dependencyManagementEnabled = _isDependencyManagementEnabled(dir);
+		}
+
+		return workspaceDescriptor._dependencyManagementEnabled;
+	}
+
+	@Override
+	public boolean isWorkspace(File dir) {
+		if (Objects.isNull(dir)) {
+			return false;
+		}
+
+		WorkspaceDescriptor workspaceDescriptor = _getWorkspaceDescriptor(dir);
+
+		if (workspaceDescriptor == null) {
+			return false;
+		}
+
+		if (workspaceDescriptor._workspace == null) {
+			workspaceDescriptor._workspace = _isWorkspace(workspaceDescriptor._workspaceDir);
+		}
+
+		return workspaceDescriptor._workspace;
+	}
+
+	private static long[] _getStamps(File workspaceDir) {
+		long[] stamps = new long[_WORKSPACE_FILE_NAMES.length * 2];
+
+		for (int i = 0; i < _WORKSPACE_FILE_NAMES.length; i++) {
+			File file = new File(workspaceDir, _WORKSPACE_FILE_NAMES[i]);
+
+			stamps[i * 2] = file.lastModified();
+			stamps[(i * 2) + 1] = file.length();
+		}
+
+		return stamps;
+	}
+
+	private String _getLiferayVersion(File workspaceDir) {
 		try {
 			Properties gradleProperties = getGradleProperties(workspaceDir);
 
@@ -78,17 +211,9 @@ public class GradleWorkspaceProvider implements WorkspaceProvider {
 			if (!baseLiferayVersion.isPresent()) {
 				String productKey = gradleProperties.getProperty(WorkspaceConstants.DEFAULT_WORKSPACE_PRODUCT_PROPERTY);
 
-				Map<String, Object> productInfoMap = BladeUtil.getProductInfos();
-
-				ProductInfo productInfo = new ProductInfo((Map<String, String>)productInfoMap.get(productKey));
+				ProductIndex productIndex = BladeUtil.getProductIndex();
 
-				if (productInfo != null) {
-					baseLiferayVersion = Optional.ofNullable(
-						productInfo.getTargetPlatformVersion()
-					).filter(
-						BladeUtil::isNotEmpty
-					);
-				}
+				baseLiferayVersion = productIndex.getTargetPlatformVersion(productKey);
 			}
 
 			if (!baseLiferayVersion.isPresent()) {
@@ -123,14 +248,17 @@ public class GradleWorkspaceProvider implements WorkspaceProvider {
 			}
 		}
 		catch (Exception exception) {
-			BladeCLI.instance.error(exception);
+			BladeCLI bladeCLI = BladeCLI.current();
+
+			if (bladeCLI != null) {
+				bladeCLI.error(exception);
+			}
 		}
 
 		return null;
 	}
 
-	@Override
-	public String getProduct(File workspaceDir) {
+	private String _getProduct(File workspaceDir) {
 		try {
 			Properties gradleProperties = getGradleProperties(workspaceDir);
 
@@ -171,44 +299,38 @@ public class GradleWorkspaceProvider implements WorkspaceProvider {
 		return "portal";
 	}
 
-	public File getSettingGradleFile(File dir) {
-		return new File(getWorkspaceDir(dir), _SETTINGS_GRADLE_FILE_NAME);
-	}
-
-	@Override
-	public File getWorkspaceDir(BladeCLI blade) {
-		BaseArgs args = blade.getArgs();
+	private WorkspaceDescriptor _getWorkspaceDescriptor(File dir) {
+		if (dir == null) {
+			return null;
+		}
 
-		return getWorkspaceDir(args.getBase());
-	}
+		File workspaceDir = getWorkspaceDir(dir);
 
-	@Override
-	public File getWorkspaceDir(File dir) {
-		File gradleParent = BladeUtil.findParentFile(
-			dir, new String[] {_SETTINGS_GRADLE_FILE_NAME, _GRADLE_PROPERTIES_FILE_NAME}, true);
+		if (workspaceDir == null) {
+			return null;
+		}
 
-		if ((gradleParent != null) && gradleParent.exists()) {
-			return gradleParent;
+		try {
+			workspaceDir = workspaceDir.getCanonicalFile();
+		}
+		catch (IOException ioException) {
+			workspaceDir = workspaceDir.getAbsoluteFile();
 		}
 
-		FilenameFilter gradleFilter =
-			(file, name) -> _SETTINGS_GRADLE_FILE_NAME.equals(name) || _GRADLE_PROPERTIES_FILE_NAME.equals(name);
+		long[] stamps = _getStamps(workspaceDir);
 
-		File[] matches = dir.listFiles(gradleFilter);
+		WorkspaceDescriptor workspaceDescriptor = _workspaceDescriptors.get(workspaceDir);
 
-		if (Objects.nonNull(matches) && (matches.length > 0)) {
-			return dir;
+		if ((workspaceDescriptor == null) || !Arrays.equals(stamps, workspaceDescriptor._stamps)) {
+			workspaceDescriptor = new WorkspaceDescriptor(workspaceDir, stamps);
+
+			_workspaceDescriptors.put(workspaceDir, workspaceDescriptor);
 		}
 
-		return null;
+		return workspaceDescriptor;
 	}
 
-	@Override
-	public boolean isDependencyManagementEnabled(File dir) {
-		if (!isWorkspace(dir)) {
-			return false;
-		}
-
+	private boolean _isDependencyManagementEnabled(File dir) {
 		Properties properties = getGradleProperties(dir);
 		String targetPlatformVersionKey = "liferay.workspace.target.platform.version";
 
@@ -246,14 +368,7 @@ public class GradleWorkspaceProvider implements WorkspaceProvider {
 		return false;
 	}
 
-	@Override
-	public boolean isWorkspace(File dir) {
-		File workspaceDir = getWorkspaceDir(dir);
-
-		if (Objects.isNull(dir) || Objects.isNull(workspaceDir)) {
-			return false;
-		}
-
+	private boolean _isWorkspace(File workspaceDir) {
 		File gradleFile = new File(workspaceDir, _SETTINGS_GRADLE_FILE_NAME);
 
 		if (!gradleFile.exists()) {
@@ -290,4 +405,27 @@ public class GradleWorkspaceProvider implements WorkspaceProvider {
 
 	private static final String _SETTINGS_GRADLE_FILE_NAME = "settings.gradle";
 
+	private static final String[] _WORKSPACE_FILE_NAMES = {
+		_BUILD_GRADLE_FILE_NAME, _GRADLE_PROPERTIES_FILE_NAME, _SETTINGS_GRADLE_FILE_NAME
+	};
+
+	private static final Map<File, WorkspaceDescriptor> _workspaceDescriptors = new ConcurrentHashMap<>();
+
+	private static class WorkspaceDescriptor {
+
+		private WorkspaceDescriptor(File workspaceDir, long[] stamps) {
+			_workspaceDir = workspaceDir;
+			_stamps = stamps;
+		}
+
+		private volatile Boolean _dependencyManagementEnabled;
+		private volatile Properties _gradleProperties;
+		private volatile String _liferayVersion;
+		private volatile String _product;
+		private final long[] _stamps;
+		private volatile Boolean _workspace;
+		private final File _workspaceDir;
+
+	}
+
 }
\ No newline at end of file
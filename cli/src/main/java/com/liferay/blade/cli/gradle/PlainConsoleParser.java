@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @author Gregory Amerson
+ */
+public class PlainConsoleParser implements Consumer<String> {
+
+	public PlainConsoleParser(TaskProgressListener taskProgressListener) {
+		_taskProgressListener = taskProgressListener;
+
+		_lastTime = System.currentTimeMillis();
+	}
+
+	@Override
+	public synchronized void accept(String line) {
+		long now = System.currentTimeMillis();
+
+		Matcher matcher = _taskPattern.matcher(line);
+
+		if (!matcher.matches()) {
+			if (!_taskStarted) {
+				_lastTime = now;
+			}
+
+			return;
+		}
+
+		String outcome = matcher.group(2);
+
+		if (outcome == null) {
+			outcome = "SUCCESS";
+		}
+
+		_taskProgressListener.taskStarted(matcher.group(1), _lastTime);
+		_taskProgressListener.taskFinished(matcher.group(1), _lastTime, now, outcome);
+
+		_lastTime = now;
+		_taskStarted = true;
+	}
+
+	private static final Pattern _taskPattern = Pattern.compile(
+		"> Task (:\\S*)(?: (FAILED|FROM-CACHE|NO-SOURCE|SKIPPED|UP-TO-DATE))?\\s*");
+
+	private long _lastTime;
+	private final TaskProgressListener _taskProgressListener;
+	private boolean _taskStarted;
+
+}
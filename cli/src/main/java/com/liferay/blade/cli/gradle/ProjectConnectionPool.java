@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import com.liferay.blade.gradle.tooling.ProjectInfo;
+
+import java.io.OutputStream;
+
+import java.nio.file.Path;
+
+import java.util.List;
+
+/**
+ * @author Gregory Amerson
+ */
+public interface ProjectConnectionPool {
+
+	public ProjectInfo getProjectInfo(Path projectPath, Path initScriptPath) throws Exception;
+
+	public void runBuild(
+			Path projectPath, List<String> arguments, OutputStream standardOutput, OutputStream standardError,
+			TaskProgressListener taskProgressListener, CancellationSignal cancellationSignal)
+		throws Exception;
+
+}
@@ -0,0 +1,313 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import com.liferay.blade.cli.command.VersionCommand;
+import com.liferay.blade.cli.util.BladeUtil;
+import com.liferay.blade.cli.util.ResourceCache;
+import com.liferay.blade.gradle.tooling.DefaultModel;
+import com.liferay.blade.gradle.tooling.ProjectInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+import java.security.MessageDigest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * @author Gregory Amerson
+ */
+public class ProjectInfoCache {
+
+	public ProjectInfoCache(Path projectPath) throws Exception {
+		File projectDir = projectPath.toFile();
+
+		_projectDir = projectDir.getCanonicalFile();
+
+		Path bladeCachePath = BladeUtil.getBladeCachePath();
+
+		MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+		messageDigest.update(String.valueOf(_projectDir).getBytes(StandardCharsets.UTF_8));
+
+		_snapshotPath = bladeCachePath.resolve("project-info/" + ResourceCache.toHex(messageDigest) + ".snapshot");
+	}
+
+	public String getFingerprint() throws Exception {
+		Map<String, BasicFileAttributes> buildFiles = new TreeMap<>();
+
+		Path projectPath = _projectDir.toPath();
+
+		Files.walkFileTree(
+			projectPath,
+			new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path path, BasicFileAttributes basicFileAttributes) {
+					if (!path.equals(projectPath) && _SKIPPED_DIR_NAMES.contains(String.valueOf(path.getFileName()))) {
+						return FileVisitResult.SKIP_SUBTREE;
+					}
+
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path path, BasicFileAttributes basicFileAttributes) {
+					if (_BUILD_FILE_NAMES.contains(String.valueOf(path.getFileName()))) {
+						buildFiles.put(String.valueOf(projectPath.relativize(path)), basicFileAttributes);
+					}
+
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path path, IOException ioException) {
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+
+		Path rootPath = projectPath;
+
+		File rootDir = BladeUtil.findParentFile(_projectDir, _SETTINGS_FILE_NAMES, true);
+
+		if ((rootDir != null) && !_projectDir.equals(rootDir)) {
+			rootPath = rootDir.toPath();
+
+			for (String buildFileName : _BUILD_FILE_NAMES) {
+				Path buildFilePath = rootPath.resolve(buildFileName);
+
+				if (Files.exists(buildFilePath)) {
+					buildFiles.put(
+						String.valueOf(projectPath.relativize(buildFilePath)),
+						Files.readAttributes(buildFilePath, BasicFileAttributes.class));
+				}
+			}
+		}
+
+		MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+		for (Map.Entry<String, BasicFileAttributes> entry : buildFiles.entrySet()) {
+			BasicFileAttributes basicFileAttributes = entry.getValue();
+
+			FileTime lastModifiedTime = basicFileAttributes.lastModifiedTime();
+
+			ResourceCache.updateDigest(
+				messageDigest, entry.getKey(), basicFileAttributes.size(), lastModifiedTime.toMillis());
+		}
+
+		for (Path path : new LinkedHashSet<>(Arrays.asList(projectPath, rootPath))) {
+			Path wrapperPropertiesPath = path.resolve("gradle/wrapper/gradle-wrapper.properties");
+
+			if (Files.exists(wrapperPropertiesPath)) {
+				messageDigest.update(Files.readAllBytes(wrapperPropertiesPath));
+			}
+		}
+
+		String bladeVersion = null;
+
+		try {
+			bladeVersion = VersionCommand.getBladeCLIVersion();
+		}
+		catch (IOException ioException) {
+		}
+
+		messageDigest.update(String.valueOf(bladeVersion).getBytes(StandardCharsets.UTF_8));
+
+		return ResourceCache.toHex(messageDigest);
+	}
+
+	public ProjectInfo read(String fingerprint) {
+		if (Files.notExists(_snapshotPath)) {
+			return null;
+		}
+
+		try (DataInputStream dataInputStream = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(_snapshotPath)))) {
+
+			if ((dataInputStream.readInt() != _SNAPSHOT_VERSION) ||
+				!fingerprint.equals(dataInputStream.readUTF())) {
+
+				return null;
+			}
+
+			String deployDir = _readString(dataInputStream);
+			String dockerContainerId = _readString(dataInputStream);
+			String dockerImageId = _readString(dataInputStream);
+			String dockerImageLiferay = _readString(dataInputStream);
+			String liferayHome = _readString(dataInputStream);
+
+			int size = dataInputStream.readInt();
+
+			Set<String> pluginClassNames = new LinkedHashSet<>();
+
+			for (int i = 0; i < size; i++) {
+				pluginClassNames.add(dataInputStream.readUTF());
+			}
+
+			size = dataInputStream.readInt();
+
+			Map<String, File> projectDirs = new LinkedHashMap<>();
+
+			for (int i = 0; i < size; i++) {
+				projectDirs.put(dataInputStream.readUTF(), new File(dataInputStream.readUTF()));
+			}
+
+			size = dataInputStream.readInt();
+
+			Map<String, Set<File>> projectOutputFiles = new LinkedHashMap<>();
+
+			for (int i = 0; i < size; i++) {
+				String projectPath = dataInputStream.readUTF();
+
+				int filesSize = dataInputStream.readInt();
+
+				Set<File> files = new LinkedHashSet<>();
+
+				for (int j = 0; j < filesSize; j++) {
+					files.add(new File(dataInputStream.readUTF()));
+				}
+
+				projectOutputFiles.put(projectPath, Collections.unmodifiableSet(files));
+			}
+
+			return new DefaultModel(
+				Collections.unmodifiableSet(pluginClassNames), Collections.unmodifiableMap(projectDirs),
+				Collections.unmodifiableMap(projectOutputFiles), deployDir, liferayHome, dockerImageLiferay,
+				dockerImageId, dockerContainerId);
+		}
+		catch (IOException ioException) {
+			return null;
+		}
+	}
+
+	public void write(String fingerprint, ProjectInfo projectInfo) throws IOException {
+		Path parentPath = _snapshotPath.getParent();
+
+		Files.createDirectories(parentPath);
+
+		Path tempPath = Files.createTempFile(parentPath, String.valueOf(_snapshotPath.getFileName()), ".tmp");
+
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(tempPath);
+				DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+
+				dataOutputStream.writeInt(_SNAPSHOT_VERSION);
+				dataOutputStream.writeUTF(fingerprint);
+
+				_writeString(dataOutputStream, projectInfo.getDeployDir());
+				_writeString(dataOutputStream, projectInfo.getDockerContainerId());
+				_writeString(dataOutputStream, projectInfo.getDockerImageId());
+				_writeString(dataOutputStream, projectInfo.getDockerImageLiferay());
+				_writeString(dataOutputStream, projectInfo.getLiferayHome());
+
+				Set<String> pluginClassNames = projectInfo.getPluginClassNames();
+
+				dataOutputStream.writeInt(pluginClassNames.size());
+
+				for (String pluginClassName : pluginClassNames) {
+					dataOutputStream.writeUTF(pluginClassName);
+				}
+
+				Map<String, File> projectDirs = projectInfo.getProjectDirs();
+
+				dataOutputStream.writeInt(projectDirs.size());
+
+				for (Map.Entry<String, File> entry : projectDirs.entrySet()) {
+					File projectDir = entry.getValue();
+
+					dataOutputStream.writeUTF(entry.getKey());
+					dataOutputStream.writeUTF(projectDir.getPath());
+				}
+
+				Map<String, Set<File>> projectOutputFiles = projectInfo.getProjectOutputFiles();
+
+				dataOutputStream.writeInt(projectOutputFiles.size());
+
+				for (Map.Entry<String, Set<File>> entry : projectOutputFiles.entrySet()) {
+					Set<File> files = entry.getValue();
+
+					dataOutputStream.writeUTF(entry.getKey());
+					dataOutputStream.writeInt(files.size());
+
+					for (File file : files) {
+						dataOutputStream.writeUTF(file.getPath());
+					}
+				}
+			}
+
+			Files.move(tempPath, _snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+
+	private static String _readString(DataInputStream dataInputStream) throws IOException {
+		if (dataInputStream.readBoolean()) {
+			return dataInputStream.readUTF();
+		}
+
+		return null;
+	}
+
+	private static void _writeString(DataOutputStream dataOutputStream, String value) throws IOException {
+		dataOutputStream.writeBoolean(value != null);
+
+		if (value != null) {
+			dataOutputStream.writeUTF(value);
+		}
+	}
+
+	private static final Set<String> _BUILD_FILE_NAMES = new HashSet<>(
+		Arrays.asList(
+			"bnd.bnd", "build.gradle", "build.gradle.kts", "gradle-local.properties", "gradle.properties",
+			"settings.gradle", "settings.gradle.kts"));
+
+	private static final String[] _SETTINGS_FILE_NAMES = {"settings.gradle", "settings.gradle.kts"};
+
+	private static final Set<String> _SKIPPED_DIR_NAMES = new HashSet<>(
+		Arrays.asList(".blade", ".git", ".gradle", "build", "bundles", "node_modules"));
+
+	private static final int _SNAPSHOT_VERSION = 2;
+
+	private final File _projectDir;
+	private final Path _snapshotPath;
+
+}
@@ -0,0 +1,330 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import com.liferay.blade.cli.BladeCLI;
+import com.liferay.blade.cli.command.TaskTimingsArgs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * @author Gregory Amerson
+ */
+public class TaskTimings implements TaskProgressListener {
+
+	public static TaskTimings create(TaskTimingsArgs taskTimingsArgs) {
+		if (taskTimingsArgs.isTimings() || (taskTimingsArgs.getTimingsFile() != null)) {
+			return new TaskTimings();
+		}
+
+		return null;
+	}
+
+	public TaskTimings() {
+		clear();
+	}
+
+	public synchronized void clear() {
+		_firstTaskStartTime = Long.MAX_VALUE;
+		_startTime = System.currentTimeMillis();
+		_tasks.clear();
+	}
+
+	public synchronized void print(PrintStream printStream) {
+		if (_tasks.isEmpty()) {
+			printStream.println("No Gradle tasks were executed.");
+
+			return;
+		}
+
+		List<Timing> tasks = _sort(_tasks);
+
+		printStream.println(
+			"Gradle build took " + _format(_getDuration()) + " (configuration " + _format(_getConfigurationDuration()) +
+				", " + tasks.size() + " tasks, " + _getUpToDate(tasks) + " up-to-date, " + _getFromCache(tasks) +
+					" from cache)");
+
+		printStream.println();
+		printStream.println("Slowest tasks:");
+
+		for (int i = 0; (i < tasks.size()) && (i < _MAX_TASKS); i++) {
+			Timing timing = tasks.get(i);
+
+			printStream.println(_format(timing));
+		}
+
+		if (tasks.size() > _MAX_TASKS) {
+			printStream.println("... and " + (tasks.size() - _MAX_TASKS) + " more");
+		}
+
+		printStream.println();
+		printStream.println("Projects:");
+
+		for (Timing timing : _sort(_group(tasks, true))) {
+			printStream.println(_format(timing));
+		}
+
+		printStream.println();
+		printStream.println("Task names:");
+
+		for (Timing timing : _sort(_group(tasks, false))) {
+			printStream.println(_format(timing));
+		}
+	}
+
+	public void report(BladeCLI bladeCLI, TaskTimingsArgs taskTimingsArgs) {
+		if (taskTimingsArgs.isTimings()) {
+			print(bladeCLI.out());
+		}
+
+		File timingsFile = taskTimingsArgs.getTimingsFile();
+
+		if (timingsFile != null) {
+			try {
+				write(timingsFile.toPath());
+			}
+			catch (IOException ioException) {
+				bladeCLI.error("Could not write task timings to " + timingsFile + ": " + ioException.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public synchronized void taskFinished(String taskPath, long startTime, long endTime, String outcome) {
+		_firstTaskStartTime = Math.min(_firstTaskStartTime, startTime);
+
+		_tasks.add(
+			new Timing(
+				taskPath, startTime, endTime - startTime, outcome, 1, Objects.equals(outcome, "UP-TO-DATE") ? 1 : 0,
+				Objects.equals(outcome, "FROM-CACHE") ? 1 : 0));
+	}
+
+	@Override
+	public synchronized void taskStarted(String taskPath, long startTime) {
+		_firstTaskStartTime = Math.min(_firstTaskStartTime, startTime);
+	}
+
+	public synchronized JSONObject toJSONObject() {
+		JSONObject jsonObject = new JSONObject();
+
+		List<Timing> tasks = _sort(_tasks);
+
+		jsonObject.put("configurationDuration", _getConfigurationDuration());
+		jsonObject.put("duration", _getDuration());
+		jsonObject.put("fromCache", _getFromCache(tasks));
+		jsonObject.put("startTime", _startTime);
+		jsonObject.put("upToDate", _getUpToDate(tasks));
+
+		JSONArray tasksJSONArray = new JSONArray();
+
+		for (Timing timing : tasks) {
+			JSONObject taskJSONObject = new JSONObject();
+
+			taskJSONObject.put("duration", timing._duration);
+			taskJSONObject.put("name", _getTaskName(timing._name));
+			taskJSONObject.put("outcome", timing._outcome);
+			taskJSONObject.put("path", timing._name);
+			taskJSONObject.put("project", _getProjectPath(timing._name));
+			taskJSONObject.put("startTime", timing._startTime);
+
+			tasksJSONArray.put(taskJSONObject);
+		}
+
+		jsonObject.put("tasks", tasksJSONArray);
+
+		JSONArray projectsJSONArray = new JSONArray();
+
+		for (Timing timing : _sort(_group(tasks, true))) {
+			JSONObject projectJSONObject = new JSONObject();
+
+			projectJSONObject.put("duration", timing._duration);
+			projectJSONObject.put("fromCache", timing._fromCache);
+			projectJSONObject.put("path", timing._name);
+			projectJSONObject.put("tasks", timing._count);
+			projectJSONObject.put("upToDate", timing._upToDate);
+
+			projectsJSONArray.put(projectJSONObject);
+		}
+
+		jsonObject.put("projects", projectsJSONArray);
+
+		return jsonObject;
+	}
+
+	public void write(Path path) throws IOException {
+		Path parentPath = path.getParent();
+
+		if (parentPath != null) {
+			Files.createDirectories(parentPath);
+		}
+
+		JSONObject jsonObject = toJSONObject();
+
+		Files.write(path, jsonObject.toString(2).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String _format(long millis) {
+		return String.format(Locale.ROOT, "%.1fs", Math.max(millis, 0) / 1000.0);
+	}
+
+	private static String _format(Timing timing) {
+		return String.format(Locale.ROOT, "%9s  %s  %s", _format(timing._duration), timing._name, timing._outcome);
+	}
+
+	private static int _getFromCache(List<Timing> tasks) {
+		int fromCache = 0;
+
+		for (Timing timing : tasks) {
+			fromCache += timing._fromCache;
+		}
+
+		return fromCache;
+	}
+
+	private static String _getProjectPath(String taskPath) {
+		int index = taskPath.lastIndexOf(':');
+
+		if (index <= 0) {
+			return ":";
+		}
+
+		return taskPath.substring(0, index);
+	}
+
+	private static String _getTaskName(String taskPath) {
+		return taskPath.substring(taskPath.lastIndexOf(':') + 1);
+	}
+
+	private static int _getUpToDate(List<Timing> tasks) {
+		int upToDate = 0;
+
+		for (Timing timing : tasks) {
+			upToDate += timing._upToDate;
+		}
+
+		return upToDate;
+	}
+
+	private static List<Timing> _group(List<Timing> tasks, boolean byProject) {
+		Map<String, long[]> totals = new LinkedHashMap<>();
+
+		for (Timing timing : tasks) {
+			String name = byProject ? _getProjectPath(timing._name) : _getTaskName(timing._name);
+
+			long[] total = totals.computeIfAbsent(name, key -> new long[4]);
+
+			total[0] += timing._duration;
+			total[1]++;
+			total[2] += timing._upToDate;
+			total[3] += timing._fromCache;
+		}
+
+		List<Timing> timings = new ArrayList<>();
+
+		for (Map.Entry<String, long[]> entry : totals.entrySet()) {
+			long[] total = entry.getValue();
+
+			timings.add(
+				new Timing(
+					entry.getKey(), 0, total[0],
+					total[1] + " tasks, " + total[2] + " up-to-date, " + total[3] + " from cache", (int)total[1],
+					(int)total[2], (int)total[3]));
+		}
+
+		return timings;
+	}
+
+	private static List<Timing> _sort(List<Timing> timings) {
+		List<Timing> sortedTimings = new ArrayList<>(timings);
+
+		sortedTimings.sort(
+			Comparator.comparingLong(
+				(Timing timing) -> timing._duration
+			).reversed(
+			).thenComparing(
+				timing -> timing._name
+			));
+
+		return sortedTimings;
+	}
+
+	private long _getConfigurationDuration() {
+		if (_firstTaskStartTime == Long.MAX_VALUE) {
+			return 0;
+		}
+
+		return Math.max(_firstTaskStartTime - _startTime, 0);
+	}
+
+	private long _getDuration() {
+		long endTime = _startTime;
+
+		for (Timing timing : _tasks) {
+			endTime = Math.max(endTime, timing._startTime + timing._duration);
+		}
+
+		return endTime - _startTime;
+	}
+
+	private static final int _MAX_TASKS = 20;
+
+	private long _firstTaskStartTime;
+	private long _startTime;
+	private final List<Timing> _tasks = new ArrayList<>();
+
+	private static class Timing {
+
+		public Timing(
+			String name, long startTime, long duration, String outcome, int count, int upToDate, int fromCache) {
+
+			_name = name;
+			_startTime = startTime;
+			_duration = duration;
+			_outcome = outcome;
+			_count = count;
+			_upToDate = upToDate;
+			_fromCache = fromCache;
+		}
+
+		private final int _count;
+		private final long _duration;
+		private final int _fromCache;
+		private final String _name;
+		private final String _outcome;
+		private final long _startTime;
+		private final int _upToDate;
+
+	}
+
+}
@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle.internal;
+
+import com.liferay.blade.cli.gradle.CancellationSignal;
+import com.liferay.blade.cli.gradle.GradleExecutionException;
+import com.liferay.blade.cli.gradle.ProjectConnectionPool;
+import com.liferay.blade.cli.gradle.TaskProgressListener;
+import com.liferay.blade.cli.gradle.ToolingConnectionException;
+import com.liferay.blade.gradle.tooling.ProjectInfo;
+
+import java.io.File;
+import java.io.OutputStream;
+
+import java.nio.file.Path;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.gradle.tooling.BuildCancelledException;
+import org.gradle.tooling.BuildException;
+import org.gradle.tooling.BuildLauncher;
+import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ModelBuilder;
+import org.gradle.tooling.ProjectConnection;
+import org.gradle.tooling.events.OperationType;
+import org.gradle.tooling.events.ProgressEvent;
+import org.gradle.tooling.events.task.TaskFailureResult;
+import org.gradle.tooling.events.task.TaskFinishEvent;
+import org.gradle.tooling.events.task.TaskOperationDescriptor;
+import org.gradle.tooling.events.task.TaskOperationResult;
+import org.gradle.tooling.events.task.TaskSkippedResult;
+import org.gradle.tooling.events.task.TaskStartEvent;
+import org.gradle.tooling.events.task.TaskSuccessResult;
+
+/**
+ * @author Gregory Amerson
+ */
+public class DefaultProjectConnectionPool implements ProjectConnectionPool {
+
+	public DefaultProjectConnectionPool() {
+		Runtime runtime = Runtime.getRuntime();
+
+		runtime.addShutdownHook(new Thread(this::_closeAll, "blade-gradle-connections"));
+	}
+
+	@Override
+	public ProjectInfo getProjectInfo(Path projectPath, Path initScriptPath) throws Exception {
+		ProjectConnection projectConnection = _getProjectConnection(projectPath);
+
+		try {
+			ModelBuilder<ProjectInfo> modelBuilder = projectConnection.model(ProjectInfo.class);
+
+			modelBuilder.setJavaHome(_getJavaHome());
+			modelBuilder.withArguments("--init-script", initScriptPath.toString(), "--stacktrace");
+
+			return modelBuilder.get();
+		}
+		catch (IllegalStateException illegalStateException) {
+			_evict(projectPath, projectConnection);
+
+			throw illegalStateException;
+		}
+	}
+
+	@Override
+	public void runBuild(
+			Path projectPath, List<String> arguments, OutputStream standardOutput, OutputStream standardError,
+			TaskProgressListener taskProgressListener, CancellationSignal cancellationSignal)
+		throws Exception {
+
+		ProjectConnection projectConnection = _getProjectConnection(projectPath);
+
+		CancellationTokenSource cancellationTokenSource = GradleConnector.newCancellationTokenSource();
+
+		_cancellationTokenSources.add(cancellationTokenSource);
+
+		AtomicBoolean taskStarted = new AtomicBoolean();
+
+		try {
+			BuildLauncher buildLauncher = projectConnection.newBuild();
+
+			buildLauncher.setJavaHome(_getJavaHome());
+			buildLauncher.setStandardError(standardError);
+			buildLauncher.setStandardOutput(standardOutput);
+			buildLauncher.withArguments(arguments);
+			buildLauncher.withCancellationToken(cancellationTokenSource.token());
+
+			buildLauncher.addProgressListener(
+				progressEvent -> {
+					if (progressEvent instanceof TaskStartEvent) {
+						taskStarted.set(true);
+					}
+
+					if (taskProgressListener != null) {
+						_fireTaskProgress(progressEvent, taskProgressListener);
+					}
+				},
+				EnumSet.of(OperationType.TASK));
+
+			if (cancellationSignal != null) {
+				cancellationSignal.onCancel(cancellationTokenSource::cancel);
+			}
+
+			buildLauncher.run();
+		}
+		catch (BuildCancelledException buildCancelledException) {
+			throw new GradleExecutionException("Gradle build was cancelled in " + projectPath, 1);
+		}
+		catch (BuildException buildException) {
+			throw new GradleExecutionException(_getMessage(buildException), 1);
+		}
+		catch (GradleConnectionException gradleConnectionException) {
+			if (taskStarted.get()) {
+				throw new GradleExecutionException(_getMessage(gradleConnectionException), 1);
+			}
+
+			throw new ToolingConnectionException(_getMessage(gradleConnectionException), gradleConnectionException);
+		}
+		catch (IllegalStateException illegalStateException) {
+			_evict(projectPath, projectConnection);
+
+			throw new ToolingConnectionException(illegalStateException.getMessage(), illegalStateException);
+		}
+		finally {
+			_cancellationTokenSources.remove(cancellationTokenSource);
+		}
+	}
+
+	private static void _fireTaskProgress(ProgressEvent progressEvent, TaskProgressListener taskProgressListener) {
+		if (progressEvent instanceof TaskStartEvent) {
+			TaskOperationDescriptor taskOperationDescriptor = (TaskOperationDescriptor)progressEvent.getDescriptor();
+
+			taskProgressListener.taskStarted(taskOperationDescriptor.getTaskPath(), progressEvent.getEventTime());
+		}
+		else if (progressEvent instanceof TaskFinishEvent) {
+			TaskFinishEvent taskFinishEvent = (TaskFinishEvent)progressEvent;
+
+			TaskOperationDescriptor taskOperationDescriptor = taskFinishEvent.getDescriptor();
+
+			TaskOperationResult taskOperationResult = taskFinishEvent.getResult();
+
+			taskProgressListener.taskFinished(
+				taskOperationDescriptor.getTaskPath(), taskOperationResult.getStartTime(),
+				taskOperationResult.getEndTime(), _getOutcome(taskOperationResult));
+		}
+	}
+
+	private static File _getJavaHome() {
+
+		// Match the JVM that a forked gradlew would use instead of the one running blade
+
+		String javaHome = System.getenv("JAVA_HOME");
+
+		if (javaHome == null) {
+			return null;
+		}
+
+		File javaHomeDir = new File(javaHome);
+
+		if (!javaHomeDir.isDirectory()) {
+			return null;
+		}
+
+		return javaHomeDir;
+	}
+
+	private static String _getMessage(Throwable throwable) {
+		Throwable cause = throwable;
+
+		while (cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+
+		return cause.getMessage();
+	}
+
+	private static String _getOutcome(TaskOperationResult taskOperationResult) {
+		if (taskOperationResult instanceof TaskFailureResult) {
+			return "FAILED";
+		}
+
+		if (taskOperationResult instanceof TaskSkippedResult) {
+			TaskSkippedResult taskSkippedResult = (TaskSkippedResult)taskOperationResult;
+
+			return taskSkippedResult.getSkipMessage();
+		}
+
+		TaskSuccessResult taskSuccessResult = (TaskSuccessResult)taskOperationResult;
+
+		if (taskSuccessResult.isFromCache()) {
+			return "FROM-CACHE";
+		}
+
+		if (taskSuccessResult.isUpToDate()) {
+			return "UP-TO-DATE";
+		}
+
+		return "SUCCESS";
+	}
+
+	private void _closeAll() {
+		for (CancellationTokenSource cancellationTokenSource : _cancellationTokenSources) {
+			cancellationTokenSource.cancel();
+		}
+
+		for (ProjectConnection projectConnection : _projectConnections.values()) {
+			try {
+				projectConnection.close();
+			}
+			catch (Exception exception) {
+			}
+		}
+
+		_projectConnections.clear();
+	}
+
+	private void _evict(Path projectPath, ProjectConnection projectConnection) throws Exception {
+		if (_projectConnections.remove(_getProjectDir(projectPath), projectConnection)) {
+			projectConnection.close();
+		}
+	}
+
+	private ProjectConnection _getProjectConnection(Path projectPath) throws Exception {
+		return _projectConnections.computeIfAbsent(
+			_getProjectDir(projectPath),
+			projectDir -> {
+				GradleConnector gradleConnector = GradleConnector.newConnector();
+
+				gradleConnector.forProjectDirectory(projectDir);
+
+				return gradleConnector.connect();
+			});
+	}
+
+	private File _getProjectDir(Path projectPath) throws Exception {
+		File projectDir = projectPath.toFile();
+
+		return projectDir.getCanonicalFile();
+	}
+
+	private final Set<CancellationTokenSource> _cancellationTokenSources = ConcurrentHashMap.newKeySet();
+	private final Map<File, ProjectConnection> _projectConnections = new ConcurrentHashMap<>();
+
+}
@@ -19,27 +19,27 @@ package com.liferay.blade.cli.util;
 import com.liferay.blade.cli.BladeCLI;
 import com.liferay.blade.cli.Extensions;
 import com.liferay.blade.cli.command.SamplesCommand;
-import com.liferay.blade.cli.command.validator.WorkspaceProductComparator;
 import com.liferay.portal.tools.bundle.support.commands.DownloadCommand;
 import com.liferay.project.templates.ProjectTemplates;
 import com.liferay.project.templates.extensions.util.ProjectTemplatesUtil;
 
-import groovy.json.JsonSlurper;
-
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.Reader;
 
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.URISyntaxException;
 import java.net.URL;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -64,6 +64,7 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
@@ -75,8 +76,6 @@ import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
-import org.gradle.internal.impldep.com.google.common.base.Strings;
-
 import org.osgi.framework.Version;
 
 /**
@@ -91,9 +90,17 @@ public class BladeUtil {
 	public static final String APP_SERVER_TYPE_PROPERTY = "app.server.type";
 
 	public static void addGradleWrapper(File destinationDir) throws Exception {
-		InputStream inputStream = SamplesCommand.class.getResourceAsStream("/wrapper.zip");
+		ResourceCache resourceCache = new ResourceCache();
+
+		Path wrapperPath = resourceCache.get(
+			"wrapper", Collections.singleton(SamplesCommand.class.getResource("/wrapper.zip")),
+			cachePath -> {
+				InputStream inputStream = SamplesCommand.class.getResourceAsStream("/wrapper.zip");
+
+				FileUtil.unzip(inputStream, cachePath.toFile());
+			});
 
-		FileUtil.unzip(inputStream, destinationDir);
+		FileUtil.copyDir(wrapperPath, destinationDir.toPath());
 
 		File gradlewFile = new File(destinationDir, "gradlew");
 
@@ -308,38 +315,29 @@ public class BladeUtil {
 		return getProductInfos(false, null);
 	}
 
-	@SuppressWarnings("unchecked")
 	public static synchronized Map<String, Object> getProductInfos(boolean trace, PrintStream printStream) {
 		if (!_productInfoMap.isEmpty()) {
 			return _productInfoMap;
 		}
 
-		JsonSlurper jsonSlurper = new JsonSlurper();
-
 		try {
-			DownloadCommand downloadCommand = new DownloadCommand();
+			Path bladeCachePath = getBladeCachePath();
 
-			downloadCommand.setCacheDir(_workspaceCacheDir);
-			downloadCommand.setConnectionTimeout(5000);
-			downloadCommand.setPassword(null);
-			downloadCommand.setToken(false);
-			downloadCommand.setUrl(new URL(_PRODUCT_INFO_URL));
-			downloadCommand.setUserName(null);
-			downloadCommand.setQuiet(true);
+			ProductInfoCache productInfoCache = new ProductInfoCache(
+				bladeCachePath.resolve("product_info.snapshot"), new URL(_PRODUCT_INFO_URL),
+				Long.getLong("blade.product.info.ttl", ProductInfoCache.DEFAULT_TTL));
 
-			downloadCommand.execute();
-
-			try (BufferedReader reader = Files.newBufferedReader(downloadCommand.getDownloadPath())) {
-				_productInfoMap = (Map<String, Object>)jsonSlurper.parse(reader);
-			}
+			_productInfoMap = productInfoCache.get();
 		}
 		catch (Exception exception1) {
 			if (trace && (printStream != null)) {
 				exception1.printStackTrace(printStream);
 			}
 
-			try (InputStream resourceAsStream = BladeUtil.class.getResourceAsStream("/.product_info.json")) {
-				_productInfoMap = (Map<String, Object>)jsonSlurper.parse(resourceAsStream);
+			try (InputStream resourceAsStream = BladeUtil.class.getResourceAsStream("/.product_info.json");
+				Reader reader = new InputStreamReader(resourceAsStream, StandardCharsets.UTF_8)) {
+
+				_productInfoMap = ProductInfoCache.parse(reader);
 			}
 			catch (Exception exception2) {
 				if (trace && (printStream != null)) {
@@ -351,6 +349,18 @@ public class BladeUtil {
 		return _productInfoMap;
 	}
 
+	public static ProductIndex getProductIndex() {
+		return getProductIndex(false, null);
+	}
+
+	public static synchronized ProductIndex getProductIndex(boolean trace, PrintStream printStream) {
+		if ((_productIndex == null) || _productIndex.isEmpty()) {
+			_productIndex = new ProductIndex(getProductInfos(trace, printStream));
+		}
+
+		return _productIndex;
+	}
+
 	public static Properties getProperties(File file) {
 		try (InputStream inputStream = new FileInputStream(file)) {
 			Properties properties = new Properties();
@@ -386,50 +396,16 @@ public class BladeUtil {
 		return ProjectTemplates.getTemplates(templatesFiles);
 	}
 
-	@SuppressWarnings("unchecked")
 	public static List<String> getWorkspaceProductKeys(boolean promoted) {
-		Map<String, Object> productInfos = getProductInfos();
-
-		return productInfos.entrySet(
-		).stream(
-		).filter(
-			entry -> Objects.nonNull(productInfos.get(entry.getKey()))
-		).map(
-			entry -> new Pair<>(entry.getKey(), new ProductInfo((Map<String, String>)productInfos.get(entry.getKey())))
-		).filter(
-			pair -> {
-				ProductInfo productInfo = pair.second();
-
-				return Objects.nonNull(productInfo.getTargetPlatformVersion()) &&
-					   (!promoted || (promoted && productInfo.isPromoted()));
-			}
-		).sorted(
-			new WorkspaceProductComparator()
-		).map(
-			Pair::first
-		).collect(
-			Collectors.toList()
-		);
+		ProductIndex productIndex = getProductIndex();
+
+		return productIndex.getProductKeys(promoted);
 	}
 
-	@SuppressWarnings("unchecked")
 	public static Set<String> getWorkspaceProductTargetPlatformVersions(boolean promoted) {
-		Map<String, Object> productInfos = getProductInfos();
-
-		return productInfos.entrySet(
-		).stream(
-		).filter(
-			entry -> Objects.nonNull(productInfos.get(entry.getKey()))
-		).map(
-			entry -> new ProductInfo((Map<String, String>)productInfos.get(entry.getKey()))
-		).filter(
-			product ->
-				Objects.nonNull(product.getTargetPlatformVersion()) && (!promoted || (promoted && product.isPromoted()))
-		).map(
-			product -> product.getTargetPlatformVersion()
-		).collect(
-			Collectors.toSet()
-		);
+		ProductIndex productIndex = getProductIndex();
+
+		return productIndex.getTargetPlatformVersions(promoted);
 	}
 
 	public static boolean hasGradleWrapper(File dir) {
@@ -530,7 +506,13 @@ public class BladeUtil {
 		return new String(Files.readAllBytes(file.toPath()));
 	}
 
-	public static void readProcessStream(final InputStream inputStream, final PrintStream printStream) {
+	public static Thread readProcessStream(final InputStream inputStream, final PrintStream printStream) {
+		return readProcessStream(inputStream, printStream, null);
+	}
+
+	public static Thread readProcessStream(
+		final InputStream inputStream, final PrintStream printStream, final Consumer<String> lineListener) {
+
 		Thread thread = new Thread(
 			new Runnable() {
 
@@ -541,6 +523,10 @@ public class BladeUtil {
 							String line = scanner.nextLine();
 
 							if (line != null) {
+								if (lineListener != null) {
+									lineListener.accept(line);
+								}
+
 								AnsiLinePrinter.println(printStream, line);
 							}
 						}
@@ -551,6 +537,8 @@ public class BladeUtil {
 
 		thread.setDaemon(true);
 		thread.start();
+
+		return thread;
 	}
 
 	public static boolean searchZip(Path path, Predicate<String> test) {
@@ -639,7 +627,7 @@ public class BladeUtil {
 				qualifier = matcher.group(5);
 			}
 
-			if (!Strings.isNullOrEmpty(qualifier)) {
+			if (!isEmpty(qualifier)) {
 				sb.append(qualifier);
 			}
 		}
@@ -710,6 +698,65 @@ public class BladeUtil {
 		}
 	}
 
+	public static List<String> tokenize(String line) {
+		List<String> tokens = new ArrayList<>();
+
+		StringBuilder sb = null;
+
+		char quote = 0;
+
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+
+			if ((c == '\\') && (quote != '\'') && ((i + 1) < line.length())) {
+				if (sb == null) {
+					sb = new StringBuilder();
+				}
+
+				sb.append(line.charAt(++i));
+			}
+			else if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+				else {
+					sb.append(c);
+				}
+			}
+			else if ((c == '"') || (c == '\'')) {
+				if (sb == null) {
+					sb = new StringBuilder();
+				}
+
+				quote = c;
+			}
+			else if (Character.isWhitespace(c)) {
+				if (sb != null) {
+					tokens.add(sb.toString());
+
+					sb = null;
+				}
+			}
+			else {
+				if (sb == null) {
+					sb = new StringBuilder();
+				}
+
+				sb.append(c);
+			}
+		}
+
+		if (quote != 0) {
+			throw new IllegalArgumentException("Unterminated quote in \"" + line + "\"");
+		}
+
+		if (sb != null) {
+			tokens.add(sb.toString());
+		}
+
+		return tokens;
+	}
+
 	public static boolean verifyWorkspaceProduct(String product) {
 		Matcher matcher = _productVersionPattern.matcher(product);
 
@@ -776,8 +823,6 @@ public class BladeUtil {
 		"build." + System.getenv("HOSTNAME") + ".properties", "build.properties"
 	};
 
-	private static final String _DEFAULT_WORKSPACE_CACHE_DIR_NAME = ".liferay/workspace";
-
 	private static final String _GRADLEW_UNIX_FILE_NAME = "gradlew";
 
 	private static final String _GRADLEW_WINDOWS_FILE_NAME = "gradlew.bat";
@@ -785,10 +830,9 @@ public class BladeUtil {
 	private static final String _PRODUCT_INFO_URL = "https://releases.liferay.com/tools/workspace/.product_info.json";
 
 	private static final Pattern _microPattern = Pattern.compile("(((e|f|s)p)|(ga)|(u))([0-9]+)(-[0-9]+)?");
+	private static ProductIndex _productIndex;
 	private static Map<String, Object> _productInfoMap = Collections.emptyMap();
 	private static final Pattern _productVersionPattern = Pattern.compile(
 		"^(portal|dxp)-([1-9]\\d|[0-9])\\.([0-9]\\d|\\d)-((((e|f|s|d)(p|e))|u|ga)([0-9]\\d*)$)+");
-	private static File _workspaceCacheDir = new File(
-		System.getProperty("user.home"), _DEFAULT_WORKSPACE_CACHE_DIR_NAME);
 
 }
\ No newline at end of file
@@ -18,26 +18,37 @@ package com.liferay.blade.cli.util;
 
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import java.net.JarURLConnection;
 import java.net.URL;
+import java.net.URLConnection;
 
-import java.nio.ByteBuffer;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
-import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Christopher Bryan Boyd
  */
 public class CombinedClassLoader extends ClassLoader implements AutoCloseable {
 
+	static {
+		ClassLoader.registerAsParallelCapable();
+	}
+
 	public CombinedClassLoader(ClassLoader... classLoaders) {
 		for (ClassLoader classLoader : classLoaders) {
 			_add(classLoader);
@@ -59,6 +70,10 @@ public class CombinedClassLoader extends ClassLoader implements AutoCloseable {
 		}
 	}
 
+	public boolean contains(ClassLoader classLoader) {
+		return _classLoaders.contains(classLoader);
+	}
+
 	@Override
 	protected Class<?> findClass(String name) throws ClassNotFoundException {
 		String path = name.replace('.', '/');
@@ -72,9 +87,17 @@ public class CombinedClassLoader extends ClassLoader implements AutoCloseable {
 		}
 
 		try {
-			ByteBuffer byteCode = _loadResourceFromClasspath(url);
+			URLConnection urlConnection = url.openConnection();
+
+			byte[] byteCode = _read(urlConnection);
+
+			int index = name.lastIndexOf('.');
 
-			return defineClass(name, byteCode, null);
+			if (index > 0) {
+				_definePackage(name.substring(0, index));
+			}
+
+			return defineClass(name, byteCode, 0, byteCode.length, _getProtectionDomain(urlConnection));
 		}
 		catch (IOException ioException) {
 			throw new ClassNotFoundException(name, ioException);
@@ -83,66 +106,185 @@ public class CombinedClassLoader extends ClassLoader implements AutoCloseable {
 
 	@Override
 	protected URL findResource(String name) {
-		Stream<ClassLoader> urlStream = _classLoaders.stream();
-
-		return urlStream.map(
-			c -> c.getResource(name)
-		).filter(
-			Objects::nonNull
-		).findAny(
-		).orElse(
-			null
-		);
+		if (_misses.contains(name)) {
+			return null;
+		}
+
+		String packageName = _getPackageName(name);
+
+		ClassLoader packageClassLoader = null;
+
+		if (packageName != null) {
+			packageClassLoader = _packageClassLoaders.get(packageName);
+
+			if (packageClassLoader != null) {
+				URL url = packageClassLoader.getResource(name);
+
+				if (url != null) {
+					return url;
+				}
+			}
+		}
+
+		for (ClassLoader classLoader : _classLoaders) {
+			if (classLoader == packageClassLoader) {
+				continue;
+			}
+
+			URL url = classLoader.getResource(name);
+
+			if (url != null) {
+				if (packageName != null) {
+					_packageClassLoaders.putIfAbsent(packageName, classLoader);
+				}
+
+				return url;
+			}
+		}
+
+		_misses.add(name);
+
+		return null;
 	}
 
 	@Override
 	protected Enumeration<URL> findResources(String name) throws IOException {
-		Stream<ClassLoader> urlStream = _classLoaders.stream();
-
-		return Collections.enumeration(
-			urlStream.map(
-				c -> _getResources(c, name)
-			).map(
-				Collections::list
-			).flatMap(
-				Collection::stream
-			).collect(
-				Collectors.toList()
-			));
+		return new CombinedEnumeration(name);
+	}
+
+	private static String _getPackageName(String name) {
+		if (!name.endsWith(".class")) {
+			return null;
+		}
+
+		int index = name.lastIndexOf('/');
+
+		if (index < 0) {
+			return "";
+		}
+
+		return name.substring(0, index);
+	}
+
+	private static byte[] _read(URLConnection urlConnection) throws IOException {
+		long contentLength = urlConnection.getContentLengthLong();
+
+		try (InputStream inputStream = urlConnection.getInputStream()) {
+			if (contentLength > 0) {
+				byte[] bytes = new byte[(int)contentLength];
+
+				DataInputStream dataInputStream = new DataInputStream(inputStream);
+
+				dataInputStream.readFully(bytes);
+
+				return bytes;
+			}
+
+			ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+			byte[] buffer = new byte[8192];
+
+			int length;
+
+			while ((length = inputStream.read(buffer)) != -1) {
+				byteArrayOutputStream.write(buffer, 0, length);
+			}
+
+			return byteArrayOutputStream.toByteArray();
+		}
 	}
 
 	private void _add(ClassLoader classLoader) {
 		_classLoaders.add(classLoader);
 	}
 
-	private Enumeration<URL> _getResources(ClassLoader classLoader, String name) {
+	private void _definePackage(String packageName) {
+		if (getPackage(packageName) != null) {
+			return;
+		}
+
 		try {
-			return classLoader.getResources(name);
+			definePackage(packageName, null, null, null, null, null, null, null);
 		}
-		catch (IOException ioException) {
+		catch (IllegalArgumentException illegalArgumentException) {
+
+			// Defined concurrently by another thread
+
+		}
+	}
+
+	private ProtectionDomain _getProtectionDomain(URLConnection urlConnection) throws IOException {
+		URL codeSourceURL = urlConnection.getURL();
+
+		if (urlConnection instanceof JarURLConnection) {
+			JarURLConnection jarURLConnection = (JarURLConnection)urlConnection;
+
+			codeSourceURL = jarURLConnection.getJarFileURL();
 		}
 
-		return null;
+		String key = String.valueOf(codeSourceURL);
+
+		ProtectionDomain protectionDomain = _protectionDomains.get(key);
+
+		if (protectionDomain == null) {
+			CodeSource codeSource = new CodeSource(codeSourceURL, (Certificate[])null);
+
+			protectionDomain = new ProtectionDomain(codeSource, null, this, null);
+
+			ProtectionDomain previousProtectionDomain = _protectionDomains.putIfAbsent(key, protectionDomain);
+
+			if (previousProtectionDomain != null) {
+				protectionDomain = previousProtectionDomain;
+			}
+		}
+
+		return protectionDomain;
 	}
 
-	private ByteBuffer _loadResourceFromClasspath(URL url) throws IOException {
-		try (InputStream inputStream = url.openStream()) {
-			byte[] buffer = new byte[1024];
+	private final List<ClassLoader> _classLoaders = new ArrayList<>();
+	private final Set<String> _misses = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	private final Map<String, ClassLoader> _packageClassLoaders = new ConcurrentHashMap<>();
+	private final Map<String, ProtectionDomain> _protectionDomains = new ConcurrentHashMap<>();
+
+	private class CombinedEnumeration implements Enumeration<URL> {
+
+		public CombinedEnumeration(String name) {
+			_name = name;
+		}
 
-			ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(buffer.length);
+		@Override
+		public boolean hasMoreElements() {
+			while (((_enumeration == null) || !_enumeration.hasMoreElements()) && _iterator.hasNext()) {
+				ClassLoader classLoader = _iterator.next();
 
-			int bytesCount = -1;
+				try {
+					_enumeration = classLoader.getResources(_name);
+				}
+				catch (IOException ioException) {
+					_enumeration = null;
+				}
+			}
 
-			while ((bytesCount = inputStream.read(buffer)) != -1) {
-				byteArrayOutputStream.write(buffer, 0, bytesCount);
+			if (_enumeration == null) {
+				return false;
 			}
 
-			byte[] output = byteArrayOutputStream.toByteArray();
+			return _enumeration.hasMoreElements();
+		}
+
+		@Override
+		public URL nextElement() {
+			if (!hasMoreElements()) {
+				throw new NoSuchElementException();
+			}
 
-			return ByteBuffer.wrap(output);
+			return _enumeration.nextElement();
 		}
-	}
 
-	private Collection<ClassLoader> _classLoaders = new ArrayList<>();
+		private Enumeration<URL> _enumeration;
+		private final Iterator<ClassLoader> _iterator = _classLoaders.iterator();
+		private final String _name;
+
+	}
 
-}
\ No newline at end of file
+}
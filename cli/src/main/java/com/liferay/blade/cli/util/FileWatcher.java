@@ -31,7 +31,10 @@
 
 package com.liferay.blade.cli.util;
 
+import com.liferay.blade.cli.BladeCLI;
+
 import java.io.IOException;
+import java.io.PrintStream;
 
 import java.lang.reflect.Field;
 
@@ -82,7 +85,10 @@ public class FileWatcher {
 
 		_keys = new HashMap<>();
 
-		System.out.format("Scanning %s\n", baseDir);
+		_out = BladeCLI.currentOut();
+		_error = BladeCLI.currentError();
+
+		_out.format("Scanning %s\n", baseDir);
 
 		if (recursive) {
 			_registerAll(baseDir);
@@ -116,7 +122,7 @@ public class FileWatcher {
 			Path dir = _keys.get(key);
 
 			if (dir == null) {
-				System.err.println("WatchKey not recognized!!");
+				_error.println("WatchKey not recognized!!");
 
 				continue;
 			}
@@ -252,7 +258,9 @@ public class FileWatcher {
 	@SuppressWarnings("rawtypes")
 	private static final WatchEvent.Kind[] _WATCH_KINDS = {StandardWatchEventKinds.ENTRY_CREATE};
 
+	private final PrintStream _error;
 	private final Map<WatchKey, Path> _keys;
+	private final PrintStream _out;
 	private final boolean _recursive;
 	private final WatchService _watcher;
 
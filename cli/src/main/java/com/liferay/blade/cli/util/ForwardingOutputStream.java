@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.function.Supplier;
+
+/**
+ * @author Gregory Amerson
+ */
+public class ForwardingOutputStream extends OutputStream {
+
+	public ForwardingOutputStream(Supplier<? extends OutputStream> supplier) {
+		_supplier = supplier;
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		OutputStream outputStream = _supplier.get();
+
+		outputStream.flush();
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		OutputStream outputStream = _supplier.get();
+
+		outputStream.write(bytes, offset, length);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		OutputStream outputStream = _supplier.get();
+
+		outputStream.write(b);
+	}
+
+	private final Supplier<? extends OutputStream> _supplier;
+
+}
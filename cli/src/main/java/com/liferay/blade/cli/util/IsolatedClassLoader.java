@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Gregory Amerson
+ */
+public class IsolatedClassLoader extends URLClassLoader {
+
+	static {
+		ClassLoader.registerAsParallelCapable();
+	}
+
+	public static ClassLoader get(String libraryName, String... isolatedPackageNames) throws Exception {
+		ClassLoader classLoader = _classLoaders.get(libraryName);
+
+		if (classLoader != null) {
+			return classLoader;
+		}
+
+		synchronized (_classLoaders) {
+			classLoader = _classLoaders.get(libraryName);
+
+			if (classLoader == null) {
+				classLoader = _createClassLoader(libraryName, isolatedPackageNames);
+
+				_classLoaders.put(libraryName, classLoader);
+			}
+
+			return classLoader;
+		}
+	}
+
+	@Override
+	protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+		if (!_isIsolated(name)) {
+			return super.loadClass(name, resolve);
+		}
+
+		synchronized (getClassLoadingLock(name)) {
+			Class<?> clazz = findLoadedClass(name);
+
+			if (clazz == null) {
+				try {
+					clazz = findClass(name);
+				}
+				catch (ClassNotFoundException classNotFoundException) {
+					clazz = _defineIsolatedClass(name);
+				}
+			}
+
+			if (resolve) {
+				resolveClass(clazz);
+			}
+
+			return clazz;
+		}
+	}
+
+	private static ClassLoader _createClassLoader(String libraryName, String... isolatedPackageNames)
+		throws Exception {
+
+		ClassLoader parentClassLoader = IsolatedClassLoader.class.getClassLoader();
+
+		URL libraryURL = parentClassLoader.getResource("lib/" + libraryName + ".jar");
+
+		if (libraryURL == null) {
+			return parentClassLoader;
+		}
+
+		ResourceCache resourceCache = new ResourceCache();
+
+		Path libraryPath = resourceCache.get(
+			"lib-" + libraryName, Collections.singleton(libraryURL),
+			cachePath -> {
+				try (InputStream inputStream = libraryURL.openStream()) {
+					Files.copy(inputStream, cachePath.resolve(libraryName + ".jar"));
+				}
+			});
+
+		Path jarPath = libraryPath.resolve(libraryName + ".jar");
+
+		return new IsolatedClassLoader(new URL[] {jarPath.toUri().toURL()}, parentClassLoader, isolatedPackageNames);
+	}
+
+	private IsolatedClassLoader(URL[] urls, ClassLoader parentClassLoader, String[] isolatedPackageNames) {
+		super(urls, parentClassLoader);
+
+		_isolatedPackageNames = isolatedPackageNames;
+	}
+
+	private Class<?> _defineIsolatedClass(String name) throws ClassNotFoundException {
+		ClassLoader parentClassLoader = getParent();
+
+		String path = name.replace('.', '/') + ".class";
+
+		try (InputStream inputStream = parentClassLoader.getResourceAsStream(path)) {
+			if (inputStream == null) {
+				throw new ClassNotFoundException(name);
+			}
+
+			ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+			byte[] buffer = new byte[8192];
+
+			int length;
+
+			while ((length = inputStream.read(buffer)) != -1) {
+				byteArrayOutputStream.write(buffer, 0, length);
+			}
+
+			byte[] bytes = byteArrayOutputStream.toByteArray();
+
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+		catch (IOException ioException) {
+			throw new ClassNotFoundException(name, ioException);
+		}
+	}
+
+	private boolean _isIsolated(String name) {
+		for (String isolatedPackageName : _isolatedPackageNames) {
+			if (name.startsWith(isolatedPackageName + ".")) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static final Map<String, ClassLoader> _classLoaders = new ConcurrentHashMap<>();
+
+	private final String[] _isolatedPackageNames;
+
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.util;
+
+import com.liferay.blade.cli.command.validator.WorkspaceProductComparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * @author Gregory Amerson
+ */
+public class ProductIndex {
+
+	@SuppressWarnings("unchecked")
+	public ProductIndex(Map<String, Object> productInfos) {
+		List<Pair<String, ProductInfo>> pairs = new ArrayList<>(productInfos.size());
+
+		for (Map.Entry<String, Object> entry : productInfos.entrySet()) {
+			Object value = entry.getValue();
+
+			if (value instanceof Map) {
+				pairs.add(new Pair<>(entry.getKey(), new ProductInfo((Map<String, String>)value)));
+			}
+		}
+
+		pairs.sort(new WorkspaceProductComparator());
+
+		List<String> productKeys = new ArrayList<>(pairs.size());
+		Map<String, ProductInfo> productInfoMap = new HashMap<>();
+		Map<String, List<String>> productKeysByTargetPlatformVersion = new HashMap<>();
+		List<String> promotedProductKeys = new ArrayList<>();
+		Set<String> promotedTargetPlatformVersions = new LinkedHashSet<>();
+		Set<String> targetPlatformVersions = new LinkedHashSet<>();
+
+		for (Pair<String, ProductInfo> pair : pairs) {
+			String productKey = pair.first();
+			ProductInfo productInfo = pair.second();
+
+			String targetPlatformVersion = productInfo.getTargetPlatformVersion();
+
+			productKeys.add(productKey);
+			productInfoMap.put(productKey, productInfo);
+			targetPlatformVersions.add(targetPlatformVersion);
+
+			List<String> targetPlatformProductKeys = productKeysByTargetPlatformVersion.computeIfAbsent(
+				targetPlatformVersion, key -> new ArrayList<>());
+
+			targetPlatformProductKeys.add(productKey);
+
+			if (productInfo.isPromoted()) {
+				promotedProductKeys.add(productKey);
+				promotedTargetPlatformVersions.add(targetPlatformVersion);
+			}
+		}
+
+		productKeysByTargetPlatformVersion.replaceAll((key, value) -> Collections.unmodifiableList(value));
+
+		_productInfos = Collections.unmodifiableMap(productInfoMap);
+		_productKeys = Collections.unmodifiableList(productKeys);
+		_productKeysByTargetPlatformVersion = Collections.unmodifiableMap(productKeysByTargetPlatformVersion);
+		_promotedProductKeys = Collections.unmodifiableList(promotedProductKeys);
+		_promotedTargetPlatformVersions = Collections.unmodifiableSet(promotedTargetPlatformVersions);
+		_targetPlatformVersions = Collections.unmodifiableSet(targetPlatformVersions);
+	}
+
+	public ProductInfo getProductInfo(String productKey) {
+		return _productInfos.get(productKey);
+	}
+
+	public List<String> getProductKeys(boolean promoted) {
+		if (promoted) {
+			return _promotedProductKeys;
+		}
+
+		return _productKeys;
+	}
+
+	public List<String> getProductKeys(String targetPlatformVersion) {
+		return _productKeysByTargetPlatformVersion.getOrDefault(targetPlatformVersion, Collections.emptyList());
+	}
+
+	public Optional<String> getTargetPlatformVersion(String productKey) {
+		return Optional.ofNullable(
+			_productInfos.get(productKey)
+		).map(
+			ProductInfo::getTargetPlatformVersion
+		).filter(
+			BladeUtil::isNotEmpty
+		);
+	}
+
+	public Set<String> getTargetPlatformVersions(boolean promoted) {
+		if (promoted) {
+			return _promotedTargetPlatformVersions;
+		}
+
+		return _targetPlatformVersions;
+	}
+
+	public boolean isEmpty() {
+		return _productKeys.isEmpty();
+	}
+
+	private final Map<String, ProductInfo> _productInfos;
+	private final List<String> _productKeys;
+	private final Map<String, List<String>> _productKeysByTargetPlatformVersion;
+	private final List<String> _promotedProductKeys;
+	private final Set<String> _promotedTargetPlatformVersions;
+	private final Set<String> _targetPlatformVersions;
+
+}
@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.util;
+
+import groovy.json.JsonSlurper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Gregory Amerson
+ */
+public class ProductInfoCache {
+
+	public static final long DEFAULT_TTL = TimeUnit.DAYS.toMillis(1);
+
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> parse(Reader reader) {
+		JsonSlurper jsonSlurper = new JsonSlurper();
+
+		Map<String, Object> json = (Map<String, Object>)jsonSlurper.parse(reader);
+
+		Map<String, Object> productInfos = new LinkedHashMap<>();
+
+		for (Map.Entry<String, Object> entry : json.entrySet()) {
+			Object value = entry.getValue();
+
+			if (!(value instanceof Map)) {
+				continue;
+			}
+
+			Map<String, String> productInfo = new LinkedHashMap<>();
+
+			for (Map.Entry<String, Object> productEntry : ((Map<String, Object>)value).entrySet()) {
+				if (productEntry.getValue() != null) {
+					productInfo.put(productEntry.getKey(), String.valueOf(productEntry.getValue()));
+				}
+			}
+
+			productInfos.put(entry.getKey(), Collections.unmodifiableMap(productInfo));
+		}
+
+		return Collections.unmodifiableMap(productInfos);
+	}
+
+	public ProductInfoCache(Path snapshotPath, URL url, long ttl) {
+		_snapshotPath = snapshotPath;
+		_url = url;
+		_ttl = ttl;
+	}
+
+	public Map<String, Object> get() throws Exception {
+		Snapshot snapshot = _readSnapshot();
+
+		if ((snapshot != null) && ((System.currentTimeMillis() - snapshot._fetched) < _ttl)) {
+			return snapshot._productInfos;
+		}
+
+		try {
+			return _fetch(snapshot);
+		}
+		catch (Exception exception) {
+			if (snapshot != null) {
+				return snapshot._productInfos;
+			}
+
+			throw exception;
+		}
+	}
+
+	private static String _nullToEmpty(String value) {
+		if (value == null) {
+			return "";
+		}
+
+		return value;
+	}
+
+	private Map<String, Object> _fetch(Snapshot snapshot) throws Exception {
+		URLConnection urlConnection = _url.openConnection();
+
+		urlConnection.setConnectTimeout(5000);
+		urlConnection.setReadTimeout(10000);
+
+		if ((snapshot != null) && (urlConnection instanceof HttpURLConnection)) {
+			if (!snapshot._eTag.isEmpty()) {
+				urlConnection.setRequestProperty("If-None-Match", snapshot._eTag);
+			}
+
+			if (!snapshot._lastModified.isEmpty()) {
+				urlConnection.setRequestProperty("If-Modified-Since", snapshot._lastModified);
+			}
+		}
+
+		if (urlConnection instanceof HttpURLConnection) {
+			HttpURLConnection httpURLConnection = (HttpURLConnection)urlConnection;
+
+			int responseCode = httpURLConnection.getResponseCode();
+
+			if ((responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) && (snapshot != null)) {
+				httpURLConnection.disconnect();
+
+				_writeSnapshot(
+					new Snapshot(
+						System.currentTimeMillis(), snapshot._eTag, snapshot._lastModified,
+						snapshot._productInfos));
+
+				return snapshot._productInfos;
+			}
+
+			if (responseCode != HttpURLConnection.HTTP_OK) {
+				httpURLConnection.disconnect();
+
+				throw new IOException("Unable to get " + _url + ", response code " + responseCode);
+			}
+		}
+
+		Map<String, Object> productInfos;
+
+		try (InputStream inputStream = urlConnection.getInputStream();
+			Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+
+			productInfos = parse(reader);
+		}
+
+		_writeSnapshot(
+			new Snapshot(
+				System.currentTimeMillis(), _nullToEmpty(urlConnection.getHeaderField("ETag")),
+				_nullToEmpty(urlConnection.getHeaderField("Last-Modified")), productInfos));
+
+		return productInfos;
+	}
+
+	private Snapshot _readSnapshot() {
+		if (Files.notExists(_snapshotPath)) {
+			return null;
+		}
+
+		try (DataInputStream dataInputStream = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(_snapshotPath)))) {
+
+			if (dataInputStream.readInt() != _SNAPSHOT_VERSION) {
+				return null;
+			}
+
+			long fetched = dataInputStream.readLong();
+			String eTag = dataInputStream.readUTF();
+			String lastModified = dataInputStream.readUTF();
+			String url = dataInputStream.readUTF();
+
+			if (!Objects.equals(url, String.valueOf(_url))) {
+				return null;
+			}
+
+			int size = dataInputStream.readInt();
+
+			Map<String, Object> productInfos = new LinkedHashMap<>();
+
+			for (int i = 0; i < size; i++) {
+				String productKey = dataInputStream.readUTF();
+
+				int productSize = dataInputStream.readInt();
+
+				Map<String, String> productInfo = new LinkedHashMap<>();
+
+				for (int j = 0; j < productSize; j++) {
+					productInfo.put(dataInputStream.readUTF(), dataInputStream.readUTF());
+				}
+
+				productInfos.put(productKey, Collections.unmodifiableMap(productInfo));
+			}
+
+			return new Snapshot(fetched, eTag, lastModified, Collections.unmodifiableMap(productInfos));
+		}
+		catch (IOException ioException) {
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void _writeSnapshot(Snapshot snapshot) throws IOException {
+		Path parentPath = _snapshotPath.getParent();
+
+		Files.createDirectories(parentPath);
+
+		Path tempPath = Files.createTempFile(parentPath, String.valueOf(_snapshotPath.getFileName()), ".tmp");
+
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(tempPath);
+				DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+
+				dataOutputStream.writeInt(_SNAPSHOT_VERSION);
+				dataOutputStream.writeLong(snapshot._fetched);
+				dataOutputStream.writeUTF(snapshot._eTag);
+				dataOutputStream.writeUTF(snapshot._lastModified);
+				dataOutputStream.writeUTF(String.valueOf(_url));
+				dataOutputStream.writeInt(snapshot._productInfos.size());
+
+				for (Map.Entry<String, Object> entry : snapshot._productInfos.entrySet()) {
+					Map<String, String> productInfo = (Map<String, String>)entry.getValue();
+
+					dataOutputStream.writeUTF(entry.getKey());
+					dataOutputStream.writeInt(productInfo.size());
+
+					for (Map.Entry<String, String> productEntry : productInfo.entrySet()) {
+						dataOutputStream.writeUTF(productEntry.getKey());
+						dataOutputStream.writeUTF(productEntry.getValue());
+					}
+				}
+			}
+
+			Files.move(tempPath, _snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+
+	private static final int _SNAPSHOT_VERSION = 1;
+
+	private final Path _snapshotPath;
+	private final long _ttl;
+	private final URL _url;
+
+	private static class Snapshot {
+
+		public Snapshot(long fetched, String eTag, String lastModified, Map<String, Object> productInfos) {
+			_fetched = fetched;
+			_eTag = eTag;
+			_lastModified = lastModified;
+			_productInfos = productInfos;
+		}
+
+		private final String _eTag;
+		private final long _fetched;
+		private final String _lastModified;
+		private final Map<String, Object> _productInfos;
+
+	}
+
+}
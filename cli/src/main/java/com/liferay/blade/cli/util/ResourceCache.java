@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.util;
+
+import com.liferay.blade.cli.command.VersionCommand;
+
+import java.io.IOException;
+
+import java.math.BigInteger;
+
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import java.security.MessageDigest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+
+/**
+ * @author Gregory Amerson
+ */
+public class ResourceCache {
+
+	public static String toHex(MessageDigest messageDigest) {
+		BigInteger digest = new BigInteger(1, messageDigest.digest());
+
+		return String.format("%040x", digest);
+	}
+
+	public static void updateDigest(MessageDigest messageDigest, String name, long size, long lastModified) {
+		String entry = name + ":" + size + ":" + lastModified + "\n";
+
+		messageDigest.update(entry.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static void updateDigest(MessageDigest messageDigest, String name, URL url) throws IOException {
+		URLConnection urlConnection = url.openConnection();
+
+		if (urlConnection instanceof JarURLConnection) {
+			JarURLConnection jarURLConnection = (JarURLConnection)urlConnection;
+
+			JarEntry jarEntry = jarURLConnection.getJarEntry();
+
+			updateDigest(messageDigest, name, jarEntry.getSize(), jarEntry.getCrc());
+		}
+		else {
+			updateDigest(messageDigest, name, urlConnection.getContentLengthLong(), urlConnection.getLastModified());
+		}
+	}
+
+	public ResourceCache() {
+		this(BladeUtil.getBladeCachePath());
+	}
+
+	public ResourceCache(Path cachePath) {
+		_cachePath = cachePath;
+	}
+
+	public Path get(String name, Collection<URL> resources, Materializer materializer) throws Exception {
+		MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+		for (URL resource : resources) {
+			String path = resource.getPath();
+
+			updateDigest(messageDigest, path.substring(path.lastIndexOf('/') + 1), resource);
+		}
+
+		return get(name, _getBladeVersion() + "-" + toHex(messageDigest), materializer);
+	}
+
+	public Path get(String name, String key, Materializer materializer) throws Exception {
+		Path resourcesPath = _cachePath.resolve(name);
+
+		Path resourcePath = resourcesPath.resolve(key);
+
+		if (Files.isDirectory(resourcePath)) {
+			Files.setLastModifiedTime(resourcePath, FileTime.from(Instant.now()));
+
+			_lock(resourcePath);
+
+			return resourcePath;
+		}
+
+		Files.createDirectories(resourcesPath);
+
+		Path tempResourcePath = Files.createTempDirectory(resourcesPath, key + "-");
+
+		try {
+			materializer.materialize(tempResourcePath);
+
+			Files.move(tempResourcePath, resourcePath, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ioException) {
+			if (!Files.isDirectory(resourcePath)) {
+				throw ioException;
+			}
+		}
+		finally {
+			FileUtil.deleteDirIfExists(tempResourcePath);
+		}
+
+		_lock(resourcePath);
+
+		_removeStaleDirectories(resourcesPath, resourcePath);
+
+		return resourcePath;
+	}
+
+	public interface Materializer {
+
+		public void materialize(Path directory) throws Exception;
+
+	}
+
+	private static synchronized String _getBladeVersion() {
+		if (_bladeVersion == null) {
+			try {
+				_bladeVersion = VersionCommand.getBladeCLIVersion();
+			}
+			catch (Exception exception) {
+			}
+
+			if (_bladeVersion == null) {
+				_bladeVersion = "unknown";
+			}
+		}
+
+		return _bladeVersion;
+	}
+
+	private static Path _getLockPath(Path path) {
+		Path lockPath = path.resolveSibling(path.getFileName() + _LOCK_FILE_EXTENSION);
+
+		lockPath = lockPath.toAbsolutePath();
+
+		return lockPath.normalize();
+	}
+
+	private static boolean _isStale(Path path, Instant instant) throws IOException {
+		FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+
+		return instant.isAfter(lastModifiedTime.toInstant());
+	}
+
+	private static synchronized void _lock(Path resourcePath) throws IOException {
+		Path lockPath = _getLockPath(resourcePath);
+
+		if (_fileLocks.containsKey(lockPath)) {
+			return;
+		}
+
+		FileChannel fileChannel = FileChannel.open(
+			lockPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		FileLock fileLock = null;
+
+		try {
+			fileLock = fileChannel.tryLock(0, Long.MAX_VALUE, true);
+		}
+		catch (OverlappingFileLockException overlappingFileLockException) {
+		}
+
+		if (fileLock == null) {
+			fileChannel.close();
+
+			return;
+		}
+
+		_fileLocks.put(lockPath, fileLock);
+	}
+
+	private void _removeStaleDirectories(Path resourcesPath, Path resourcePath) {
+		Instant now = Instant.now();
+
+		Instant yesterday = now.minus(1, ChronoUnit.DAYS);
+
+		try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(resourcesPath)) {
+			for (Path path : directoryStream) {
+				String fileName = String.valueOf(path.getFileName());
+
+				Path lockPath = _getLockPath(path);
+
+				if (path.equals(resourcePath) || fileName.endsWith(_LOCK_FILE_EXTENSION) ||
+					_fileLocks.containsKey(lockPath) || !_isStale(path, yesterday)) {
+
+					continue;
+				}
+
+				if (Files.notExists(lockPath)) {
+					FileUtil.deleteDirIfExists(path);
+
+					continue;
+				}
+
+				try (FileChannel fileChannel = FileChannel.open(lockPath, StandardOpenOption.WRITE)) {
+					FileLock fileLock = fileChannel.tryLock();
+
+					if (fileLock == null) {
+						continue;
+					}
+
+					try {
+						if (_isStale(path, yesterday)) {
+							FileUtil.deleteDirIfExists(path);
+						}
+					}
+					finally {
+						fileLock.release();
+					}
+				}
+				catch (OverlappingFileLockException overlappingFileLockException) {
+					continue;
+				}
+
+				if (Files.notExists(path)) {
+					Files.deleteIfExists(lockPath);
+				}
+			}
+		}
+		catch (IOException ioException) {
+		}
+	}
+
+	private static final String _LOCK_FILE_EXTENSION = ".lock";
+
+	private static String _bladeVersion;
+	private static final Map<Path, FileLock> _fileLocks = new ConcurrentHashMap<>();
+
+	private final Path _cachePath;
+
+}
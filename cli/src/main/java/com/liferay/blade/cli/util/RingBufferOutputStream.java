@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.util;
+
+import java.io.OutputStream;
+
+import java.util.Arrays;
+
+/**
+ * @author Gregory Amerson
+ */
+public class RingBufferOutputStream extends OutputStream {
+
+	public RingBufferOutputStream(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be greater than zero");
+		}
+
+		_capacity = Math.min(capacity, _MAX_CAPACITY);
+
+		_buffer = new byte[Math.min(capacity, _INITIAL_SIZE)];
+	}
+
+	public int getCapacity() {
+		return _capacity;
+	}
+
+	public synchronized boolean isTruncated() {
+		return _truncated;
+	}
+
+	public synchronized int size() {
+		return _size;
+	}
+
+	public synchronized byte[] toByteArray() {
+		byte[] bytes = new byte[_size];
+
+		int start = _position - _size;
+
+		if (start < 0) {
+			start += _buffer.length;
+		}
+
+		int length = Math.min(_size, _buffer.length - start);
+
+		System.arraycopy(_buffer, start, bytes, 0, length);
+		System.arraycopy(_buffer, 0, bytes, length, _size - length);
+
+		return bytes;
+	}
+
+	@Override
+	public synchronized void write(byte[] bytes, int offset, int length) {
+		if (length > _capacity) {
+			offset += length - _capacity;
+			length = _capacity;
+
+			_truncated = true;
+		}
+
+		_ensureCapacity((int)Math.min((long)_size + length, _capacity));
+
+		while (length > 0) {
+			int count = Math.min(length, _buffer.length - _position);
+
+			System.arraycopy(bytes, offset, _buffer, _position, count);
+
+			offset += count;
+			length -= count;
+
+			_position = (_position + count) % _buffer.length;
+
+			if (_size > (_buffer.length - count)) {
+				_size = _buffer.length;
+
+				_truncated = true;
+			}
+			else {
+				_size += count;
+			}
+		}
+	}
+
+	@Override
+	public synchronized void write(int b) {
+		write(new byte[] {(byte)b}, 0, 1);
+	}
+
+	private void _ensureCapacity(int size) {
+		if ((size <= _buffer.length) || (_buffer.length == _capacity)) {
+			return;
+		}
+
+		int newLength = _buffer.length;
+
+		while ((newLength < size) && (newLength < _capacity)) {
+			newLength = (int)Math.min((long)newLength * 2, _capacity);
+		}
+
+		byte[] bytes = toByteArray();
+
+		_buffer = Arrays.copyOf(bytes, newLength);
+
+		_position = _size % newLength;
+	}
+
+	private static final int _INITIAL_SIZE = 8192;
+
+	private static final int _MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private byte[] _buffer;
+	private final int _capacity;
+	private int _position;
+	private int _size;
+	private boolean _truncated;
+
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.util;
+
+import java.io.IOException;
+import java.io.PrintStream;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * @author Gregory Amerson
+ */
+public class StartupProfiler {
+
+	public StartupProfiler() {
+		_startTime = System.nanoTime();
+
+		_lastTime = _startTime;
+	}
+
+	public void mark(String phase) {
+		long now = System.nanoTime();
+
+		synchronized (_phases) {
+			_phases.add(new Phase(phase, _lastTime - _startTime, now - _lastTime));
+		}
+
+		_lastTime = now;
+	}
+
+	public String toJSON() {
+		long total = System.nanoTime() - _startTime;
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("{\"jvmStartup\": ");
+
+		try {
+			RuntimeMXBean runtimeMXBean = ManagementFactory.getRuntimeMXBean();
+
+			sb.append(_toMillis((runtimeMXBean.getUptime() * 1000000L) - total));
+		}
+		catch (Throwable throwable) {
+			sb.append("null");
+		}
+
+		sb.append(", \"total\": ");
+		sb.append(_toMillis(total));
+		sb.append(", \"phases\": [");
+
+		synchronized (_phases) {
+			for (int i = 0; i < _phases.size(); i++) {
+				Phase phase = _phases.get(i);
+
+				if (i > 0) {
+					sb.append(", ");
+				}
+
+				sb.append("{\"name\": \"");
+				sb.append(phase._name);
+				sb.append("\", \"start\": ");
+				sb.append(_toMillis(phase._start));
+				sb.append(", \"duration\": ");
+				sb.append(_toMillis(phase._duration));
+				sb.append("}");
+			}
+		}
+
+		sb.append("]}");
+
+		return sb.toString();
+	}
+
+	public void write(Path path) throws IOException {
+		Path parentPath = path.getParent();
+
+		if (parentPath != null) {
+			Files.createDirectories(parentPath);
+		}
+
+		Files.write(path, toJSON().getBytes(StandardCharsets.UTF_8));
+	}
+
+	public void write(PrintStream printStream) {
+		printStream.println(toJSON());
+	}
+
+	private static String _toMillis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", Math.max(nanos, 0) / 1000000.0);
+	}
+
+	private volatile long _lastTime;
+	private final List<Phase> _phases = new ArrayList<>();
+	private final long _startTime;
+
+	private static class Phase {
+
+		public Phase(String name, long start, long duration) {
+			_name = name;
+			_start = start;
+			_duration = duration;
+		}
+
+		private final long _duration;
+		private final String _name;
+		private final long _start;
+
+	}
+
+}
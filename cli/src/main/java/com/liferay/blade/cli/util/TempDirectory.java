@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Gregory Amerson
+ */
+public class TempDirectory implements Closeable {
+
+	public static TempDirectory create(Path parentPath, String prefix) throws IOException {
+		Path path = Files.createTempDirectory(parentPath, prefix);
+
+		FileChannel fileChannel = FileChannel.open(
+			path.resolve(_LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+		try {
+			TempDirectory tempDirectory = new TempDirectory(path, fileChannel, fileChannel.lock());
+
+			_lockPaths.add(_getLockPath(path));
+
+			return tempDirectory;
+		}
+		catch (IOException ioException) {
+			fileChannel.close();
+
+			FileUtil.deleteDirIfExists(path);
+
+			throw ioException;
+		}
+	}
+
+	public static TempDirectory create(String prefix) throws IOException {
+		return create(Paths.get(System.getProperty("java.io.tmpdir")), prefix);
+	}
+
+	public static void deleteAbandoned(Path parentPath, String... prefixes) throws IOException {
+		Instant now = Instant.now();
+
+		Instant yesterday = now.minus(1, ChronoUnit.DAYS);
+
+		try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(parentPath, "blade-*")) {
+			for (Path path : directoryStream) {
+				String fileName = String.valueOf(path.getFileName());
+
+				for (String prefix : prefixes) {
+					if (!fileName.startsWith(prefix)) {
+						continue;
+					}
+
+					try {
+						Path lockPath = _getLockPath(path);
+
+						if (Files.exists(lockPath)) {
+							if (!_lockPaths.contains(lockPath) && _isAbandoned(lockPath)) {
+								FileUtil.deleteDirIfExists(path);
+							}
+						}
+						else {
+							FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+
+							if (yesterday.isAfter(lastModifiedTime.toInstant())) {
+								FileUtil.deleteDirIfExists(path);
+							}
+						}
+					}
+					catch (IOException ioException) {
+					}
+
+					break;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			_fileLock.release();
+
+			_fileChannel.close();
+		}
+		finally {
+			_lockPaths.remove(_getLockPath(_path));
+
+			FileUtil.deleteDirIfExists(_path);
+		}
+	}
+
+	public Path getPath() {
+		return _path;
+	}
+
+	private static Path _getLockPath(Path path) {
+		Path lockPath = path.resolve(_LOCK_FILE_NAME);
+
+		lockPath = lockPath.toAbsolutePath();
+
+		return lockPath.normalize();
+	}
+
+	private static boolean _isAbandoned(Path lockPath) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(lockPath, StandardOpenOption.WRITE)) {
+			FileLock fileLock = fileChannel.tryLock();
+
+			if (fileLock == null) {
+				return false;
+			}
+
+			fileLock.release();
+
+			return true;
+		}
+		catch (OverlappingFileLockException overlappingFileLockException) {
+			return false;
+		}
+	}
+
+	private TempDirectory(Path path, FileChannel fileChannel, FileLock fileLock) {
+		_path = path;
+		_fileChannel = fileChannel;
+		_fileLock = fileLock;
+	}
+
+	private static final String _LOCK_FILE_NAME = ".lock";
+
+	private static final Set<Path> _lockPaths = ConcurrentHashMap.newKeySet();
+
+	private final FileChannel _fileChannel;
+	private final FileLock _fileLock;
+	private final Path _path;
+
+}
@@ -34,6 +34,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.PrintStream;
 import java.io.PrintWriter;
 
 import java.net.URL;
@@ -67,6 +68,8 @@ import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
 /**
  * @author Alberto Chaparro
  * @author Gregory Amerson
@@ -105,6 +108,15 @@ public class PropertiesLocator {
 	}
 
 	public PropertiesLocator(PropertiesLocatorArgs propertiesLocatorArgs) throws Exception {
+		this(propertiesLocatorArgs, System.out, System.err);
+	}
+
+	public PropertiesLocator(PropertiesLocatorArgs propertiesLocatorArgs, PrintStream out, PrintStream error)
+		throws Exception {
+
+		_out = out;
+		_error = error;
+
 		try (PrintWriter outputWriter = _getOutputWriter(propertiesLocatorArgs)) {
 			Set<String> oldPropertyKeys = _getPropertyKeys(propertiesLocatorArgs.getPropertiesFile());
 
@@ -127,7 +139,7 @@ public class PropertiesLocator {
 			_printInfo(outputWriter, _problems);
 		}
 		catch (Exception exception) {
-			System.err.println(exception.getMessage());
+			_error.println(exception.getMessage());
 		}
 	}
 
@@ -224,7 +236,7 @@ public class PropertiesLocator {
 			);
 		}
 		catch (Exception exception) {
-			System.err.println("Unable to read properties file from jar " + propertiesJarURL);
+			_error.println("Unable to read properties file from jar " + propertiesJarURL);
 
 			throw exception;
 		}
@@ -372,7 +384,7 @@ public class PropertiesLocator {
 				});
 		}
 		else {
-			return new PrintWriter(System.out);
+			return new PrintWriter(new CloseShieldOutputStream(_out));
 		}
 	}
 
@@ -448,7 +460,7 @@ public class PropertiesLocator {
 			is.close();
 		}
 		catch (Exception exception) {
-			System.out.println("Unable to read properties file " + propertiesJarURL);
+			_out.println("Unable to read properties file " + propertiesJarURL);
 
 			throw exception;
 		}
@@ -472,7 +484,7 @@ public class PropertiesLocator {
 			);
 		}
 		catch (Exception exception) {
-			System.out.println("Unable to read properties file " + file.getCanonicalPath());
+			_out.println("Unable to read properties file " + file.getCanonicalPath());
 
 			throw exception;
 		}
@@ -515,7 +527,7 @@ public class PropertiesLocator {
 								}
 							}
 							catch (Exception exception) {
-								System.out.println("Unable to read the content of " + absolutePath);
+								_out.println("Unable to read the content of " + absolutePath);
 
 								return;
 							}
@@ -553,7 +565,7 @@ public class PropertiesLocator {
 						}
 					}
 					catch (Exception exception) {
-						System.out.println("Unable to get portlet properties");
+						_out.println("Unable to get portlet properties");
 
 						return;
 					}
@@ -938,6 +950,8 @@ public class PropertiesLocator {
 		}
 	};
 
+	private final PrintStream _error;
+	private final PrintStream _out;
 	private SortedSet<PropertyProblem> _problems = Collections.emptySortedSet();
 
 }
\ No newline at end of file
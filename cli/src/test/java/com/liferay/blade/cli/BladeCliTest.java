@@ -18,6 +18,14 @@ package com.liferay.blade.cli;
 
 import java.io.File;
 
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -50,9 +58,96 @@ public class BladeCliTest {
 		Assert.assertFalse("Current jar should be the latest version", updateAvailable);
 	}
 
+	@Test
+	public void testConcurrentRuns() throws Exception {
+		String[] commandNames = {"samples", "version", "watch", "deploy"};
+
+		ExecutorService executorService = Executors.newFixedThreadPool(commandNames.length);
+
+		try {
+			List<Future<String>> futures = new ArrayList<>();
+
+			for (String commandName : commandNames) {
+				futures.add(executorService.submit(() -> _runHelp(commandName)));
+			}
+
+			for (int i = 0; i < commandNames.length; i++) {
+				Future<String> future = futures.get(i);
+
+				String output = future.get();
+
+				Assert.assertTrue(output, output.contains("Usage: " + commandNames[i]));
+
+				for (String commandName : commandNames) {
+					if (!commandName.equals(commandNames[i])) {
+						Assert.assertFalse(output, output.contains("Usage: " + commandName));
+					}
+				}
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testProfileStartup() throws Exception {
+		File profileFile = new File(_rootDir, "profile.json");
+
+		BladeTestResults results = TestUtil.runBlade(
+			_rootDir, _extensionsDir, "--profile-startup=" + profileFile.getAbsolutePath(), "help", "samples");
+
+		String output = results.getOutput();
+
+		Assert.assertTrue(output, output.contains("Usage: samples"));
+
+		Assert.assertTrue(profileFile.exists());
+
+		String profile = new String(Files.readAllBytes(profileFile.toPath()));
+
+		Assert.assertTrue(profile, profile.contains("\"name\": \"extensions\""));
+		Assert.assertTrue(profile, profile.contains("\"name\": \"jcommander\""));
+		Assert.assertTrue(profile, profile.contains("\"name\": \"execute\""));
+	}
+
+	@Test
+	public void testProfileStartupAfterCommand() throws Exception {
+		File profileFile = new File(_rootDir, "profile.json");
+
+		TestUtil.runBlade(
+			_rootDir, _extensionsDir, false, "--base", _rootDir.getPath(), "help", "samples",
+			"--profile-startup=" + profileFile.getAbsolutePath());
+
+		Assert.assertFalse(profileFile.exists());
+
+		TestUtil.runBlade(
+			_rootDir, _extensionsDir, "--base", _rootDir.getPath(),
+			"--profile-startup=" + profileFile.getAbsolutePath(), "help", "samples");
+
+		Assert.assertTrue(profileFile.exists());
+	}
+
 	@Rule
 	public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
+	private String _runHelp(String commandName) throws Exception {
+		StringPrintStream out = StringPrintStream.newInstance();
+		StringPrintStream err = StringPrintStream.newInstance();
+
+		BladeTest.BladeTestBuilder bladeTestBuilder = BladeTest.builder();
+
+		bladeTestBuilder.setExtensionsDir(_extensionsDir.toPath());
+		bladeTestBuilder.setSettingsDir(_rootDir.toPath());
+		bladeTestBuilder.setStdError(err);
+		bladeTestBuilder.setStdOut(out);
+
+		BladeTest bladeTest = bladeTestBuilder.build();
+
+		bladeTest.run(new String[] {"help", commandName});
+
+		return out.toString();
+	}
+
 	private File _extensionsDir = null;
 	private File _rootDir = null;
 
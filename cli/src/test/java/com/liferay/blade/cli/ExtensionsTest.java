@@ -25,12 +25,15 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Scanner;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -67,6 +70,26 @@ public class ExtensionsTest {
 		_extensionsClassLoaderSupplier.close();
 	}
 
+	@Test
+	public void testArgsNormalizer() throws Exception {
+		ArgsNormalizer argsNormalizer = ArgsNormalizer.get(
+			Arrays.asList("create", "server", "server start", "server start debug"));
+
+		String[] args = {"--base", "/foo", "server", "--trace", "start", "-d", "create", "--quiet", "--base"};
+
+		Assert.assertArrayEquals(
+			new String[] {"server start", "-d", "create", "--base", "/foo", "--trace", "--quiet", "--base"},
+			argsNormalizer.normalize(args));
+
+		args = new String[] {"server", "start", "debug", "server"};
+
+		Assert.assertArrayEquals(new String[] {"server start debug", "server"}, argsNormalizer.normalize(args));
+
+		Assert.assertSame(
+			argsNormalizer,
+			ArgsNormalizer.get(Arrays.asList("server start debug", "server start", "create", "server")));
+	}
+
 	@Test
 	public void testArgsSort() throws Exception {
 		String[] args = {"--base", "/foo/bar/dir/", "--flag1", "extension", "install", "/path/to/jar.jar", "--flag2"};
@@ -109,6 +132,89 @@ public class ExtensionsTest {
 		Assert.assertTrue(errorOccurred);
 	}
 
+	@Test
+	public void testCommandIndex() throws Exception {
+		ClassLoader classLoader = _extensionsClassLoaderSupplier.get();
+
+		Path commandIndexPath = temporaryFolder.getRoot(
+		).toPath(
+		).resolve(
+			"blade-command-index.properties"
+		);
+
+		try (Extensions extensions = new Extensions(classLoader, commandIndexPath)) {
+			extensions.getCommandIndex();
+		}
+
+		Assert.assertTrue(Files.exists(commandIndexPath));
+
+		CommandIndex commandIndex = CommandIndex.load(commandIndexPath);
+
+		Assert.assertEquals(
+			"server start", commandIndex.getCommandName(null, new String[] {"--base", "foo", "server", "start"}));
+		Assert.assertEquals("create", commandIndex.getCommandName(null, new String[] {"create", "-t", "mvc-portlet"}));
+		Assert.assertNull(commandIndex.getCommandName(null, new String[] {"foo"}));
+
+		try (Extensions extensions = new Extensions(classLoader, commandIndexPath)) {
+			Map<String, BaseCommand<? extends BaseArgs>> commands = extensions.getCommands(
+				null, new String[] {"server", "start"});
+
+			List<BaseCommand<? extends BaseArgs>> values = commands.values(
+			).stream(
+			).distinct(
+			).collect(
+				Collectors.toList()
+			);
+
+			Assert.assertEquals(values.toString(), 1, values.size());
+			Assert.assertTrue(commands.containsKey("server start"));
+		}
+	}
+
+	@Test
+	public void testExtensionsCache() throws Exception {
+		_setupTestExtensions();
+
+		File cacheDir = temporaryFolder.newFolder("cache");
+
+		Path cachePath = cacheDir.toPath();
+
+		Path extensionsCachePath = cachePath.resolve("extensions");
+
+		try (ExtensionsClassLoaderSupplier extensionsClassLoaderSupplier = new ExtensionsClassLoaderSupplier(
+				_extensionsDir.toPath(), cachePath)) {
+
+			Assert.assertNotNull(extensionsClassLoaderSupplier.get());
+		}
+
+		List<Path> cachedDirs = _listFiles(extensionsCachePath);
+
+		Assert.assertEquals(cachedDirs.toString(), 1, cachedDirs.size());
+
+		try (ExtensionsClassLoaderSupplier extensionsClassLoaderSupplier = new ExtensionsClassLoaderSupplier(
+				_extensionsDir.toPath(), cachePath)) {
+
+			Assert.assertNotNull(extensionsClassLoaderSupplier.get());
+		}
+
+		Assert.assertEquals(cachedDirs, _listFiles(extensionsCachePath));
+
+		Path sampleCommandJarPath = _extensionsDir.toPath(
+		).resolve(
+			new File(System.getProperty("sampleCommandJarFile")).getName()
+		);
+
+		Files.setLastModifiedTime(sampleCommandJarPath, FileTime.fromMillis(0));
+
+		try (ExtensionsClassLoaderSupplier extensionsClassLoaderSupplier = new ExtensionsClassLoaderSupplier(
+				_extensionsDir.toPath(), cachePath)) {
+
+			Assert.assertNotNull(extensionsClassLoaderSupplier.get());
+		}
+
+		Assert.assertEquals(2, _listFiles(extensionsCachePath).size());
+	}
+
 	@Test
 	public void testLoadCommandsBuiltIn() throws Exception {
 		ClassLoader classLoader = _extensionsClassLoaderSupplier.get();
@@ -206,6 +312,15 @@ public class ExtensionsTest {
 		}
 	}
 
+	private List<Path> _listFiles(Path dirPath) throws Exception {
+		try (Stream<Path> files = Files.list(dirPath)) {
+			return files.sorted(
+			).collect(
+				Collectors.toList()
+			);
+		}
+	}
+
 	private void _setupBadExtension() throws Exception {
 		Path extensionsPath = _extensionsDir.toPath();
 
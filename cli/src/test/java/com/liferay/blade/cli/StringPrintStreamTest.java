@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli;
+
+import com.liferay.blade.cli.util.RingBufferOutputStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Gregory Amerson
+ */
+public class StringPrintStreamTest {
+
+	@Test
+	public void testBoundedInstanceKeepsLastLines() throws Exception {
+		StringPrintStream stringPrintStream = StringPrintStream.newBoundedInstance(64);
+
+		for (int i = 0; i < 1000; i++) {
+			stringPrintStream.println("line " + i);
+		}
+
+		String output = stringPrintStream.get();
+
+		Assert.assertTrue(stringPrintStream.isTruncated());
+		Assert.assertTrue(output, output.length() <= 64);
+		Assert.assertTrue(output, output.startsWith("line "));
+		Assert.assertTrue(output, output.endsWith("line 999" + System.lineSeparator()));
+		Assert.assertFalse(output, output.contains("line 0" + System.lineSeparator()));
+	}
+
+	@Test
+	public void testFilteredInstanceStreamsLines() throws Exception {
+		List<String> lines = new ArrayList<>();
+
+		Predicate<String> warningFilter = line -> line.startsWith("WARNING:");
+
+		StringPrintStream stringPrintStream = StringPrintStream.newBoundedInstance(
+			1024, Collections.singleton(warningFilter), Collections.singleton(lines::add));
+
+		stringPrintStream.print("foo\r\nWARNING: bar\n");
+
+		Assert.assertEquals(Collections.singletonList("foo"), lines);
+
+		stringPrintStream.print("\nbaz");
+
+		Assert.assertEquals(
+			"foo" + System.lineSeparator() + System.lineSeparator() + "baz" + System.lineSeparator(),
+			stringPrintStream.get());
+
+		stringPrintStream.print("\n\n");
+
+		Assert.assertEquals(
+			"foo" + System.lineSeparator() + System.lineSeparator() + "baz" + System.lineSeparator(),
+			stringPrintStream.get());
+		Assert.assertEquals(4, lines.size());
+	}
+
+	@Test
+	public void testRingBufferCapacity() throws Exception {
+		RingBufferOutputStream ringBufferOutputStream = new RingBufferOutputStream(Integer.MAX_VALUE);
+
+		Assert.assertEquals(Integer.MAX_VALUE - 8, ringBufferOutputStream.getCapacity());
+
+		byte[] bytes = new byte[20000];
+
+		Arrays.fill(bytes, (byte)'a');
+
+		ringBufferOutputStream.write(bytes, 0, bytes.length);
+		ringBufferOutputStream.write('b');
+
+		Assert.assertEquals(20001, ringBufferOutputStream.size());
+		Assert.assertFalse(ringBufferOutputStream.isTruncated());
+
+		byte[] output = ringBufferOutputStream.toByteArray();
+
+		Assert.assertEquals('a', output[0]);
+		Assert.assertEquals('b', output[20000]);
+	}
+
+	@Test
+	public void testUnboundedInstance() throws Exception {
+		StringPrintStream stringPrintStream = StringPrintStream.newInstance();
+
+		stringPrintStream.print("foo\nbar");
+
+		Assert.assertEquals("foo\nbar", stringPrintStream.get());
+		Assert.assertFalse(stringPrintStream.isTruncated());
+	}
+
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.rules.ExternalResource;
+
+/**
+ * @author Gregory Amerson
+ */
+public class SystemPropertiesRule extends ExternalResource {
+
+	public void setProperty(String key, String value) {
+		if (!_properties.containsKey(key)) {
+			_properties.put(key, System.getProperty(key));
+		}
+
+		System.setProperty(key, value);
+	}
+
+	@Override
+	protected void after() {
+		for (Map.Entry<String, String> entry : _properties.entrySet()) {
+			String value = entry.getValue();
+
+			if (value == null) {
+				System.clearProperty(entry.getKey());
+			}
+			else {
+				System.setProperty(entry.getKey(), value);
+			}
+		}
+
+		_properties.clear();
+	}
+
+	private final Map<String, String> _properties = new HashMap<>();
+
+}
@@ -18,17 +18,36 @@ package com.liferay.blade.cli;
 
 import com.liferay.blade.cli.gradle.GradleWorkspaceProvider;
 import com.liferay.blade.cli.util.BladeUtil;
+import com.liferay.blade.cli.util.CombinedClassLoader;
 import com.liferay.blade.cli.util.FileUtil;
+import com.liferay.blade.cli.util.ProductIndex;
+import com.liferay.blade.cli.util.ProductInfo;
+import com.liferay.blade.cli.util.ProductInfoCache;
+import com.liferay.blade.cli.util.TempDirectory;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
 
 import java.io.File;
+import java.io.OutputStream;
+import java.io.StringReader;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.net.URLClassLoader;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Assert;
 import org.junit.Rule;
@@ -58,6 +77,40 @@ public class UtilTest {
 		Assert.assertTrue(propertiesList.size() == 2);
 	}
 
+	@Test
+	public void testCombinedClassLoader() throws Exception {
+		File oneDir = temporaryFolder.newFolder("one");
+		File twoDir = temporaryFolder.newFolder("two");
+
+		_writeFile(oneDir, "a/b/Foo.class", "one");
+		_writeFile(oneDir, "META-INF/foo.txt", "one");
+		_writeFile(twoDir, "a/b/Bar.class", "two");
+		_writeFile(twoDir, "a/b/Foo.class", "two");
+		_writeFile(twoDir, "META-INF/foo.txt", "two");
+
+		URLClassLoader oneClassLoader = new URLClassLoader(new URL[] {oneDir.toURI().toURL()}, null);
+		URLClassLoader twoClassLoader = new URLClassLoader(new URL[] {twoDir.toURI().toURL()}, null);
+
+		try (CombinedClassLoader combinedClassLoader = new CombinedClassLoader(oneClassLoader, twoClassLoader)) {
+			Assert.assertTrue(combinedClassLoader.contains(twoClassLoader));
+
+			URL fooURL = combinedClassLoader.getResource("a/b/Foo.class");
+
+			Assert.assertEquals(oneClassLoader.getResource("a/b/Foo.class"), fooURL);
+
+			URL barURL = combinedClassLoader.getResource("a/b/Bar.class");
+
+			Assert.assertEquals(twoClassLoader.getResource("a/b/Bar.class"), barURL);
+
+			Assert.assertNull(combinedClassLoader.getResource("a/b/Missing.class"));
+			Assert.assertNull(combinedClassLoader.getResource("a/b/Missing.class"));
+
+			List<URL> urls = Collections.list(combinedClassLoader.getResources("META-INF/foo.txt"));
+
+			Assert.assertEquals(urls.toString(), 2, urls.size());
+		}
+	}
+
 	@Test
 	public void testCopyEntireDirectory() throws Exception {
 		File testDir1 = temporaryFolder.newFolder("dir1");
@@ -189,7 +242,151 @@ public class UtilTest {
 		Assert.assertTrue(bladeSettings.exists());
 	}
 
+	@Test
+	public void testProductIndex() throws Exception {
+		String json = String.join(
+			"", "{", "\"portal-7.3-ga1\": {\"promoted\": true, \"targetPlatformVersion\": \"7.3.0\"},",
+			"\"dxp-7.3-sp1\": {\"promoted\": false, \"targetPlatformVersion\": \"7.3.10.1\"},",
+			"\"dxp-7.4-u1\": {\"promoted\": true, \"targetPlatformVersion\": \"7.4.13.u1\"},",
+			"\"portal-7.3-ga2\": {\"promoted\": false, \"targetPlatformVersion\": \"7.3.0\"}", "}");
+
+		ProductIndex productIndex = new ProductIndex(ProductInfoCache.parse(new StringReader(json)));
+
+		Assert.assertEquals(
+			Arrays.asList("dxp-7.4-u1", "dxp-7.3-sp1", "portal-7.3-ga2", "portal-7.3-ga1"),
+			productIndex.getProductKeys(false));
+		Assert.assertEquals(Arrays.asList("dxp-7.4-u1", "portal-7.3-ga1"), productIndex.getProductKeys(true));
+		Assert.assertEquals(Arrays.asList("portal-7.3-ga2", "portal-7.3-ga1"), productIndex.getProductKeys("7.3.0"));
+		Assert.assertEquals(
+			new HashSet<>(Arrays.asList("7.3.0", "7.4.13.u1")), productIndex.getTargetPlatformVersions(true));
+		Assert.assertEquals("7.3.10.1", productIndex.getTargetPlatformVersion("dxp-7.3-sp1").get());
+		Assert.assertFalse(productIndex.getTargetPlatformVersion("dxp-7.2-ga1").isPresent());
+		Assert.assertNull(productIndex.getProductInfo("dxp-7.2-ga1"));
+
+		List<String> productKeys = productIndex.getProductKeys(false);
+
+		try {
+			productKeys.add("dxp-7.2-ga1");
+
+			Assert.fail("Product keys should not be modifiable");
+		}
+		catch (UnsupportedOperationException unsupportedOperationException) {
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testProductInfoCache() throws Exception {
+		AtomicInteger notModifiedCount = new AtomicInteger();
+		AtomicInteger requestCount = new AtomicInteger();
+
+		HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+
+		httpServer.createContext(
+			"/.product_info.json",
+			httpExchange -> {
+				requestCount.incrementAndGet();
+
+				Headers requestHeaders = httpExchange.getRequestHeaders();
+
+				Headers responseHeaders = httpExchange.getResponseHeaders();
+
+				responseHeaders.add("ETag", "\"1\"");
+
+				if (Objects.equals("\"1\"", requestHeaders.getFirst("If-None-Match"))) {
+					notModifiedCount.incrementAndGet();
+
+					httpExchange.sendResponseHeaders(304, -1);
+				}
+				else {
+					String json = "{\"dxp-7.4-u1\": {\"promoted\": true, \"targetPlatformVersion\": \"7.4.13.u1\"}}";
+
+					byte[] bytes = json.getBytes();
+
+					httpExchange.sendResponseHeaders(200, bytes.length);
+
+					try (OutputStream outputStream = httpExchange.getResponseBody()) {
+						outputStream.write(bytes);
+					}
+				}
+
+				httpExchange.close();
+			});
+
+		httpServer.start();
+
+		try {
+			InetSocketAddress inetSocketAddress = httpServer.getAddress();
+
+			URL url = new URL("http://localhost:" + inetSocketAddress.getPort() + "/.product_info.json");
+
+			File snapshotFile = new File(temporaryFolder.getRoot(), "product_info.snapshot");
+
+			ProductInfoCache productInfoCache = new ProductInfoCache(snapshotFile.toPath(), url, 3600000);
+
+			Map<String, Object> productInfos = productInfoCache.get();
+
+			ProductInfo productInfo = new ProductInfo((Map<String, String>)productInfos.get("dxp-7.4-u1"));
+
+			Assert.assertEquals("7.4.13.u1", productInfo.getTargetPlatformVersion());
+			Assert.assertTrue(productInfo.isPromoted());
+
+			productInfoCache = new ProductInfoCache(snapshotFile.toPath(), url, 3600000);
+
+			Assert.assertEquals(productInfos, productInfoCache.get());
+			Assert.assertEquals(1, requestCount.get());
+
+			productInfoCache = new ProductInfoCache(snapshotFile.toPath(), url, 0);
+
+			Assert.assertEquals(productInfos, productInfoCache.get());
+			Assert.assertEquals(2, requestCount.get());
+			Assert.assertEquals(1, notModifiedCount.get());
+		}
+		finally {
+			httpServer.stop(0);
+		}
+	}
+
+	@Test
+	public void testTempDirectoryDeleteAbandoned() throws Exception {
+		File tempDir = temporaryFolder.getRoot();
+
+		Path tempPath = tempDir.toPath();
+
+		Path abandonedPath = tempPath.resolve("blade-templates-1-abandoned");
+
+		Files.createDirectories(abandonedPath);
+
+		Files.createFile(abandonedPath.resolve(".lock"));
+
+		Path unrelatedPath = Files.createDirectories(tempPath.resolve("blade-unrelated"));
+
+		Path lockedPath = null;
+
+		try (TempDirectory tempDirectory = TempDirectory.create(tempPath, "blade-templates-2-")) {
+			lockedPath = tempDirectory.getPath();
+
+			TempDirectory.deleteAbandoned(tempPath, "blade-templates-");
+
+			Assert.assertFalse(Files.exists(abandonedPath));
+			Assert.assertTrue(Files.exists(lockedPath));
+			Assert.assertTrue(Files.exists(unrelatedPath));
+		}
+
+		Assert.assertFalse(Files.exists(lockedPath));
+	}
+
 	@Rule
 	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
 
+	private void _writeFile(File dir, String name, String content) throws Exception {
+		File file = new File(dir, name);
+
+		File parentFile = file.getParentFile();
+
+		parentFile.mkdirs();
+
+		Files.write(file.toPath(), content.getBytes());
+	}
+
 }
\ No newline at end of file
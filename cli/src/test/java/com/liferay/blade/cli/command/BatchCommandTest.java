@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.command;
+
+import com.liferay.blade.cli.BladeTestResults;
+import com.liferay.blade.cli.SystemPropertiesRule;
+import com.liferay.blade.cli.TestUtil;
+import com.liferay.blade.cli.util.BladeUtil;
+
+import java.io.File;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Gregory Amerson
+ */
+public class BatchCommandTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_rootDir = temporaryFolder.getRoot();
+
+		_extensionsDir = temporaryFolder.newFolder(".blade", "extensions");
+	}
+
+	@Test
+	public void testBatch() throws Exception {
+		File batchFile = temporaryFolder.newFile("batch.txt");
+
+		Files.write(
+			batchFile.toPath(),
+			Arrays.asList("# comment", "blade help samples", "", "help deploy", "wait", "help \"watch\""));
+
+		BladeTestResults bladeTestResults = TestUtil.runBlade(
+			_rootDir, _extensionsDir, "batch", "--parallel", "2", batchFile.getPath());
+
+		String output = bladeTestResults.getOutput();
+
+		int samplesIndex = output.indexOf("[1/3] blade help samples");
+		int deployIndex = output.indexOf("[2/3] help deploy");
+		int watchIndex = output.indexOf("[3/3] help \"watch\"");
+
+		Assert.assertTrue(output, samplesIndex >= 0);
+		Assert.assertTrue(output, deployIndex > output.indexOf("Usage: samples"));
+		Assert.assertTrue(output, watchIndex > output.indexOf("Usage: deploy"));
+		Assert.assertTrue(output, output.indexOf("Usage: watch") > watchIndex);
+		Assert.assertTrue(output, output.contains("Finished 3 batch command lines."));
+	}
+
+	@Test
+	public void testBatchFailure() throws Exception {
+		File batchFile = temporaryFolder.newFile("batch.txt");
+
+		Files.write(batchFile.toPath(), Arrays.asList("sh --port 1 lb", "help samples", "wait", "help deploy"));
+
+		BladeTestResults bladeTestResults = TestUtil.runBlade(
+			_rootDir, _extensionsDir, false, "batch", batchFile.getPath());
+
+		String output = bladeTestResults.getOutput();
+
+		Assert.assertTrue(output, output.contains("[2/3] skipped"));
+		Assert.assertTrue(output, output.contains("[3/3] skipped"));
+		Assert.assertFalse(output, output.contains("Usage: samples"));
+
+		String errors = bladeTestResults.getErrors();
+
+		Assert.assertTrue(errors, errors.contains("[1/3] failed with exit code 1"));
+		Assert.assertTrue(errors, errors.contains("1 of 3 batch command lines failed, 2 skipped."));
+	}
+
+	@Test
+	public void testBatchMisspelledCommand() throws Exception {
+		File batchFile = temporaryFolder.newFile("batch.txt");
+
+		Files.write(batchFile.toPath(), Arrays.asList("hlep samples", "help deploy"));
+
+		BladeTestResults bladeTestResults = TestUtil.runBlade(
+			_rootDir, _extensionsDir, false, "batch", batchFile.getPath());
+
+		String output = bladeTestResults.getOutput();
+
+		Assert.assertTrue(output, output.contains("[2/2] skipped"));
+
+		String errors = bladeTestResults.getErrors();
+
+		Assert.assertTrue(errors, errors.contains("[1/2] failed with exit code 1"));
+		Assert.assertTrue(errors, errors.contains("1 of 2 batch command lines failed, 1 skipped."));
+	}
+
+	@Test
+	public void testBatchUnknownOption() throws Exception {
+		File batchFile = temporaryFolder.newFile("batch.txt");
+
+		Files.write(batchFile.toPath(), Arrays.asList("version --no-such-option", "help deploy"));
+
+		BladeTestResults bladeTestResults = TestUtil.runBlade(
+			_rootDir, _extensionsDir, false, "batch", batchFile.getPath());
+
+		String output = bladeTestResults.getOutput();
+
+		Assert.assertTrue(output, output.contains("[2/2] skipped"));
+
+		String errors = bladeTestResults.getErrors();
+
+		Assert.assertTrue(errors, errors.contains("[1/2] failed with exit code 1"));
+		Assert.assertTrue(errors, errors.contains("1 of 2 batch command lines failed, 1 skipped."));
+	}
+
+	@Test
+	public void testBatchLineWithWarnings() throws Exception {
+		Assume.assumeFalse(BladeUtil.isWindows());
+
+		File workspaceDir = temporaryFolder.newFolder("ws");
+
+		Path workspacePath = workspaceDir.toPath();
+
+		Files.createDirectories(workspacePath.resolve("modules/foo"));
+
+		Files.write(workspacePath.resolve("modules/foo/bnd.bnd"), new byte[0]);
+		Files.write(workspacePath.resolve("settings.gradle"), "apply plugin: \"com.liferay.workspace\"".getBytes());
+
+		Path gradlewPath = workspacePath.resolve("gradlew");
+
+		Files.write(gradlewPath, Arrays.asList("#!/bin/sh", "echo \"Warning: deprecated\" >&2", "echo \"$@\""));
+
+		File gradlewFile = gradlewPath.toFile();
+
+		Assert.assertTrue(gradlewFile.setExecutable(true));
+
+		File batchFile = temporaryFolder.newFile("batch.txt");
+
+		File timingsFile = new File(temporaryFolder.getRoot(), "timings.json");
+
+		Files.write(
+			batchFile.toPath(),
+			Arrays.asList(
+				"--base " + workspaceDir.getPath() + " deploy --timings-file " + timingsFile.getPath(),
+				"help samples"));
+
+		systemPropertiesRule.setProperty("blade.gradle.executor", "fork");
+
+		BladeTestResults bladeTestResults = TestUtil.runBlade(
+			_rootDir, _extensionsDir, false, "batch", batchFile.getPath());
+
+		String output = bladeTestResults.getOutput();
+
+		Assert.assertTrue(output, output.contains("Usage: samples"));
+		Assert.assertTrue(output, output.contains("Finished 2 batch command lines."));
+
+		String errors = bladeTestResults.getErrors();
+
+		Assert.assertTrue(errors, errors.contains("Warning: deprecated"));
+		Assert.assertFalse(errors, errors.contains("failed"));
+	}
+
+	@Rule
+	public final SystemPropertiesRule systemPropertiesRule = new SystemPropertiesRule();
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File _extensionsDir = null;
+	private File _rootDir = null;
+
+}
@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.daemon;
+
+import com.liferay.blade.cli.SystemPropertiesRule;
+import com.liferay.blade.cli.util.BladeUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Gregory Amerson
+ */
+public class BladeDaemonTest {
+
+	@Before
+	public void setUp() throws Exception {
+		File userHomeDir = temporaryFolder.newFolder("home");
+
+		systemPropertiesRule.setProperty("user.home", userHomeDir.getPath());
+	}
+
+	@Test
+	public void testConnectionLostAfterCommandStarted() throws Exception {
+		Path daemonPath = DaemonProtocol.getDaemonPath();
+
+		Files.createDirectories(daemonPath);
+
+		try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+			Properties properties = new Properties();
+
+			properties.setProperty("port", String.valueOf(serverSocket.getLocalPort()));
+			properties.setProperty("token", "token");
+
+			try (OutputStream outputStream = Files.newOutputStream(
+					daemonPath.resolve(DaemonProtocol.getDaemonKey() + ".properties"))) {
+
+				properties.store(outputStream, null);
+			}
+
+			Thread daemonThread = new Thread(
+				() -> {
+					try (Socket socket = serverSocket.accept();
+						DataInputStream dataInputStream = new DataInputStream(socket.getInputStream());
+						DataOutputStream dataOutputStream = new DataOutputStream(socket.getOutputStream())) {
+
+						dataInputStream.readUTF();
+						dataInputStream.readUTF();
+
+						int length = dataInputStream.readInt();
+
+						for (int i = 0; i < length; i++) {
+							dataInputStream.readUTF();
+						}
+
+						dataOutputStream.writeByte(DaemonProtocol.READY);
+						dataOutputStream.flush();
+					}
+					catch (IOException ioException) {
+					}
+				});
+
+			daemonThread.start();
+
+			PrintStream systemErr = System.err;
+
+			ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+			Integer exitCode;
+
+			try {
+				System.setErr(new PrintStream(byteArrayOutputStream, true));
+
+				exitCode = BladeDaemonClient.run(new String[] {"help"}, temporaryFolder.getRoot());
+			}
+			finally {
+				System.setErr(systemErr);
+			}
+
+			daemonThread.join(TimeUnit.SECONDS.toMillis(30));
+
+			String error = byteArrayOutputStream.toString();
+
+			Assert.assertEquals(error, Integer.valueOf(1), exitCode);
+			Assert.assertTrue(error, error.contains("Lost the connection to the blade daemon"));
+		}
+	}
+
+	@Test
+	public void testRunCommandInDaemon() throws Exception {
+		File workingDir = temporaryFolder.newFolder("working");
+
+		String output = _runInDaemon(workingDir, "help", "samples");
+
+		Assert.assertTrue(output, output.contains("Usage: samples"));
+	}
+
+	@Test
+	public void testRunCommandWithRelativePaths() throws Exception {
+		Assume.assumeFalse(BladeUtil.isWindows());
+
+		File workingDir = temporaryFolder.newFolder("working");
+
+		Path workingPath = workingDir.toPath();
+
+		Path workspacePath = workingPath.resolve("ws");
+
+		Files.createDirectories(workspacePath.resolve("modules/foo"));
+
+		Files.write(workspacePath.resolve("modules/foo/bnd.bnd"), new byte[0]);
+		Files.write(workspacePath.resolve("settings.gradle"), "apply plugin: \"com.liferay.workspace\"".getBytes());
+
+		Path gradlewPath = workspacePath.resolve("gradlew");
+
+		Files.write(gradlewPath, Arrays.asList("#!/bin/sh", "echo \"gradlew $@ in $(pwd)\""));
+
+		File gradlewFile = gradlewPath.toFile();
+
+		Assert.assertTrue(gradlewFile.setExecutable(true));
+
+		systemPropertiesRule.setProperty("blade.gradle.executor", "fork");
+
+		String output = _runInDaemon(workingDir, "--base", "ws", "deploy", "--timings-file", "timings.json");
+
+		File workspaceDir = workspacePath.toFile();
+
+		Assert.assertTrue(output, output.contains("in " + workspaceDir.getCanonicalPath()));
+		Assert.assertTrue(output, output.contains("Gradle \"deploy\" task succeeded."));
+
+		Assert.assertTrue(Files.exists(workingPath.resolve("timings.json")));
+	}
+
+	@Rule
+	public final SystemPropertiesRule systemPropertiesRule = new SystemPropertiesRule();
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private String _runInDaemon(File workingDir, String... args) throws Exception {
+		String key = DaemonProtocol.getDaemonKey();
+
+		BladeDaemon bladeDaemon = new BladeDaemon(key, TimeUnit.SECONDS.toMillis(5));
+
+		Thread daemonThread = new Thread(
+			() -> {
+				try {
+					bladeDaemon.run();
+				}
+				catch (Exception exception) {
+				}
+			});
+
+		daemonThread.start();
+
+		Path daemonPath = DaemonProtocol.getDaemonPath();
+
+		Path propertiesPath = daemonPath.resolve(key + ".properties");
+
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+
+		while (Files.notExists(propertiesPath) && (System.currentTimeMillis() < timeout)) {
+			Thread.sleep(50);
+		}
+
+		Assert.assertTrue(Files.exists(propertiesPath));
+
+		PrintStream systemOut = System.out;
+
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+		Integer exitCode;
+
+		try {
+			System.setOut(new PrintStream(byteArrayOutputStream, true));
+
+			exitCode = BladeDaemonClient.run(args, workingDir);
+		}
+		finally {
+			System.setOut(systemOut);
+		}
+
+		String output = byteArrayOutputStream.toString();
+
+		Assert.assertEquals(output, Integer.valueOf(0), exitCode);
+
+		daemonThread.join(TimeUnit.SECONDS.toMillis(30));
+
+		Assert.assertFalse(Files.exists(propertiesPath));
+
+		return output;
+	}
+
+}
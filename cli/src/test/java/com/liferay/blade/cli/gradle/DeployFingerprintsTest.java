@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import java.io.File;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Gregory Amerson
+ */
+public class DeployFingerprintsTest {
+
+	@Test
+	public void testGetChangedProjects() throws Exception {
+		File workspaceDir = temporaryFolder.newFolder("ws");
+
+		Path workspacePath = workspaceDir.toPath();
+
+		_write(workspacePath.resolve("settings.gradle"), "");
+		_write(workspacePath.resolve("gradle.properties"), "liferay.workspace.product=portal-7.4-ga1");
+		_write(workspacePath.resolve("modules/foo/bnd.bnd"), "Bundle-SymbolicName: foo");
+		_write(workspacePath.resolve("modules/foo/src/main/java/Foo.java"), "class Foo {}");
+		_write(workspacePath.resolve("modules/foo/build/libs/foo.jar"), "");
+		_write(workspacePath.resolve("modules/bar/build.gradle"), "");
+		_write(workspacePath.resolve("modules/bar/src/main/resources/content/Language.properties"), "");
+
+		List<File> projectDirs = DeployFingerprints.getProjectDirs(
+			workspaceDir, workspaceDir,
+			Arrays.asList(
+				workspaceDir, new File(workspaceDir, "modules"), new File(workspaceDir, "modules/bar"),
+				new File(workspaceDir, "modules/foo")));
+
+		Assert.assertEquals(projectDirs.toString(), 2, projectDirs.size());
+
+		DeployFingerprints deployFingerprints = new DeployFingerprints(workspaceDir);
+
+		Map<File, String> changedProjects = deployFingerprints.getChangedProjects(projectDirs);
+
+		Assert.assertEquals(changedProjects.toString(), 2, changedProjects.size());
+
+		for (Map.Entry<File, String> entry : changedProjects.entrySet()) {
+			deployFingerprints.update(entry.getKey(), entry.getValue());
+		}
+
+		deployFingerprints.write();
+
+		Assert.assertTrue(Files.exists(workspacePath.resolve(".blade/deploy-fingerprints.properties")));
+
+		deployFingerprints = new DeployFingerprints(workspaceDir);
+
+		changedProjects = deployFingerprints.getChangedProjects(projectDirs);
+
+		Assert.assertTrue(changedProjects.toString(), changedProjects.isEmpty());
+
+		_write(workspacePath.resolve("modules/foo/build/libs/foo.jar"), "changed");
+
+		changedProjects = deployFingerprints.getChangedProjects(projectDirs);
+
+		Assert.assertTrue(changedProjects.toString(), changedProjects.isEmpty());
+
+		_write(workspacePath.resolve("modules/foo/src/main/java/Foo.java"), "class Foo { }");
+
+		changedProjects = deployFingerprints.getChangedProjects(projectDirs);
+
+		File fooDir = new File(workspaceDir, "modules/foo");
+
+		Assert.assertEquals(changedProjects.toString(), 1, changedProjects.size());
+		Assert.assertTrue(changedProjects.containsKey(fooDir));
+
+		deployFingerprints.update(fooDir, changedProjects.get(fooDir));
+
+		deployFingerprints.write();
+
+		deployFingerprints = new DeployFingerprints(workspaceDir);
+
+		changedProjects = deployFingerprints.getChangedProjects(projectDirs);
+
+		Assert.assertTrue(changedProjects.toString(), changedProjects.isEmpty());
+
+		_write(workspacePath.resolve("gradle.properties"), "liferay.workspace.product=portal-7.4-ga100");
+
+		changedProjects = deployFingerprints.getChangedProjects(projectDirs);
+
+		Assert.assertEquals(changedProjects.toString(), 2, changedProjects.size());
+	}
+
+	@Test
+	public void testGetProjectDirs() throws Exception {
+		File workspaceDir = temporaryFolder.newFolder("ws");
+
+		Path workspacePath = workspaceDir.toPath();
+
+		_write(workspacePath.resolve("settings.gradle"), "");
+		_write(workspacePath.resolve("build.gradle"), "");
+		_write(workspacePath.resolve("buildSrc/build.gradle"), "");
+		_write(workspacePath.resolve("client-extensions/baz/client-extension.yaml"), "");
+		_write(workspacePath.resolve("modules/foo/bnd.bnd"), "Bundle-SymbolicName: foo");
+		_write(workspacePath.resolve("modules/foo/src/test/resources/fixtures/build.gradle"), "");
+		_write(workspacePath.resolve("modules/qux-impl/bnd.bnd"), "Bundle-SymbolicName: qux");
+		_write(workspacePath.resolve("themes/bar-theme/package.json"), "{}");
+
+		File bazDir = new File(workspaceDir, "client-extensions/baz");
+		File barThemeDir = new File(workspaceDir, "themes/bar-theme");
+		File fooDir = new File(workspaceDir, "modules/foo");
+		File quxDir = new File(workspaceDir, "modules/qux-impl");
+
+		List<File> modelProjectDirs = Arrays.asList(
+			workspaceDir, new File(workspaceDir, "client-extensions"), bazDir, new File(workspaceDir, "modules"),
+			fooDir, quxDir, new File(workspaceDir, "themes"), barThemeDir);
+
+		List<File> projectDirs = DeployFingerprints.getProjectDirs(workspaceDir, workspaceDir, modelProjectDirs);
+
+		Assert.assertEquals(
+			Arrays.asList(
+				bazDir.getCanonicalFile(), fooDir.getCanonicalFile(), quxDir.getCanonicalFile(),
+				barThemeDir.getCanonicalFile()),
+			projectDirs);
+
+		projectDirs = DeployFingerprints.getProjectDirs(
+			workspaceDir, new File(workspaceDir, "themes"), modelProjectDirs);
+
+		Assert.assertEquals(Collections.singletonList(barThemeDir.getCanonicalFile()), projectDirs);
+
+		DeployFingerprints deployFingerprints = new DeployFingerprints(workspaceDir);
+
+		Map<File, String> changedProjects = deployFingerprints.getChangedProjects(Collections.singleton(fooDir));
+
+		deployFingerprints.update(fooDir, changedProjects.get(fooDir));
+
+		_write(workspacePath.resolve("modules/foo/src/test/resources/fixtures/build.gradle"), "changed");
+
+		changedProjects = deployFingerprints.getChangedProjects(Collections.singleton(fooDir));
+
+		Assert.assertTrue(changedProjects.toString(), changedProjects.containsKey(fooDir));
+	}
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private void _write(Path path, String content) throws Exception {
+		Files.createDirectories(path.getParent());
+
+		Files.write(path, content.getBytes());
+	}
+
+}
\ No newline at end of file
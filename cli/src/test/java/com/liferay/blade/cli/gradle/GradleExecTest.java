@@ -18,15 +18,29 @@ package com.liferay.blade.cli.gradle;
 
 import com.liferay.blade.cli.BladeCLI;
 import com.liferay.blade.cli.BladeTest;
+import com.liferay.blade.cli.SystemPropertiesRule;
+import com.liferay.blade.cli.StringPrintStream;
 import com.liferay.blade.cli.TestUtil;
+import com.liferay.blade.cli.command.BaseArgs;
+import com.liferay.blade.cli.util.BladeUtil;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.PrintStream;
 
+import java.net.URI;
+
+import java.nio.file.Files;
 import java.nio.file.Path;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -48,6 +62,214 @@ public class GradleExecTest {
 		_extensionsPath = extensionsDir.toPath();
 	}
 
+	@Test
+	public void testExecuteTaskInMultipleProjects() throws Exception {
+		Assume.assumeFalse(BladeUtil.isWindows());
+
+		File workspaceDir = temporaryFolder.newFolder("workspace");
+
+		File fooDir = new File(workspaceDir, "modules/foo");
+		File barDir = new File(workspaceDir, "modules/bar");
+
+		Assert.assertTrue(fooDir.mkdirs());
+		Assert.assertTrue(barDir.mkdirs());
+
+		Path workspacePath = workspaceDir.toPath();
+
+		Files.write(workspacePath.resolve("settings.gradle"), new byte[0]);
+
+		_writeGradleWrapper(
+			workspacePath, "echo \"$@\"", "echo \"> Task :modules:foo:deploy\"",
+			"echo \"> Task :modules:bar:deploy FAILED\"",
+			"echo \"Execution failed for task ':modules:bar:deploy'.\" >&2", "exit 1");
+
+		systemPropertiesRule.setProperty("blade.gradle.executor", "fork");
+
+		GradleExec gradleExec = new GradleExec(_getBladeTest());
+
+		Map<File, ProcessResult> processResults = gradleExec.executeTask(
+			"deploy -x check", Arrays.asList(fooDir, barDir), true);
+
+		Assert.assertEquals(processResults.toString(), 2, processResults.size());
+
+		ProcessResult fooProcessResult = processResults.get(fooDir);
+
+		Assert.assertEquals(0, fooProcessResult.getResultCode());
+
+		ProcessResult barProcessResult = processResults.get(barDir);
+
+		Assert.assertEquals(1, barProcessResult.getResultCode());
+
+		_writeGradleWrapper(workspacePath, "echo \"$@\"");
+
+		processResults = gradleExec.executeTask("deploy -x check", Arrays.asList(fooDir, barDir), true);
+
+		fooProcessResult = processResults.get(fooDir);
+
+		Assert.assertEquals(0, fooProcessResult.getResultCode());
+
+		String output = fooProcessResult.getOutput();
+
+		Assert.assertTrue(
+			output,
+			output.contains(
+				"--continue :modules:foo:deploy :modules:bar:deploy -x :modules:foo:check -x :modules:bar:check"));
+
+		Assert.assertSame(fooProcessResult, processResults.get(barDir));
+	}
+
+	@Test
+	public void testExecuteTaskInMultipleProjectsWithFailedDependency() throws Exception {
+		Assume.assumeFalse(BladeUtil.isWindows());
+
+		File workspaceDir = temporaryFolder.newFolder("workspace");
+
+		File fooDir = new File(workspaceDir, "modules/foo");
+		File barDir = new File(workspaceDir, "modules/bar");
+		File bazDir = new File(workspaceDir, "modules/baz");
+
+		Assert.assertTrue(fooDir.mkdirs());
+		Assert.assertTrue(barDir.mkdirs());
+		Assert.assertTrue(bazDir.mkdirs());
+
+		Path workspacePath = workspaceDir.toPath();
+
+		Files.write(workspacePath.resolve("settings.gradle"), new byte[0]);
+
+		_writeGradleWrapper(
+			workspacePath, "echo \"> Task :modules:foo:jar FAILED\"", "echo \"> Task :modules:baz:jar\"",
+			"echo \"> Task :modules:baz:deploy\"", "echo \"Execution failed for task ':modules:foo:jar'.\" >&2",
+			"exit 1");
+
+		systemPropertiesRule.setProperty("blade.gradle.executor", "fork");
+
+		GradleExec gradleExec = new GradleExec(_getBladeTest());
+
+		Map<File, ProcessResult> processResults = gradleExec.executeTask(
+			"deploy", Arrays.asList(fooDir, barDir, bazDir), true);
+
+		Assert.assertEquals(processResults.toString(), 3, processResults.size());
+
+		ProcessResult fooProcessResult = processResults.get(fooDir);
+
+		Assert.assertEquals(1, fooProcessResult.getResultCode());
+
+		ProcessResult barProcessResult = processResults.get(barDir);
+
+		Assert.assertEquals(1, barProcessResult.getResultCode());
+
+		ProcessResult bazProcessResult = processResults.get(bazDir);
+
+		Assert.assertEquals(0, bazProcessResult.getResultCode());
+	}
+
+	@Test
+	public void testExecuteTaskInMultipleProjectsWithMissingTask() throws Exception {
+		Assume.assumeFalse(BladeUtil.isWindows());
+
+		File workspaceDir = temporaryFolder.newFolder("workspace");
+
+		File fooDir = new File(workspaceDir, "modules/foo");
+		File barDir = new File(workspaceDir, "modules/bar");
+
+		Assert.assertTrue(fooDir.mkdirs());
+		Assert.assertTrue(barDir.mkdirs());
+
+		Path workspacePath = workspaceDir.toPath();
+
+		Files.write(workspacePath.resolve("settings.gradle"), new byte[0]);
+
+		_writeGradleWrapper(
+			workspacePath, "if [ \"$1\" = \"--continue\" ]; then",
+			"  echo \"Task 'deploy' not found in project ':modules:bar'.\" >&2", "  exit 1", "fi",
+			"if [ \"$(basename \"$PWD\")\" = \"bar\" ]; then",
+			"  echo \"Task 'deploy' not found in root project 'bar'.\" >&2", "  exit 1", "fi", "echo \"$@\"");
+
+		systemPropertiesRule.setProperty("blade.gradle.executor", "fork");
+
+		GradleExec gradleExec = new GradleExec(_getBladeTest());
+
+		Map<File, ProcessResult> processResults = gradleExec.executeTask("deploy", Arrays.asList(fooDir, barDir), true);
+
+		Assert.assertEquals(processResults.toString(), 2, processResults.size());
+
+		ProcessResult fooProcessResult = processResults.get(fooDir);
+
+		Assert.assertEquals(0, fooProcessResult.getResultCode());
+
+		String output = fooProcessResult.getOutput();
+
+		Assert.assertEquals("deploy", output.trim());
+
+		ProcessResult barProcessResult = processResults.get(barDir);
+
+		Assert.assertEquals(1, barProcessResult.getResultCode());
+
+		String error = barProcessResult.getError();
+
+		Assert.assertTrue(error, error.contains("Task 'deploy' not found in root project 'bar'."));
+	}
+
+	@Test
+	public void testExecutorAutoWithoutWrapper() throws Exception {
+		Assume.assumeFalse(BladeUtil.isWindows());
+
+		Path workspacePath = _createWorkspace();
+
+		File projectDir = temporaryFolder.newFolder("project");
+
+		systemPropertiesRule.setProperty("blade.gradle.executor", "auto");
+
+		StringPrintStream error = StringPrintStream.newInstance();
+
+		BladeTest bladeTest = _getBladeTest(error);
+
+		BaseArgs baseArgs = bladeTest.getArgs();
+
+		baseArgs.setBase(workspacePath.toFile());
+
+		GradleExec gradleExec = new GradleExec(bladeTest);
+
+		ProcessResult processResult = gradleExec.executeTask("tasks", projectDir);
+
+		String output = processResult.getOutput();
+
+		Assert.assertEquals("tasks", output.trim());
+
+		Assert.assertEquals("", error.get());
+	}
+
+	@Test
+	public void testExecutorAutoWithWrapper() throws Exception {
+		_assertToolingFallback("auto");
+	}
+
+	@Test
+	public void testExecutorFork() throws Exception {
+		Assume.assumeFalse(BladeUtil.isWindows());
+
+		Path workspacePath = _createWorkspace();
+
+		systemPropertiesRule.setProperty("blade.gradle.executor", "fork");
+
+		StringPrintStream error = StringPrintStream.newInstance();
+
+		GradleExec gradleExec = new GradleExec(_getBladeTest(error));
+
+		ProcessResult processResult = gradleExec.executeTask("tasks", workspacePath.toFile());
+
+		String output = processResult.getOutput();
+
+		Assert.assertEquals("tasks", output.trim());
+
+		Assert.assertEquals("", error.get());
+	}
+
+	@Test
+	public void testExecutorTooling() throws Exception {
+		_assertToolingFallback("tooling");
+	}
+
 	@Test
 	public void testGradleWrapper() throws Exception {
 		File workspace70 = new File(_rootPath.toFile(), "workspace70");
@@ -88,15 +310,81 @@ public class GradleExecTest {
 		}
 	}
 
+	@Rule
+	public final SystemPropertiesRule systemPropertiesRule = new SystemPropertiesRule();
+
 	@Rule
 	public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
+	private void _assertToolingFallback(String gradleExecutor) throws Exception {
+		Assume.assumeFalse(BladeUtil.isWindows());
+		Assume.assumeTrue(GradleTooling.isAvailable());
+
+		Path workspacePath = _createWorkspace();
+
+		systemPropertiesRule.setProperty("blade.gradle.executor", gradleExecutor);
+
+		StringPrintStream error = StringPrintStream.newInstance();
+
+		GradleExec gradleExec = new GradleExec(_getBladeTest(error));
+
+		ProcessResult processResult = gradleExec.executeTask("tasks", workspacePath.toFile());
+
+		String output = processResult.getOutput();
+
+		Assert.assertEquals("tasks", output.trim());
+
+		String errors = error.get();
+
+		Assert.assertTrue(errors, errors.contains("Could not run Gradle with the Tooling API"));
+
+		processResult = gradleExec.executeTask("jar", workspacePath.toFile());
+
+		output = processResult.getOutput();
+
+		Assert.assertEquals("jar", output.trim());
+
+		Assert.assertEquals(errors, error.get());
+	}
+
+	private Path _createWorkspace() throws Exception {
+		File workspaceDir = temporaryFolder.newFolder("workspace");
+
+		Path workspacePath = workspaceDir.toPath();
+
+		Files.write(workspacePath.resolve("settings.gradle"), new byte[0]);
+
+		Path wrapperPropertiesPath = workspacePath.resolve("gradle/wrapper/gradle-wrapper.properties");
+
+		Files.createDirectories(wrapperPropertiesPath.getParent());
+
+		File missingDistributionFile = new File(temporaryFolder.getRoot(), "missing/gradle-bin.zip");
+
+		URI missingDistributionURI = missingDistributionFile.toURI();
+
+		Files.write(
+			wrapperPropertiesPath,
+			Collections.singletonList("distributionUrl=" + missingDistributionURI.toASCIIString()));
+
+		_writeGradleWrapper(workspacePath, "echo \"$@\"");
+
+		return workspacePath;
+	}
+
 	private BladeTest _getBladeTest() {
+		return _getBladeTest(null);
+	}
+
+	private BladeTest _getBladeTest(PrintStream error) {
 		BladeTest.BladeTestBuilder bladeTestBuilder = BladeTest.builder();
 
 		bladeTestBuilder.setExtensionsDir(_extensionsPath);
 		bladeTestBuilder.setSettingsDir(_rootPath);
 
+		if (error != null) {
+			bladeTestBuilder.setStdError(error);
+		}
+
 		return bladeTestBuilder.build();
 	}
 
@@ -108,6 +396,22 @@ public class GradleExecTest {
 		TestUtil.runBlade(workspace, _extensionsPath.toFile(), args);
 	}
 
+	private void _writeGradleWrapper(Path workspacePath, String... lines) throws Exception {
+		Path gradlewPath = workspacePath.resolve("gradlew");
+
+		List<String> script = new ArrayList<>();
+
+		script.add("#!/bin/sh");
+
+		Collections.addAll(script, lines);
+
+		Files.write(gradlewPath, script);
+
+		File gradlewFile = gradlewPath.toFile();
+
+		Assert.assertTrue(gradlewFile.setExecutable(true));
+	}
+
 	private Path _extensionsPath = null;
 	private Path _rootPath = null;
 
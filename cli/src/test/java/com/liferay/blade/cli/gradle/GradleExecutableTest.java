@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import com.liferay.blade.cli.SystemPropertiesRule;
+import com.liferay.blade.cli.util.BladeUtil;
+
+import java.io.File;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Gregory Amerson
+ */
+public class GradleExecutableTest {
+
+	@Before
+	public void setUp() throws Exception {
+		File userHomeDir = temporaryFolder.newFolder("home");
+
+		systemPropertiesRule.setProperty("user.home", userHomeDir.getPath());
+	}
+
+	@Test
+	public void testGetWrapper() throws Exception {
+		File workspaceDir = temporaryFolder.newFolder("ws");
+
+		File moduleDir = new File(workspaceDir, "modules/foo");
+
+		Assert.assertNull(GradleExecutable.getWrapper(moduleDir));
+
+		Assert.assertTrue(moduleDir.mkdirs());
+
+		Path workspacePath = workspaceDir.toPath();
+
+		Path gradlewPath = workspacePath.resolve("gradlew");
+		Path gradlewBatPath = workspacePath.resolve("gradlew.bat");
+
+		Files.write(gradlewPath, "#!/bin/sh".getBytes());
+		Files.write(gradlewBatPath, new byte[0]);
+
+		GradleExecutable gradleExecutable = GradleExecutable.getWrapper(moduleDir);
+
+		Assert.assertNotNull(gradleExecutable);
+
+		File executableFile = new File(gradleExecutable.getPath());
+
+		Assert.assertEquals(workspaceDir.getCanonicalFile(), executableFile.getParentFile());
+
+		Assert.assertSame(gradleExecutable, GradleExecutable.getWrapper(moduleDir));
+
+		File gradlewFile = gradlewPath.toFile();
+
+		Assert.assertTrue(gradlewFile.setLastModified(1000));
+
+		GradleExecutable changedGradleExecutable = GradleExecutable.getWrapper(moduleDir);
+
+		Assert.assertNotSame(gradleExecutable, changedGradleExecutable);
+		Assert.assertEquals(gradleExecutable.getPath(), changedGradleExecutable.getPath());
+
+		Path bladeCachePath = BladeUtil.getBladeCachePath();
+
+		Assert.assertTrue(Files.notExists(bladeCachePath.resolve("gradle-executable")));
+
+		Files.delete(gradlewPath);
+		Files.delete(gradlewBatPath);
+
+		Assert.assertNull(GradleExecutable.getWrapper(moduleDir));
+	}
+
+	@Rule
+	public final SystemPropertiesRule systemPropertiesRule = new SystemPropertiesRule();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import com.liferay.blade.cli.SystemPropertiesRule;
+import com.liferay.blade.gradle.tooling.DefaultModel;
+import com.liferay.blade.gradle.tooling.ProjectInfo;
+
+import java.io.File;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Gregory Amerson
+ */
+public class ProjectInfoCacheTest {
+
+	@Before
+	public void setUp() throws Exception {
+		File userHomeDir = temporaryFolder.newFolder("home");
+
+		systemPropertiesRule.setProperty("user.home", userHomeDir.getPath());
+	}
+
+	@Test
+	public void testFingerprint() throws Exception {
+		File projectDir = temporaryFolder.newFolder("ws");
+
+		Path projectPath = projectDir.toPath();
+
+		Path buildGradlePath = projectPath.resolve("modules/foo/build.gradle");
+
+		Files.createDirectories(buildGradlePath.getParent());
+
+		Files.write(buildGradlePath, "apply plugin: \"java\"".getBytes());
+		Files.write(projectPath.resolve("settings.gradle"), new byte[0]);
+
+		ProjectInfoCache projectInfoCache = new ProjectInfoCache(projectPath);
+
+		String fingerprint = projectInfoCache.getFingerprint();
+
+		Files.write(projectPath.resolve("modules/foo/Foo.java"), "class Foo {}".getBytes());
+
+		Path buildPath = projectPath.resolve("modules/foo/build/build.gradle");
+
+		Files.createDirectories(buildPath.getParent());
+
+		Files.write(buildPath, new byte[0]);
+
+		Assert.assertEquals(fingerprint, projectInfoCache.getFingerprint());
+
+		Files.write(buildGradlePath, "apply plugin: \"java-library\"".getBytes());
+
+		Assert.assertNotEquals(fingerprint, projectInfoCache.getFingerprint());
+
+		fingerprint = projectInfoCache.getFingerprint();
+
+		Files.write(projectPath.resolve("modules/foo/bnd.bnd"), new byte[0]);
+
+		Assert.assertNotEquals(fingerprint, projectInfoCache.getFingerprint());
+
+		fingerprint = projectInfoCache.getFingerprint();
+
+		FileTime lastModifiedTime = Files.getLastModifiedTime(buildGradlePath);
+
+		Files.setLastModifiedTime(buildGradlePath, FileTime.fromMillis(lastModifiedTime.toMillis() + 1000));
+
+		Assert.assertNotEquals(fingerprint, projectInfoCache.getFingerprint());
+	}
+
+	@Test
+	public void testFingerprintIncludesSettingsRoot() throws Exception {
+		File workspaceDir = temporaryFolder.newFolder("ws");
+
+		Path workspacePath = workspaceDir.toPath();
+
+		Path projectPath = workspacePath.resolve("modules/foo");
+
+		Files.createDirectories(projectPath);
+
+		Files.write(projectPath.resolve("build.gradle"), "apply plugin: \"java\"".getBytes());
+		Files.write(workspacePath.resolve("settings.gradle"), new byte[0]);
+
+		ProjectInfoCache projectInfoCache = new ProjectInfoCache(projectPath);
+
+		String fingerprint = projectInfoCache.getFingerprint();
+
+		Files.write(workspacePath.resolve("gradle-local.properties"), "liferay.workspace.home.dir=bundles".getBytes());
+
+		Assert.assertNotEquals(fingerprint, projectInfoCache.getFingerprint());
+
+		fingerprint = projectInfoCache.getFingerprint();
+
+		Files.write(workspacePath.resolve("settings.gradle"), "include \"foo\"".getBytes());
+
+		Assert.assertNotEquals(fingerprint, projectInfoCache.getFingerprint());
+
+		fingerprint = projectInfoCache.getFingerprint();
+
+		Files.write(workspacePath.resolve("modules/bar.txt"), new byte[0]);
+
+		Assert.assertEquals(fingerprint, projectInfoCache.getFingerprint());
+	}
+
+	@Test
+	public void testReadWrite() throws Exception {
+		File projectDir = temporaryFolder.newFolder("ws");
+
+		ProjectInfoCache projectInfoCache = new ProjectInfoCache(projectDir.toPath());
+
+		Assert.assertNull(projectInfoCache.read("fingerprint"));
+
+		File fooDir = new File(projectDir, "modules/foo-impl");
+
+		File outputFile = new File(fooDir, "build/libs/foo.jar");
+
+		ProjectInfo projectInfo = new DefaultModel(
+			Collections.singleton("com.liferay.gradle.plugins.LiferayOSGiPlugin"),
+			Collections.singletonMap(":modules:foo", fooDir),
+			Collections.singletonMap(":modules:foo", Collections.singleton(outputFile)), "/deploy", "/home", null,
+			null, null);
+
+		projectInfoCache.write("fingerprint", projectInfo);
+
+		Assert.assertNull(projectInfoCache.read("other"));
+
+		ProjectInfo cachedProjectInfo = projectInfoCache.read("fingerprint");
+
+		Assert.assertNotNull(cachedProjectInfo);
+		Assert.assertEquals("/deploy", cachedProjectInfo.getDeployDir());
+		Assert.assertNull(cachedProjectInfo.getDockerContainerId());
+		Assert.assertEquals("/home", cachedProjectInfo.getLiferayHome());
+		Assert.assertTrue(cachedProjectInfo.isLiferayProject());
+
+		Assert.assertEquals(Collections.singletonMap(":modules:foo", fooDir), cachedProjectInfo.getProjectDirs());
+
+		Map<String, Set<File>> projectOutputFiles = cachedProjectInfo.getProjectOutputFiles();
+
+		Assert.assertEquals(Collections.singleton(outputFile), projectOutputFiles.get(":modules:foo"));
+	}
+
+	@Rule
+	public final SystemPropertiesRule systemPropertiesRule = new SystemPropertiesRule();
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.gradle;
+
+import com.liferay.blade.cli.StringPrintStream;
+
+import java.io.File;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Gregory Amerson
+ */
+public class TaskTimingsTest {
+
+	@Test
+	public void testPlainConsoleParser() throws Exception {
+		TaskTimings taskTimings = new TaskTimings();
+
+		PlainConsoleParser plainConsoleParser = new PlainConsoleParser(taskTimings);
+
+		plainConsoleParser.accept("> Configure project :modules:foo");
+		plainConsoleParser.accept("> Task :modules:foo:compileJava");
+		plainConsoleParser.accept("warning: [options] bootstrap class path not set");
+		plainConsoleParser.accept("> Task :modules:foo:jar UP-TO-DATE");
+		plainConsoleParser.accept("> Task :modules:bar:deploy FAILED");
+		plainConsoleParser.accept("BUILD FAILED in 2s");
+
+		JSONObject jsonObject = taskTimings.toJSONObject();
+
+		JSONArray tasksJSONArray = jsonObject.getJSONArray("tasks");
+
+		Assert.assertEquals(3, tasksJSONArray.length());
+		Assert.assertEquals(0, jsonObject.getInt("fromCache"));
+		Assert.assertEquals(1, jsonObject.getInt("upToDate"));
+
+		JSONArray projectsJSONArray = jsonObject.getJSONArray("projects");
+
+		Assert.assertEquals(2, projectsJSONArray.length());
+	}
+
+	@Test
+	public void testTaskTimings() throws Exception {
+		TaskTimings taskTimings = new TaskTimings();
+
+		long startTime = System.currentTimeMillis();
+
+		taskTimings.taskFinished(":modules:foo:compileJSP", startTime + 1000, startTime + 4000, "SUCCESS");
+		taskTimings.taskFinished(":modules:foo:jar", startTime + 4000, startTime + 4500, "FROM-CACHE");
+		taskTimings.taskFinished(":modules:bar:compileJSP", startTime + 1000, startTime + 3000, "SUCCESS");
+		taskTimings.taskFinished(":modules:bar:jar", startTime + 3000, startTime + 3100, "UP-TO-DATE");
+
+		StringPrintStream stringPrintStream = StringPrintStream.newInstance();
+
+		taskTimings.print(stringPrintStream);
+
+		String output = stringPrintStream.get();
+
+		Assert.assertTrue(output, output.contains("4 tasks, 1 up-to-date, 1 from cache"));
+
+		int compileJSPIndex = output.indexOf(":modules:foo:compileJSP");
+
+		Assert.assertTrue(output, compileJSPIndex > 0);
+		Assert.assertTrue(output, compileJSPIndex < output.indexOf(":modules:bar:compileJSP"));
+		Assert.assertTrue(output, output.contains("5.0s  compileJSP  2 tasks, 0 up-to-date, 0 from cache"));
+		Assert.assertTrue(output, output.contains("3.5s  :modules:foo  2 tasks, 0 up-to-date, 1 from cache"));
+
+		File timingsFile = new File(temporaryFolder.getRoot(), "timings/timings.json");
+
+		Path timingsPath = timingsFile.toPath();
+
+		taskTimings.write(timingsPath);
+
+		JSONObject jsonObject = new JSONObject(new String(Files.readAllBytes(timingsPath), "UTF-8"));
+
+		JSONArray tasksJSONArray = jsonObject.getJSONArray("tasks");
+
+		JSONObject taskJSONObject = tasksJSONArray.getJSONObject(0);
+
+		Assert.assertEquals(":modules:foo:compileJSP", taskJSONObject.getString("path"));
+		Assert.assertEquals(":modules:foo", taskJSONObject.getString("project"));
+		Assert.assertEquals(3000, taskJSONObject.getLong("duration"));
+
+		Assert.assertEquals(1, jsonObject.getInt("fromCache"));
+		Assert.assertEquals(1, jsonObject.getInt("upToDate"));
+
+		taskTimings.clear();
+
+		stringPrintStream = StringPrintStream.newInstance();
+
+		taskTimings.print(stringPrintStream);
+
+		Assert.assertEquals("No Gradle tasks were executed." + System.lineSeparator(), stringPrintStream.get());
+	}
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+}
@@ -21,6 +21,8 @@ import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import java.util.Properties;
+
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -98,6 +100,48 @@ public class WorkspaceProvideGradleTest {
 		Assert.assertTrue(workspaceProviderGradle.isWorkspace(workspace.toFile()));
 	}
 
+	@Test
+	public void testWorkspaceDescriptorInvalidation() throws Exception {
+		File root = temporaryFolder.getRoot();
+
+		Path workspace = root.toPath();
+
+		workspace = workspace.resolve("workspace");
+
+		Path modules = workspace.resolve("modules");
+
+		Files.createDirectories(modules);
+
+		Path settingsFile = workspace.resolve("settings.gradle");
+
+		Files.write(settingsFile, "rootProject.name = 'workspace'".getBytes());
+
+		Path gradlePropertiesFile = workspace.resolve("gradle.properties");
+
+		Files.write(gradlePropertiesFile, "liferay.workspace.product=portal-7.4-ga1".getBytes());
+
+		GradleWorkspaceProvider workspaceProviderGradle = new GradleWorkspaceProvider();
+
+		Assert.assertFalse(workspaceProviderGradle.isWorkspace(modules.toFile()));
+		Assert.assertEquals("portal", workspaceProviderGradle.getProduct(modules.toFile()));
+
+		Files.write(settingsFile, "apply plugin: \"com.liferay.workspace\"".getBytes());
+
+		Files.write(gradlePropertiesFile, "liferay.workspace.product=dxp-7.4-u1".getBytes());
+
+		Assert.assertTrue(workspaceProviderGradle.isWorkspace(modules.toFile()));
+		Assert.assertTrue(workspaceProviderGradle.isWorkspace(workspace.toFile()));
+		Assert.assertEquals("dxp", workspaceProviderGradle.getProduct(modules.toFile()));
+
+		Properties gradleProperties = workspaceProviderGradle.getGradleProperties(modules.toFile());
+
+		gradleProperties.setProperty("liferay.workspace.product", "portal-7.4-ga1");
+
+		gradleProperties = workspaceProviderGradle.getGradleProperties(workspace.toFile());
+
+		Assert.assertEquals("dxp-7.4-u1", gradleProperties.getProperty("liferay.workspace.product"));
+	}
+
 	@Rule
 	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
 
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.liferay.blade.cli.util;
+
+import java.io.File;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Gregory Amerson
+ */
+public class ResourceCacheTest {
+
+	@Test
+	public void testRemoveStaleDirectories() throws Exception {
+		File cacheDir = temporaryFolder.newFolder("cache");
+
+		ResourceCache resourceCache = new ResourceCache(cacheDir.toPath());
+
+		Path fooPath = resourceCache.get("resources", "foo", path -> Files.write(path.resolve("foo.txt"), new byte[0]));
+
+		Path stalePath = fooPath.resolveSibling("stale");
+
+		Files.createDirectories(stalePath);
+
+		Instant now = Instant.now();
+
+		FileTime lastModifiedTime = FileTime.from(now.minus(2, ChronoUnit.DAYS));
+
+		Files.setLastModifiedTime(fooPath, lastModifiedTime);
+		Files.setLastModifiedTime(stalePath, lastModifiedTime);
+
+		Path barPath = resourceCache.get("resources", "bar", path -> Files.write(path.resolve("bar.txt"), new byte[0]));
+
+		Assert.assertTrue(Files.exists(barPath.resolve("bar.txt")));
+		Assert.assertTrue(Files.exists(fooPath.resolve("foo.txt")));
+		Assert.assertFalse(Files.exists(stalePath));
+	}
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+}
@@ -16,9 +16,12 @@
 
 package com.liferay.blade.extensions.maven.profile.internal;
 
+import com.liferay.blade.cli.BladeCLI;
+
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.InputStreamReader;
+import java.io.PrintStream;
 
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -72,6 +75,9 @@ public interface MavenExecutor {
 
 		StringBuilder output = new StringBuilder();
 
+		PrintStream out = BladeCLI.currentOut();
+		PrintStream error = BladeCLI.currentError();
+
 		String command = null;
 
 		try {
@@ -100,12 +106,12 @@ public interface MavenExecutor {
 								}
 
 								if (printOutput) {
-									System.out.println(line);
+									out.println(line);
 								}
 							}
 						}
 						catch (Exception exception) {
-							exception.printStackTrace(System.err);
+							exception.printStackTrace(error);
 						}
 						finally {
 							latch.countDown();
@@ -122,12 +128,12 @@ public interface MavenExecutor {
 								output.append(System.lineSeparator());
 
 								if (printOutput) {
-									System.err.println(line);
+									error.println(line);
 								}
 							}
 						}
 						catch (Exception exception) {
-							exception.printStackTrace(System.err);
+							exception.printStackTrace(error);
 						}
 						finally {
 							latch.countDown();
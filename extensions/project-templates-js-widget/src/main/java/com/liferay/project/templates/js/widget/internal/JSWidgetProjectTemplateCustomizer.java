@@ -28,14 +28,13 @@ import java.io.InputStream;
 
 import java.nio.file.Files;
 
+import java.util.Objects;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 import org.apache.maven.archetype.ArchetypeGenerationRequest;
 import org.apache.maven.archetype.ArchetypeGenerationResult;
 
-import org.gradle.internal.impldep.com.google.common.base.Objects;
-
 import org.json.JSONObject;
 
 /**
@@ -97,7 +96,7 @@ public class JSWidgetProjectTemplateCustomizer implements ProjectTemplateCustomi
 
 					JSONObject packageJSONObject = new JSONObject(config);
 
-					if (!Objects.equal(
+					if (!Objects.equals(
 							jsWidgetTemplateExt.getProjectType(), Constants.DEFAULT_POSSIBLE_PROJECT_TYPE_VALUES[3])) {
 
 						packageJSONObject.remove("addLocalizationSupport");
@@ -105,11 +104,11 @@ public class JSWidgetProjectTemplateCustomizer implements ProjectTemplateCustomi
 						packageJSONObject.remove("createInitializer");
 					}
 
-					if (!Objects.equal(jsWidgetTemplateExt.getTarget(), Constants.DEFAULT_POSSIBLE_TARGET_VALUES[0])) {
+					if (!Objects.equals(jsWidgetTemplateExt.getTarget(), Constants.DEFAULT_POSSIBLE_TARGET_VALUES[0])) {
 						packageJSONObject.remove("category");
 					}
 
-					if (!Objects.equal(jsWidgetTemplateExt.getTarget(), Constants.DEFAULT_POSSIBLE_TARGET_VALUES[1])) {
+					if (!Objects.equals(jsWidgetTemplateExt.getTarget(), Constants.DEFAULT_POSSIBLE_TARGET_VALUES[1])) {
 						packageJSONObject.remove("customElementName");
 						packageJSONObject.remove("useShadowDOM");
 					}
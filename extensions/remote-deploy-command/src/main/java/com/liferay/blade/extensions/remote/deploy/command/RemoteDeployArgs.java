@@ -19,7 +19,7 @@ package com.liferay.blade.extensions.remote.deploy.command;
 import com.beust.jcommander.Parameter;
 import com.beust.jcommander.Parameters;
 
-import com.liferay.blade.cli.command.BaseArgs;
+import com.liferay.blade.cli.command.TaskTimingsArgs;
 
 /**
  * @author Gregory Amerson
@@ -28,12 +28,22 @@ import com.liferay.blade.cli.command.BaseArgs;
 	commandDescription = "Builds and deploys bundles to the Liferay module framework with gogo shell.",
 	commandNames = {"rdeploy", "remote-deploy"}
 )
-public class RemoteDeployArgs extends BaseArgs {
+public class RemoteDeployArgs extends TaskTimingsArgs {
+
+	public boolean isRefreshModel() {
+		return _refreshModel;
+	}
 
 	public boolean isWatch() {
 		return _watch;
 	}
 
+	@Parameter(
+		description = "Configure the Gradle build again instead of using the cached project model.",
+		names = "--refresh-model"
+	)
+	private boolean _refreshModel;
+
 	@Parameter(
 		description = "Watches the deployed file for changes and will automatically redeploy", names = {"-w", "--watch"}
 	)
@@ -26,6 +26,7 @@ import com.liferay.blade.cli.command.BaseCommand;
 import com.liferay.blade.cli.gradle.GradleExec;
 import com.liferay.blade.cli.gradle.GradleTooling;
 import com.liferay.blade.cli.gradle.ProcessResult;
+import com.liferay.blade.cli.gradle.TaskTimings;
 import com.liferay.blade.cli.util.BladeUtil;
 import com.liferay.blade.cli.util.FileWatcher;
 import com.liferay.blade.gradle.tooling.ProjectInfo;
@@ -92,7 +93,7 @@ public class RemoteDeployCommand extends BaseCommand<RemoteDeployArgs> {
 			return;
 		}
 
-		ProjectInfo projectInfo = GradleTooling.loadProjectInfo(baseDir.toPath());
+		ProjectInfo projectInfo = GradleTooling.loadProjectInfo(baseDir.toPath(), deployArgs.isRefreshModel());
 
 		Map<String, Set<File>> projectOutputFiles = projectInfo.getProjectOutputFiles();
 
@@ -120,7 +121,24 @@ public class RemoteDeployCommand extends BaseCommand<RemoteDeployArgs> {
 	private void _deploy(GradleExec gradle, Map<String, Set<File>> projectOutputFiles, String host, int port)
 		throws Exception {
 
-		ProcessResult processResult = gradle.executeTask("assemble -x check");
+		RemoteDeployArgs deployArgs = getArgs();
+
+		TaskTimings taskTimings = TaskTimings.create(deployArgs);
+
+		gradle.setTaskProgressListener(taskTimings);
+
+		ProcessResult processResult = null;
+
+		try {
+			processResult = gradle.executeTask("assemble -x check");
+		}
+		finally {
+			gradle.setTaskProgressListener(null);
+
+			if (taskTimings != null) {
+				taskTimings.report(getBladeCLI(), deployArgs);
+			}
+		}
 
 		int resultCode = processResult.getResultCode();
 
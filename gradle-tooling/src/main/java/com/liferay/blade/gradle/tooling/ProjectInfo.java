@@ -39,6 +39,8 @@ public interface ProjectInfo {
 
 	public Set<String> getPluginClassNames();
 
+	public Map<String, File> getProjectDirs();
+
 	public Map<String, Set<File>> getProjectOutputFiles();
 
 	public boolean isLiferayProject();
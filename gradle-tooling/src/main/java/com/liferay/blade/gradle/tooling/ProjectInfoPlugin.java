@@ -84,6 +84,7 @@ public class ProjectInfoPlugin implements Plugin<Project> {
 			tasks.addAll(buildTasks);
 			tasks.addAll(jarTasks);
 
+			Map<String, File> projectDirs = new HashMap<>();
 			Map<String, Set<File>> projectOutputFiles = new HashMap<>();
 
 			for (Task task : tasks) {
@@ -91,6 +92,8 @@ public class ProjectInfoPlugin implements Plugin<Project> {
 
 				String projectPath = taskProject.getPath();
 
+				projectDirs.put(projectPath, taskProject.getProjectDir());
+
 				TaskOutputs outputs = task.getOutputs();
 
 				FileCollection fileCollection = outputs.getFiles();
@@ -126,13 +129,15 @@ public class ProjectInfoPlugin implements Plugin<Project> {
 				Set<File> outputFiles = projectOutputFiles.computeIfAbsent(project.getPath(), p -> new HashSet<>());
 
 				outputFiles.addAll(files);
+
+				projectDirs.put(project.getPath(), project.getProjectDir());
 			}
 			catch (Exception exception) {
 			}
 
 			return new DefaultModel(
-				pluginClassNames, projectOutputFiles, deployDir, liferayHome, dockerImageLiferay, dockerImageId,
-				dockerContainerId);
+				pluginClassNames, projectDirs, projectOutputFiles, deployDir, liferayHome, dockerImageLiferay,
+				dockerImageId, dockerContainerId);
 		}
 
 		@Override